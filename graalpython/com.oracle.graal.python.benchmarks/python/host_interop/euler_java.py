@@ -40,9 +40,13 @@
 #pythran export solve()
 # 12/31/13 modified for benchmarking by Wei Zhang
 
+import java
 from java.util import ArrayList
 
+IntArray = java.type("int[]")
+
 NUMS = ArrayList()
+NUMS_ARRAYS = []
 
 for pyline in [
         [ 8, 2,22,97,38,15, 0,40, 0,75, 4, 5, 7,78,52,12,50,77,91, 8,],
@@ -67,9 +71,12 @@ for pyline in [
         [ 1,70,54,71,83,51,54,69,16,92,33,48,61,43,52, 1,89,19,67,48,],
 ]:
     jline = ArrayList()
-    for n in pyline:
+    jarray = IntArray(len(pyline))
+    for i, n in enumerate(pyline):
         jline.add(n)
+        jarray[i] = n
     NUMS.add(jline)
+    NUMS_ARRAYS.append(jarray)
 
 
 def seqs(nums, row, col):
@@ -79,6 +86,12 @@ def seqs(nums, row, col):
     if row + 4 <= len(nums) and col >= 3:                   yield list(nums[row+i][col-i] for i in range(0,4))
 
 
+def row_seqs(nums, row, col):
+    # horizontal runs are taken as slices of the Java int[] rows
+    if col + 4 <= len(nums[row]):                           yield nums[row][col:col+4]
+    if row + 4 <= len(nums):                                yield list(nums[i][col] for i in range(row, row+4))
+
+
 def product(seq):
     n = 1
     for x in seq:
@@ -93,10 +106,23 @@ def list_seqs(nums):
                 yield seq
 
 
+def list_row_seqs(nums):
+    for row in range(0, len(nums)):
+        for col in range(0, len(nums[row])):
+            for seq in row_seqs(nums, row, col):
+                yield seq
+
+
 def solve():
     return _max(product(seq) for seq in list_seqs(NUMS))
 
 
+def solve_arrays():
+    best = _max(product(seq) for seq in list_row_seqs(NUMS_ARRAYS))
+    total = sum(sum(list(row)) for row in NUMS_ARRAYS)
+    return best, total
+
+
 # test
 def _max(iterator):
     max = None
@@ -111,6 +137,7 @@ def _max(iterator):
 def main(iteration):
     for i in range(iteration):
         solve()
+        solve_arrays()
 
     return solve()
 
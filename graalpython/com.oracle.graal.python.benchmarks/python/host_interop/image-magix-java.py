@@ -20,6 +20,7 @@
 # SOFTWARE.
 
 JAVA_CODE = """
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -57,6 +58,22 @@ public class Image {
         data.set(_idx(x, y), val);
     }
 
+    public int[] pixels() {
+        int[] result = new int[width * height];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = data.get(i);
+        }
+        return result;
+    }
+
+    public ByteBuffer bytes() {
+        ByteBuffer result = ByteBuffer.allocate(width * height);
+        for (int i = 0; i < width * height; i++) {
+            result.put(i, (byte) (int) data.get(i));
+        }
+        return result;
+    }
+
     public Image sobel(boolean horizontal, boolean vertical) {
         Image out = new Image(width, height, null);
         for (int y = 1; y < height - 1; y++) {
@@ -102,10 +119,19 @@ def __setup__(*args):
 SZ = 20
 
 
+def checksum(img):
+    # reads the Java pixel array and byte buffer from Python in bulk
+    pixels = img.pixels()
+    inner = pixels[SZ:-SZ]
+    view = memoryview(img.bytes())
+    return sum(list(pixels)) + len(inner) + view[SZ]
+
+
 def measure(num):
     img = Image(SZ, SZ, list(range(SZ * SZ)))
     for i in range(num):
         img = img.sobel(True, True)
+        checksum(img)
     return img
 
 
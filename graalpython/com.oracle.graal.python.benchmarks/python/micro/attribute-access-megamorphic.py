@@ -0,0 +1,83 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+# Lookups of inherited methods and class attributes at sites that see more
+# classes than the inline caches can hold, like generic framework code does.
+
+
+class Model:
+    table = 'models'
+
+    def pk(self):
+        return 1
+
+    def fields(self):
+        return 2
+
+
+class Mixin:
+    def describe(self):
+        return 3
+
+
+CLASSES = []
+for i in range(64):
+    base = Model if i % 2 == 0 else type('Mixed%d' % i, (Mixin, Model), {})
+    CLASSES.append(type('Model%d' % i, (base,), {'index': i}))
+OBJECTS = [cls() for cls in CLASSES]
+
+
+def do_stuff():
+    total = 0
+    for obj in OBJECTS:
+        total += obj.pk() + obj.fields() + obj.index
+        total += len(type(obj).table)
+        if hasattr(obj, 'describe'):
+            total += obj.describe()
+    return total
+
+
+def measure(num):
+    result = 0
+    for i in range(num):
+        result += do_stuff()
+    return result
+
+
+def __benchmark__(num=10000):
+    return measure(num)
@@ -0,0 +1,115 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+code = """
+#include "Python.h"
+
+/* Reads all bytes of the buffer and returns their sum. */
+static PyObject* buffer_checksum(PyObject* self, PyObject* arg) {
+    Py_buffer view;
+    if (PyObject_GetBuffer(arg, &view, PyBUF_SIMPLE) < 0) {
+        return NULL;
+    }
+    const unsigned char* data = (const unsigned char*) view.buf;
+    unsigned long sum = 0;
+    Py_ssize_t i;
+    for (i = 0; i < view.len; i++) {
+        sum += data[i];
+    }
+    PyBuffer_Release(&view);
+    return PyLong_FromUnsignedLong(sum);
+}
+
+/* Overwrites every byte of the buffer with its index modulo 256. */
+static PyObject* buffer_fill(PyObject* self, PyObject* arg) {
+    Py_buffer view;
+    if (PyObject_GetBuffer(arg, &view, PyBUF_WRITABLE) < 0) {
+        return NULL;
+    }
+    unsigned char* data = (unsigned char*) view.buf;
+    Py_ssize_t i;
+    for (i = 0; i < view.len; i++) {
+        data[i] = (unsigned char) i;
+    }
+    PyBuffer_Release(&view);
+    Py_RETURN_NONE;
+}
+
+static PyMethodDef BufferMethods[] = {
+    {"checksum", buffer_checksum, METH_O, ""},
+    {"fill", buffer_fill, METH_O, ""},
+    {NULL, NULL, 0, NULL}
+};
+
+static PyModuleDef module = {
+    PyModuleDef_HEAD_INIT,
+    "c_buffer_large_module",
+    "",
+    -1,
+    BufferMethods,
+    NULL, NULL, NULL, NULL
+};
+
+PyMODINIT_FUNC
+PyInit_c_buffer_large_module(void) {
+    return PyModule_Create(&module);
+}
+"""
+
+
+ccompile("c_buffer_large_module", code)
+import c_buffer_large_module
+from array import array
+
+SIZE = 100 * 1024 * 1024
+
+
+def measure(num):
+    buffers = [bytearray(SIZE), array('B', bytes(SIZE))]
+    result = 0
+    for i in range(num):
+        for buf in buffers:
+            c_buffer_large_module.fill(buf)
+            result += c_buffer_large_module.checksum(buf)
+    result += c_buffer_large_module.checksum(bytes(buffers[0]))
+    return result
+
+
+def __benchmark__(num=5):
+    return measure(num)
@@ -0,0 +1,99 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import json
+
+# A small corpus shaped after common real-world documents: REST API listings with many repeated
+# keys, GeoJSON with large numeric arrays, a configuration file with nesting, and a log stream of
+# small objects with non-ASCII text.
+
+api_listing = json.dumps({
+    "total": 500,
+    "page": 1,
+    "items": [{
+        "id": i,
+        "login": "user%d" % i,
+        "site_admin": i % 17 == 0,
+        "score": i * 0.75,
+        "tags": ["python", "json", "api"][:i % 4],
+        "profile": {"followers": i * 3, "location": None, "url": "https://example.com/u/%d" % i},
+    } for i in range(500)],
+})
+
+geojson = json.dumps({
+    "type": "FeatureCollection",
+    "features": [{
+        "type": "Feature",
+        "properties": {"name": "route %d" % i, "lanes": i % 4 + 1},
+        "geometry": {
+            "type": "LineString",
+            "coordinates": [[14.4 + j * 0.0001, 50.08 - j * 0.0002] for j in range(200)],
+        },
+        "elevation": [300 + (i * j) % 50 for j in range(200)],
+    } for i in range(20)],
+})
+
+config = json.dumps({
+    "service": {"name": "gateway", "replicas": 3, "ports": [80, 443, 8080]},
+    "routes": [{"path": "/api/v%d/resource%d" % (i % 3, i), "timeout": 2.5, "retries": i % 3,
+                "headers": {"X-Trace": "on", "X-Route": str(i)}} for i in range(200)],
+    "limits": {"rate": 1000, "burst": 200, "allow": ["10.0.0.0/8", "192.168.0.0/16"]},
+})
+
+log_lines = [json.dumps({
+    "ts": 1666000000.123 + i,
+    "level": ["INFO", "WARN", "ERROR"][i % 3],
+    "msg": "Požadavek zpracován — %d ms ✓" % (i % 250),
+    "ctx": {"request_id": "%032x" % i, "user": "uživatel%d" % (i % 40)},
+}) for i in range(1000)]
+
+
+def measure(num):
+    total = 0
+    for i in range(num):
+        total += len(json.loads(api_listing)["items"])
+        total += len(json.loads(geojson)["features"])
+        total += len(json.loads(config)["routes"])
+        for line in log_lines:
+            total += len(json.loads(line))
+        total += len(json.loads(api_listing.encode("utf-8"))["items"])
+    return total
+
+
+def __benchmark__(num=50):
+    return measure(num)
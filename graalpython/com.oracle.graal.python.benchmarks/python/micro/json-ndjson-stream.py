@@ -0,0 +1,95 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+# Streams a newline delimited JSON file through _json.iterload and reports the peak RSS. The
+# argument is the size of the file in MB; pass 2048 to reproduce the 2 GB export case.
+import json
+import os
+import resource
+import tempfile
+
+try:
+    from _json import iterload
+except ImportError:
+    iterload = None
+
+PATH = os.path.join(tempfile.gettempdir(), "graalpython-json-ndjson-stream-%d.ndjson" % os.getpid())
+
+
+def make_record(i):
+    return {
+        "id": i,
+        "event": ["click", "view", "purchase"][i % 3],
+        "ts": 1666000000.5 + i,
+        "user": {"name": "user%d" % (i % 1000), "country": "CZ", "tags": ["a", "b", "c"][:i % 4]},
+        "values": [i % 7, i % 11, i % 13, i % 17],
+        "note": "Objednávka č. %d přijata" % i,
+    }
+
+
+def __setup__(size_mb):
+    target = size_mb * 1024 * 1024
+    block = "".join(json.dumps(make_record(i), ensure_ascii=False) + "\n" for i in range(1000)).encode("utf-8")
+    with open(PATH, "wb") as f:
+        written = 0
+        while written < target:
+            f.write(block)
+            written += len(block)
+
+
+def measure(size_mb):
+    count = 0
+    with open(PATH, "rb") as f:
+        if iterload is not None:
+            values = iterload(f, chunk_size=1024 * 1024)
+        else:
+            values = (json.loads(line) for line in f)
+        for value in values:
+            count += len(value["values"])
+    peak = resource.getrusage(resource.RUSAGE_SELF).ru_maxrss
+    print("### peak RSS: %d MB" % (peak // 1024))
+    return count
+
+
+def __benchmark__(size_mb=64):
+    return measure(size_mb)
+
+
+def __teardown__():
+    if os.path.exists(PATH):
+        os.remove(PATH)
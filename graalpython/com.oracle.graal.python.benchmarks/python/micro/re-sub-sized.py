@@ -0,0 +1,71 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import re
+
+# synthetic access log lines
+lines = []
+for i in range(2000):
+    lines.append('10.0.%d.%d - - [19/Oct/2022:13:%02d:%02d +0200] "GET /api/v1/items/%d?page=%d HTTP/1.1" %d %d "-" "bench-client/%d.%d"' % (
+        i % 256, (i * 7) % 256, i % 60, (i * 13) % 60, i * 31, i % 17, 200 + (i % 5), i * 97 % 10000, i % 3, i % 10))
+text = "\n".join(lines)
+
+ip_re = re.compile(r"\b(\d{1,3})\.(\d{1,3})\.(\d{1,3})\.(\d{1,3})\b")
+number_re = re.compile(r"\d+")
+request_re = re.compile(r'"(GET|POST|PUT|DELETE) ([^ ?"]+)(?:\?[^ "]*)? HTTP/[0-9.]+"')
+space_re = re.compile(r"\s+")
+
+
+def normalize(num):
+    total = 0
+    for i in range(num):
+        # anonymize addresses, keeping the first two octets
+        anonymized = ip_re.sub(r"\1.\2.x.x", text)
+        # replace all numbers by a placeholder
+        masked, n = number_re.subn("N", anonymized)
+        total += n
+        # extract method and path of all requests
+        total += len(request_re.findall(masked))
+        # tokenize
+        total += len(space_re.split(masked))
+    return total
+
+
+def __benchmark__(num=100):
+    return normalize(num)
@@ -0,0 +1,104 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import zlib
+import bz2
+import lzma
+
+# 1 MB of moderately compressible data
+data = bytes((i * 31 + (i >> 7)) & 0x7f for i in range(1024 * 1024))
+chunk_sizes = (1024, 16 * 1024, 64 * 1024)
+
+
+def stream_zlib(chunk_size):
+    comp = zlib.compressobj()
+    compressed = []
+    for i in range(0, len(data), chunk_size):
+        compressed.append(comp.compress(data[i:i + chunk_size]))
+    compressed.append(comp.flush())
+    compressed = b"".join(compressed)
+
+    decomp = zlib.decompressobj()
+    total = 0
+    for i in range(0, len(compressed), chunk_size):
+        total += len(decomp.decompress(compressed[i:i + chunk_size]))
+    total += len(decomp.flush())
+    return total
+
+
+def stream_bz2(chunk_size):
+    comp = bz2.BZ2Compressor()
+    compressed = []
+    for i in range(0, len(data), chunk_size):
+        compressed.append(comp.compress(data[i:i + chunk_size]))
+    compressed.append(comp.flush())
+    compressed = b"".join(compressed)
+
+    decomp = bz2.BZ2Decompressor()
+    total = 0
+    for i in range(0, len(compressed), chunk_size):
+        total += len(decomp.decompress(compressed[i:i + chunk_size]))
+    return total
+
+
+def stream_lzma(chunk_size):
+    comp = lzma.LZMACompressor(preset=1)
+    compressed = []
+    for i in range(0, len(data), chunk_size):
+        compressed.append(comp.compress(data[i:i + chunk_size]))
+    compressed.append(comp.flush())
+    compressed = b"".join(compressed)
+
+    decomp = lzma.LZMADecompressor()
+    total = 0
+    for i in range(0, len(compressed), chunk_size):
+        total += len(decomp.decompress(compressed[i:i + chunk_size]))
+    return total
+
+
+def measure(num):
+    for i in range(num):
+        for chunk_size in chunk_sizes:
+            assert stream_zlib(chunk_size) == len(data)
+            assert stream_bz2(chunk_size) == len(data)
+            assert stream_lzma(chunk_size) == len(data)
+
+
+def __benchmark__(num=5):
+    measure(num)
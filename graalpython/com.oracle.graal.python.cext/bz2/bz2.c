@@ -135,7 +135,10 @@ typedef char  Byte;  /* 8 bits */
 typedef struct
 {
     size_t ref_count;
+    /* number of usable bytes, at most 'capacity' */
     size_t size;
+    /* number of allocated bytes */
+    size_t capacity;
     Byte *buf;
 } off_heap_buffer;
 
@@ -149,6 +152,10 @@ typedef struct
 
     off_heap_buffer *output;
     size_t output_size;
+    /* shared zero-sized output, avoids allocating a placeholder per call */
+    off_heap_buffer *empty_output;
+    /* output buffer of the previous call, kept for reuse by the next one */
+    off_heap_buffer *spare_output;
 
     ssize_t next_in_index;
     ssize_t bzs_avail_in_real;
@@ -188,6 +195,7 @@ static off_heap_buffer* bz_allocate_buffer(size_t items)
     o->ref_count = 1;
     o->buf = buf;
     o->size = items;
+    o->capacity = size;
     LOG_FINER("malloc[off_heap_buffer](address: %p, buf: %p, items: %zu, ref_count: %zu)\n", o, buf, items, o->ref_count);
     return o;
 }
@@ -238,8 +246,10 @@ bzst_stream *bz_create_bzst_stream() {
     bzst->bzs.bzalloc = BZ2_Malloc;
     bzst->bzs.bzfree = BZ2_Free;
     bzst->bzs_type = NOT_INITIALIZED;
-    bzst->output = bz_allocate_buffer(1);
-    bzst->output->size = 0;
+    bzst->empty_output = bz_allocate_buffer(1);
+    bzst->empty_output->size = 0;
+    bzst->spare_output = NULL;
+    bzst->output = bz_get_ref(bzst->empty_output);
     bzst->output_size = 0;
     bzst->next_in_index = 0;
     bzst->bzs_avail_in_real = 0;
@@ -276,6 +286,8 @@ void bz_free_stream(bzst_stream* bzst) {
         }
     }
     bz_release_buffer(bzst->output);
+    bz_release_buffer(bzst->spare_output);
+    bz_release_buffer(bzst->empty_output);
     LOG_INFO("free bzst_stream(%p)\n", bzst);
     free(bzst);
 }
@@ -311,10 +323,20 @@ size_t bz_get_output_buffer_size(bzst_stream *bzst) {
     return size;
 }
 
+/* Output buffers up to this size are kept for the next call on the same stream
+   instead of being freed. Streaming (de)compression in small chunks then does not
+   have to malloc/free a fresh output buffer for every chunk. */
+#define MAX_SPARE_OUTPUT_SIZE (1024 * 1024)
+
 static void clear_output(bzst_stream *bzst) {
-    bz_release_buffer(bzst->output);
-    bzst->output = bz_allocate_buffer(1);
-    bzst->output->size = 0;
+    off_heap_buffer *current = bzst->output;
+    if (current != bzst->empty_output && current->capacity <= MAX_SPARE_OUTPUT_SIZE && current->ref_count == 1) {
+        bz_release_buffer(bzst->spare_output);
+        bzst->spare_output = current;
+    } else {
+        bz_release_buffer(current);
+    }
+    bzst->output = bz_get_ref(bzst->empty_output);
     bzst->output_size = 0;
 }
 
@@ -346,7 +368,15 @@ static int resize_output_buffer(bzst_stream *bzst, ssize_t length) {
 static int bz_prepare_output_buffer(bzst_stream *bzst, ssize_t len) {
     LOG_INFO("bz_prepare_output_buffer(%p, %zd)\n", bzst, len);
     bz_release_buffer(bzst->output);
-    bzst->output = bz_allocate_buffer(len);
+    off_heap_buffer *spare = bzst->spare_output;
+    if (spare && spare->capacity >= (size_t) len) {
+        /* the usable size must not exceed the requested length (e.g. max_length) */
+        bzst->spare_output = NULL;
+        spare->size = len;
+        bzst->output = spare;
+    } else {
+        bzst->output = bz_allocate_buffer(len);
+    }
     if (!bzst->output) {
         return -1;
     }
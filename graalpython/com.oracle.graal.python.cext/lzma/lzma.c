@@ -201,7 +201,10 @@ enum {
 typedef struct
 {
     size_t ref_count;
+    /* number of usable bytes, at most 'capacity' */
     size_t size;
+    /* number of allocated bytes */
+    size_t capacity;
     Byte *buf;
 } off_heap_buffer;
 
@@ -219,6 +222,10 @@ typedef struct
 
     off_heap_buffer *output;
     size_t output_size;
+    /* shared zero-sized output, avoids allocating a placeholder per call */
+    off_heap_buffer *empty_output;
+    /* output buffer of the previous call, kept for reuse by the next one */
+    off_heap_buffer *spare_output;
 
     ssize_t next_in_index;
 #ifdef BENCHMARK
@@ -294,6 +301,7 @@ static off_heap_buffer* lzma_allocate_buffer(size_t items)
     o->ref_count = 1;
     o->buf = buf;
     o->size = items;
+    o->capacity = size;
     LOG_FINER("malloc[off_heap_buffer](address: %p, buf: %p, items: %zu, ref_count: %zu)\n", o, buf, items, o->ref_count);
     return o;
 }
@@ -345,8 +353,10 @@ lzmast_stream *lzma_create_lzmast_stream() {
     lzmast->alloc.free = LZMA_Free;
     lzmast->lzs.allocator = &lzmast->alloc;
     lzmast->lzs_type = NOT_INITIALIZED;
-    lzmast->output = lzma_allocate_buffer(1);
-    lzmast->output->size = 0;
+    lzmast->empty_output = lzma_allocate_buffer(1);
+    lzmast->empty_output->size = 0;
+    lzmast->spare_output = NULL;
+    lzmast->output = lzma_get_ref(lzmast->empty_output);
     lzmast->output_size = 0;
     lzmast->next_in_index = 0;
     lzmast->filters = NULL;
@@ -407,6 +417,8 @@ void lzma_free_stream(lzmast_stream* lzmast) {
         }
     }
     lzma_release_buffer(lzmast->output);
+    lzma_release_buffer(lzmast->spare_output);
+    lzma_release_buffer(lzmast->empty_output);
     LOG_INFO("free lzmast_stream(%p)\n", lzmast);
     free(lzmast);
 }
@@ -452,10 +464,20 @@ size_t lzma_get_output_buffer_size(lzmast_stream *lzmast) {
     return size;
 }
 
+/* Output buffers up to this size are kept for the next call on the same stream
+   instead of being freed. Streaming (de)compression in small chunks then does not
+   have to malloc/free a fresh output buffer for every chunk. */
+#define MAX_SPARE_OUTPUT_SIZE (1024 * 1024)
+
 static void clear_output(lzmast_stream *lzmast) {
-    lzma_release_buffer(lzmast->output);
-    lzmast->output = lzma_allocate_buffer(1);
-    lzmast->output->size = 0;
+    off_heap_buffer *current = lzmast->output;
+    if (current != lzmast->empty_output && current->capacity <= MAX_SPARE_OUTPUT_SIZE && current->ref_count == 1) {
+        lzma_release_buffer(lzmast->spare_output);
+        lzmast->spare_output = current;
+    } else {
+        lzma_release_buffer(current);
+    }
+    lzmast->output = lzma_get_ref(lzmast->empty_output);
     lzmast->output_size = 0;
 }
 
@@ -487,7 +509,15 @@ static int resize_output_buffer(lzmast_stream *lzmast, ssize_t length) {
 static int lzma_prepare_output_buffer(lzmast_stream *lzmast, ssize_t len) {
     LOG_INFO("lzma_prepare_output_buffer(%p, %zd)\n", lzmast, len);
     lzma_release_buffer(lzmast->output);
-    lzmast->output = lzma_allocate_buffer(len);
+    off_heap_buffer *spare = lzmast->spare_output;
+    if (spare && spare->capacity >= (size_t) len) {
+        /* the usable size must not exceed the requested length (e.g. max_length) */
+        lzmast->spare_output = NULL;
+        spare->size = len;
+        lzmast->output = spare;
+    } else {
+        lzmast->output = lzma_allocate_buffer(len);
+    }
     if (!lzmast->output) {
         return -1;
     }
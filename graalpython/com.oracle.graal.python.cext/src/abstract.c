@@ -447,6 +447,17 @@ int PyObject_GetBuffer(PyObject *obj, Py_buffer *view, int flags) {
     obj = native_pointer_to_java(obj);
     PyBufferProcs *pb = Py_TYPE(obj)->tp_as_buffer;
 
+    if ((pb == NULL || pb->bf_getbuffer == NULL) && polyglot_is_value(obj)) {
+        /* Managed objects implementing the buffer protocol only in Java (e.g. 'array.array') are
+           exported through a memoryview which exposes the data without copying. */
+        PyObject *mv = PyMemoryView_FromObject(obj);
+        if (mv == NULL) {
+            return -1;
+        }
+        int res = memoryview_getbuffer((PyMemoryViewObject *) mv, view, flags);
+        Py_DECREF(mv);
+        return res;
+    }
     if (pb == NULL || pb->bf_getbuffer == NULL) {
         PyErr_Format(PyExc_TypeError,
                      "a bytes-like object is required, not '%.100s'",
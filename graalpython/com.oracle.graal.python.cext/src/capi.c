@@ -595,7 +595,8 @@ void PyTruffle_Free(void *obj) {
     if (points_to_handle_space(obj) && is_handle(obj)) {
         release_handle(obj);
     } else {
-        PyMem_RawFree(obj);
+        /* called from Java with the GIL held; the block header tells how the memory was allocated */
+        PyMem_Free(obj);
     }
 }
 
@@ -615,7 +616,7 @@ const char* PyTruffle_StringToCstr(void* o, int32_t strLen) {
 
     written = polyglot_as_string(o, buffer, bufsize, SRC_CS) + 1;
 
-    str = (const char*) PyMem_RawMalloc(written * sizeof(char));
+    str = (const char*) PyMem_Malloc(written * sizeof(char));
     memcpy(str, buffer, written * sizeof(char));
     free(buffer);
 
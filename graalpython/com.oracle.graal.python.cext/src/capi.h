@@ -55,6 +55,7 @@
 
 /* Flags definitions representing global (debug) options. */
 #define PY_TRUFFLE_TRACE_MEM 0x1
+#define PY_TRUFFLE_PRECISE_ALLOC 0x2
 
 
 /* Private types are defined here because we need to declare the type cast. */
@@ -124,6 +125,12 @@ int PyTruffle_Trace_Memory() {
 	return Py_Truffle_Options & PY_TRUFFLE_TRACE_MEM;
 }
 
+/* Returns non-zero if each allocation and free needs to be reported to the runtime individually. */
+MUST_INLINE
+int PyTruffle_Precise_Alloc() {
+	return Py_Truffle_Options & PY_TRUFFLE_PRECISE_ALLOC;
+}
+
 /* upcall functions for calling into Python */
 extern void*(*pytruffle_decorate_function)(void *fun0, void* fun1);
 extern PyObject*(*PY_TRUFFLE_LANDING_BORROWED)(void *rcv, void* name, ...);
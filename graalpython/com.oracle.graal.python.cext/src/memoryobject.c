@@ -270,6 +270,10 @@ int memoryview_getbuffer(PyMemoryViewObject *self, Py_buffer *view, int flags)
     return 0;
 }
 
+UPCALL_ID(PyTruffle_MemoryView_ReleaseBufferArray)
 void memoryview_releasebuffer(PyMemoryViewObject *self, Py_buffer *view) {
-        self->exports--;
+        if (--self->exports == 0) {
+            /* write back a managed buffer that may have been copied to native memory */
+            UPCALL_CEXT_VOID(_jls_PyTruffle_MemoryView_ReleaseBufferArray, native_to_java((PyObject *) self));
+        }
 }
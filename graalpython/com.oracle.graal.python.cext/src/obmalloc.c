@@ -58,40 +58,261 @@ typedef struct {
 /* Get the object given the GC head */
 #define FROM_MEM_HEAD(g) ((void *)(((mem_head_t *)g)+1))
 
+/*
+ * Small block pools (similar to CPython's obmalloc)
+ *
+ * Requests for 'PyObject_Malloc' and 'PyMem_Malloc' that fit (together with the header) into
+ * SMALL_REQUEST_THRESHOLD bytes are served from per-size-class free lists. Blocks are carved from
+ * chunks of POOL_CHUNK_SIZE bytes that are never given back to the system allocator; freed blocks
+ * are put back to the free list of their size class. Like in CPython, these functions must only be
+ * called while holding the GIL. The 'PyMem_Raw*' functions may be called without the GIL, so they
+ * always use the system allocator and are not included in the memory pressure accounting below.
+ *
+ * Besides the size, the header records how a block was allocated: the highest bit marks pooled
+ * blocks and the second highest bit marks blocks that were counted by the memory pressure
+ * accounting. Freeing and reallocating only consult these bits, so a block is always released to
+ * the allocator and the accounting it came from, no matter which free function is used for it.
+ */
+#define ALIGNMENT 16
+#define ALIGNMENT_SHIFT 4
+#define SMALL_REQUEST_THRESHOLD 512
+#define NB_SMALL_SIZE_CLASSES (SMALL_REQUEST_THRESHOLD / ALIGNMENT)
+#define POOL_CHUNK_SIZE (64 * 1024)
+
+#define POOLED_FLAG ((size_t)1 << (sizeof(size_t) * 8 - 1))
+#define ACCOUNTED_FLAG ((size_t)1 << (sizeof(size_t) * 8 - 2))
+#define IS_POOLED(head) (((head)->size & POOLED_FLAG) != 0)
+#define IS_ACCOUNTED(head) (((head)->size & ACCOUNTED_FLAG) != 0)
+#define BLOCK_SIZE(head) ((head)->size & ~(POOLED_FLAG | ACCOUNTED_FLAG))
+
+/* size class index for a request of 'size' bytes (including the header) */
+#define SIZE_CLASS_INDEX(size) (((size) + sizeof(mem_head_t) - 1) >> ALIGNMENT_SHIFT)
+#define SIZE_CLASS_TO_SIZE(idx) (((idx) + 1) << ALIGNMENT_SHIFT)
+
+typedef struct free_block {
+	struct free_block* next;
+} free_block_t;
+
+static free_block_t* pool_free_list[NB_SMALL_SIZE_CLASSES];
+static char* pool_chunk_next;
+static char* pool_chunk_end;
+
+static mem_head_t* pool_alloc(size_t size) {
+	size_t idx = SIZE_CLASS_INDEX(size);
+	free_block_t* block = pool_free_list[idx];
+	if (block != NULL) {
+		pool_free_list[idx] = block->next;
+		return (mem_head_t*) block;
+	}
+	size_t block_size = SIZE_CLASS_TO_SIZE(idx);
+	if (pool_chunk_next == NULL || pool_chunk_next + block_size > pool_chunk_end) {
+		/* The remainder of the current chunk is too small; hand it out as a block of a smaller size class. */
+		if (pool_chunk_next != NULL && pool_chunk_next < pool_chunk_end) {
+			size_t rest_idx = ((size_t) (pool_chunk_end - pool_chunk_next) >> ALIGNMENT_SHIFT) - 1;
+			free_block_t* rest = (free_block_t*) pool_chunk_next;
+			rest->next = pool_free_list[rest_idx];
+			pool_free_list[rest_idx] = rest;
+		}
+		char* chunk = (char*) malloc(POOL_CHUNK_SIZE);
+		if (chunk == NULL) {
+			pool_chunk_next = NULL;
+			pool_chunk_end = NULL;
+			return NULL;
+		}
+		pool_chunk_next = chunk;
+		pool_chunk_end = chunk + POOL_CHUNK_SIZE;
+	}
+	block = (free_block_t*) pool_chunk_next;
+	pool_chunk_next += block_size;
+	return (mem_head_t*) block;
+}
+
+MUST_INLINE static void pool_free(mem_head_t* ptr_with_head) {
+	size_t idx = SIZE_CLASS_INDEX(BLOCK_SIZE(ptr_with_head));
+	free_block_t* block = (free_block_t*) ptr_with_head;
+	block->next = pool_free_list[idx];
+	pool_free_list[idx] = block;
+}
+
+/*
+ * Memory pressure accounting
+ *
+ * Unless precise tracing is requested, allocated and freed sizes are only summed up here and
+ * reported to the runtime once the pending amount exceeds MEMORY_PRESSURE_BATCH bytes. This avoids
+ * an upcall per allocation while still enforcing 'MaxNativeMemory' (with a granularity of the batch
+ * size). Like the pools, this state is only touched while holding the GIL.
+ *
+ * Whether precise tracing is required may change while the context runs (e.g. if an allocation
+ * reporter is attached), so the runtime returns the current native options whenever pending memory
+ * pressure is reported, and they are re-read every PRECISE_ALLOC_RECHECK_INTERVAL operations in
+ * precise mode. Pending memory pressure is always reported before switching to precise mode, and it
+ * is reported when the context is finalized (see 'PyTruffle_Flush_Memory_Pressure').
+ */
+#define MEMORY_PRESSURE_BATCH (256 * 1024)
+#define PRECISE_ALLOC_RECHECK_INTERVAL 1024
+
+static int64_t pending_memory_pressure;
+static uint32_t precise_alloc_ops;
+
+typedef int (*memory_pressure_fun_t)(int64_t);
+UPCALL_TYPED_ID(PyTruffle_Native_Memory_Pressure, memory_pressure_fun_t);
+
+typedef int (*native_options_fun_t)();
+UPCALL_TYPED_ID(PyTruffle_Native_Options, native_options_fun_t);
+
+static void flush_memory_pressure() {
+	int64_t delta = pending_memory_pressure;
+	pending_memory_pressure = 0;
+	Py_Truffle_Options = (uint32_t) _jls_PyTruffle_Native_Memory_Pressure(delta);
+}
+
+/* Returns non-zero if the current allocation or free needs to be reported individually. */
+MUST_INLINE static int use_precise_accounting() {
+	if (!PyTruffle_Precise_Alloc()) {
+		return 0;
+	}
+	if (++precise_alloc_ops >= PRECISE_ALLOC_RECHECK_INTERVAL) {
+		precise_alloc_ops = 0;
+		Py_Truffle_Options = (uint32_t) _jls_PyTruffle_Native_Options();
+	}
+	return PyTruffle_Precise_Alloc();
+}
+
+MUST_INLINE static void account_alloc(void* ptr, size_t size) {
+	if (use_precise_accounting()) {
+		alloc_upcall(ptr, size);
+		return;
+	}
+	pending_memory_pressure += size;
+	if (pending_memory_pressure >= MEMORY_PRESSURE_BATCH) {
+		flush_memory_pressure();
+	}
+}
+
 typedef void (*trace_free_fun_t)(void *, size_t);
 UPCALL_TYPED_ID(PyTruffle_Trace_Free, trace_free_fun_t);
 
+MUST_INLINE static void account_free(void* ptr, size_t size) {
+	if (use_precise_accounting()) {
+		_jls_PyTruffle_Trace_Free(ptr, size);
+		return;
+	}
+	pending_memory_pressure -= size;
+	if (pending_memory_pressure <= -MEMORY_PRESSURE_BATCH) {
+		flush_memory_pressure();
+	}
+}
+
+/* Reports any pending memory pressure to the runtime. Called with the GIL held. */
+void PyTruffle_Flush_Memory_Pressure() {
+	if (pending_memory_pressure != 0) {
+		flush_memory_pressure();
+	}
+}
+
+/*
+ * Frees Sulong handles and managed objects. Returns non-zero if 'ptr' was such an object and the
+ * upcall function already took care of freeing it.
+ */
+MUST_INLINE static
+int free_managed(void* ptr) {
+	if((points_to_handle_space(ptr) && is_handle(ptr)) || polyglot_is_value(ptr)) {
+		return free_upcall(native_pointer_to_java(ptr));
+	}
+	return 0;
+}
+
+/* Releases a block allocated by any of the functions in this file. Requires the GIL for pooled or accounted blocks. */
+MUST_INLINE static
+void free_block(void* ptr) {
+    mem_head_t* ptr_with_head = AS_MEM_HEAD(ptr);
+    if (IS_ACCOUNTED(ptr_with_head)) {
+        account_free(ptr, BLOCK_SIZE(ptr_with_head));
+    }
+    if (IS_POOLED(ptr_with_head)) {
+        pool_free(ptr_with_head);
+    } else {
+        free(ptr_with_head);
+    }
+}
+
 /* This is our version of 'PyObject_Free' which is also able to free Sulong handles. */
 MUST_INLINE static
 void _PyObject_Free(void* ptr) {
-	if (ptr == NULL) {
+	if (ptr == NULL || free_managed(ptr)) {
 		return;
 	}
-	if((points_to_handle_space(ptr) && is_handle(ptr)) || polyglot_is_value(ptr)) {
-		if(free_upcall(native_pointer_to_java(ptr))) {
-		    /* If 1 is returned, the upcall function already took care of freeing */
-		    return;
+	free_block(ptr);
+}
+
+MUST_INLINE static
+void* _PyObject_Malloc(size_t size, int zero) {
+	mem_head_t* ptr_with_head;
+	if (size + sizeof(mem_head_t) <= SMALL_REQUEST_THRESHOLD) {
+		ptr_with_head = pool_alloc(size);
+		if (ptr_with_head == NULL) {
+			return NULL;
+		}
+		if (zero) {
+			memset(FROM_MEM_HEAD(ptr_with_head), 0, size);
 		}
+		ptr_with_head->size = size | POOLED_FLAG | ACCOUNTED_FLAG;
+	} else {
+		ptr_with_head = zero ? calloc(size + sizeof(mem_head_t), 1) : malloc(size + sizeof(mem_head_t));
+		if (ptr_with_head == NULL) {
+			return NULL;
+		}
+		ptr_with_head->size = size | ACCOUNTED_FLAG;
 	}
-    mem_head_t* ptr_with_head = AS_MEM_HEAD(ptr);
-    _jls_PyTruffle_Trace_Free(ptr, ptr_with_head->size);
-    free(ptr_with_head);
+	void* ptr = FROM_MEM_HEAD(ptr_with_head);
+	account_alloc(ptr, size);
+	return ptr;
+}
+
+MUST_INLINE static
+void* _PyObject_Realloc(void *ptr, size_t new_size) {
+	if (ptr == NULL) {
+		return _PyObject_Malloc(new_size, 0);
+	}
+	mem_head_t* old = AS_MEM_HEAD(ptr);
+	size_t old_size = BLOCK_SIZE(old);
+	int was_accounted = IS_ACCOUNTED(old);
+	mem_head_t* ptr_with_head;
+	void* new_ptr;
+	if (IS_POOLED(old) && SIZE_CLASS_INDEX(new_size) == SIZE_CLASS_INDEX(old_size)) {
+		/* still fits into the same block */
+		ptr_with_head = old;
+		ptr_with_head->size = new_size | POOLED_FLAG | ACCOUNTED_FLAG;
+	} else if (IS_POOLED(old)) {
+		ptr_with_head = (mem_head_t*) malloc(new_size + sizeof(mem_head_t));
+		if (ptr_with_head == NULL) {
+			return NULL;
+		}
+		memcpy(FROM_MEM_HEAD(ptr_with_head), ptr, old_size < new_size ? old_size : new_size);
+		pool_free(old);
+		ptr_with_head->size = new_size | ACCOUNTED_FLAG;
+	} else {
+		ptr_with_head = (mem_head_t*) realloc(old, new_size + sizeof(mem_head_t));
+		if (ptr_with_head == NULL) {
+			return NULL;
+		}
+		ptr_with_head->size = new_size | ACCOUNTED_FLAG;
+	}
+	new_ptr = FROM_MEM_HEAD(ptr_with_head);
+	/* for accounting purposes, a reallocation is a free (if the block was accounted) followed by an allocation */
+	if (was_accounted) {
+		account_free(ptr, old_size);
+	}
+	account_alloc(new_ptr, new_size);
+	return new_ptr;
 }
 
 void* PyObject_Malloc(size_t size) {
-	// we add a header
-	mem_head_t* ptr_with_head = calloc(size + sizeof(mem_head_t), 1);
-	void* ptr = FROM_MEM_HEAD(ptr_with_head);
-	ptr_with_head->size = size;
-	alloc_upcall(ptr, size);
-    return ptr;
+	return _PyObject_Malloc(size, 1);
 }
 
 void* PyObject_Realloc(void *ptr, size_t new_size) {
-	mem_head_t* old = ptr != NULL ? AS_MEM_HEAD(ptr) : NULL;
-    mem_head_t* ptr_with_head = (mem_head_t*) realloc(old, new_size + sizeof(mem_head_t));
-    ptr_with_head->size = new_size;
-    return FROM_MEM_HEAD(ptr_with_head);
+	return _PyObject_Realloc(ptr, new_size);
 }
 
 void PyObject_Free(void* ptr) {
@@ -102,51 +323,65 @@ void* PyMem_Malloc(size_t size) {
     if (size > (size_t)PY_SSIZE_T_MAX) {
         return NULL;
     }
-	mem_head_t* ptr_with_head = malloc(size + sizeof(mem_head_t));
-	void* ptr = FROM_MEM_HEAD(ptr_with_head);
-	ptr_with_head->size = size;
-    alloc_upcall(ptr, size);
-    return ptr;
+	return _PyObject_Malloc(size, 0);
 }
 
 void* PyMem_Calloc(size_t nelem, size_t elsize) {
     if (elsize != 0 && nelem > (size_t)PY_SSIZE_T_MAX / elsize) {
         return NULL;
     }
-    return PyMem_RawCalloc(nelem, elsize);
+	return _PyObject_Malloc(nelem * elsize, 1);
 }
 
+/*
+ * The raw allocators may be called without holding the GIL. They must therefore neither touch the
+ * pools or the pending memory pressure, nor upcall into the runtime. The only exception are blocks
+ * (or handles) that did not come from the raw allocators: like in the baseline, 'PyMem_RawFree' and
+ * 'PyMem_RawRealloc' accept them but then require the GIL.
+ */
 void* PyMem_RawMalloc(size_t size) {
 	mem_head_t* ptr_with_head = malloc((size == 0 ? 1 : size) + sizeof(mem_head_t));
-	void* ptr = FROM_MEM_HEAD(ptr_with_head);
+	if (ptr_with_head == NULL) {
+		return NULL;
+	}
 	ptr_with_head->size = size;
-    alloc_upcall(ptr, size);
-    return ptr;
+    return FROM_MEM_HEAD(ptr_with_head);
 }
 
 void* PyMem_RawCalloc(size_t nelem, size_t elsize) {
     size_t n = (nelem == 0 || elsize == 0) ? 1 : nelem;
-    size_t total = n * elsize + sizeof(mem_head_t);
-	mem_head_t* ptr_with_head = (mem_head_t*) malloc(total);
-	memset(ptr_with_head, 0, total);
-	void* ptr = FROM_MEM_HEAD(ptr_with_head);
-    alloc_upcall(ptr, n * elsize);
-    return ptr;
+	mem_head_t* ptr_with_head = (mem_head_t*) calloc(n * elsize + sizeof(mem_head_t), 1);
+	if (ptr_with_head == NULL) {
+		return NULL;
+	}
+	ptr_with_head->size = n * elsize;
+    return FROM_MEM_HEAD(ptr_with_head);
 }
 
 void* PyMem_RawRealloc(void *ptr, size_t new_size) {
-	mem_head_t* old = ptr != NULL ? AS_MEM_HEAD(ptr) : NULL;
-    mem_head_t* ptr_with_head = (mem_head_t*) realloc(old, new_size + sizeof(mem_head_t));
-    ptr_with_head->size = new_size;
+	if (ptr == NULL) {
+		return PyMem_RawMalloc(new_size);
+	}
+	if (AS_MEM_HEAD(ptr)->size & (POOLED_FLAG | ACCOUNTED_FLAG)) {
+		return _PyObject_Realloc(ptr, new_size);
+	}
+	mem_head_t* ptr_with_head = (mem_head_t*) realloc(AS_MEM_HEAD(ptr), new_size + sizeof(mem_head_t));
+	if (ptr_with_head == NULL) {
+		return NULL;
+	}
+	ptr_with_head->size = new_size;
     return FROM_MEM_HEAD(ptr_with_head);
 }
 
 void PyMem_RawFree(void *ptr) {
-	_PyObject_Free(ptr);
+	if (ptr == NULL || free_managed(ptr)) {
+		return;
+	}
+	free_block(ptr);
 }
 
 void * PyMem_Realloc(void *ptr, size_t new_size) {
-    return PyMem_RawRealloc(ptr, new_size);
+    return _PyObject_Realloc(ptr, new_size);
 }
 
 void PyMem_Free(void *ptr) {
@@ -156,6 +156,10 @@ typedef struct
 
     off_heap_buffer *output;
     size_t output_size;
+    /* shared zero-sized output, avoids allocating a placeholder per call */
+    off_heap_buffer *empty_output;
+    /* output buffer of the previous call, kept for reuse by the next one */
+    off_heap_buffer *spare_output;
 
     compobject *comp;
 
@@ -293,8 +297,10 @@ zlib_stream *zlib_create_zlib_stream() {
     zlib_stream *zst = (zlib_stream *) malloc(sizeof(zlib_stream));
     zst->zst_type = NOT_INITIALIZED;
     zst->error_function = NO_ERROR;
-    zst->output = zlib_allocate_buffer(1);
-    zst->output->size = 0;
+    zst->empty_output = zlib_allocate_buffer(1);
+    zst->empty_output->size = 0;
+    zst->spare_output = NULL;
+    zst->output = zlib_get_ref(zst->empty_output);
     zst->output_size = 0;
     zst->zst.opaque = Z_NULL;
     zst->zst.zalloc = zlib_allocate;
@@ -352,6 +358,8 @@ void zlib_free_stream(zlib_stream* zst) {
         }
     }
     zlib_release_buffer(zst->output);
+    zlib_release_buffer(zst->spare_output);
+    zlib_release_buffer(zst->empty_output);
     zlib_release_compobject(zst->comp);
     LOG_INFO("free zlib_stream(%p)\n", zst);
     free(zst);
@@ -483,10 +491,20 @@ void zlib_set_zdict(zlib_stream *zst, Byte *zdict, size_t zdict_len) {
     LOG_INFO("zlib_set_zdict(zdict: %p, len: %zu)\n", zst->comp->zdict, zst->comp->zdict->size);
 }
 
+/* Output buffers up to this size are kept for the next call on the same stream
+   instead of being freed. Streaming (de)compression in small chunks then does not
+   have to malloc/free a fresh output buffer for every chunk. */
+#define MAX_SPARE_OUTPUT_SIZE (1024 * 1024)
+
 static void clear_output(zlib_stream *zst) {
-    zlib_release_buffer(zst->output);
-    zst->output = zlib_allocate_buffer(1);
-    zst->output->size = 0;
+    off_heap_buffer *current = zst->output;
+    if (current->size && current->size <= MAX_SPARE_OUTPUT_SIZE && current->ref_count == 1) {
+        zlib_release_buffer(zst->spare_output);
+        zst->spare_output = current;
+    } else {
+        zlib_release_buffer(current);
+    }
+    zst->output = zlib_get_ref(zst->empty_output);
     zst->output_size = 0;
 }
 
@@ -517,9 +535,16 @@ static ssize_t arrange_output_buffer_with_maximum(zlib_stream *zst, ssize_t leng
     ssize_t occupied;
 
     if (!zst->output->size) {
-        off_heap_buffer *buf = zlib_allocate_buffer(length);
-        if (!buf) {
-            return -1;
+        off_heap_buffer *buf = zst->spare_output;
+        if (buf && buf->size >= (size_t) length) {
+            /* use the whole spare buffer, but never more than allowed */
+            zst->spare_output = NULL;
+            length = buf->size < (size_t) max_length ? (ssize_t) buf->size : max_length;
+        } else {
+            buf = zlib_allocate_buffer(length);
+            if (!buf) {
+                return -1;
+            }
         }
         zlib_release_buffer(zst->output);
         zst->output = buf;
@@ -109,6 +109,7 @@ def add_graalpython_core():
         l.append(f"{modname} : {modname} = {modpath}")
     for name in [
         "__graalpython__",
+        "_json",
         "_sre",
         "_struct",
         "_sysconfig",
@@ -361,6 +361,40 @@ public class CompilerTests extends PythonTests {
         doTest(s);
     }
 
+    @Test
+    public void testTryExceptIgnoringException() {
+        String s = "def foo(d, k):\n" +
+                        "  try:\n" +
+                        "    return d[k]\n" +
+                        "  except KeyError:\n" +
+                        "    x = y = None\n" +
+                        "    return x\n" +
+                        "  except (TypeError, ValueError):\n" +
+                        "    pass\n";
+        Assert.assertThat(assemble(s, InputType.FILE).toString(), CoreMatchers.containsString("PUSH_EXC_INFO_LOCAL"));
+    }
+
+    @Test
+    public void testTryExceptObservingException() {
+        String[] handlers = {"  except KeyError as e:\n    pass\n",
+                        "  except KeyError:\n    print()\n",
+                        "  except KeyError:\n    raise\n",
+                        "  except lookup():\n    pass\n",
+                        "  except errors.KeyError:\n    pass\n",
+                        "  except KeyError:\n    d[k] = None\n",
+                        "  except KeyError:\n    d.missing = True\n",
+                        "  except KeyError:\n    return d == k\n",
+                        "  except KeyError:\n    if d:\n      pass\n",
+                        "  except KeyError:\n    pass\n  finally:\n    pass\n"};
+        for (String handler : handlers) {
+            String s = "def foo(d, k):\n  try:\n    d[k]\n" + handler;
+            Assert.assertThat(s, assemble(s, InputType.FILE).toString(), CoreMatchers.not(CoreMatchers.containsString("PUSH_EXC_INFO_LOCAL")));
+        }
+        // outside of functions, names may be looked up in a user mapping
+        String s = "try:\n  d[k]\nexcept KeyError:\n  pass\n";
+        Assert.assertThat(assemble(s, InputType.FILE).toString(), CoreMatchers.not(CoreMatchers.containsString("PUSH_EXC_INFO_LOCAL")));
+    }
+
     @Test
     public void testTryExceptBare() {
         String s = "print('before')\n" +
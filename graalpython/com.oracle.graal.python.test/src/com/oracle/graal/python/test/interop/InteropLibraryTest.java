@@ -46,6 +46,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -190,6 +191,57 @@ public class InteropLibraryTest extends PythonTests {
         fail("didn't throw exception");
     }
 
+    @Test
+    public void testBytesBufferElements() {
+        Value bytes = v("b'\\x01\\x02\\x03\\x04\\x05\\x06\\x07\\x08'");
+        assertTrue(bytes.hasBufferElements());
+        assertFalse(bytes.isBufferWritable());
+        assertEquals(8, bytes.getBufferSize());
+        assertEquals(3, bytes.readBufferByte(2));
+        assertEquals(0x04030201, bytes.readBufferInt(ByteOrder.LITTLE_ENDIAN, 0));
+        assertEquals(0x05060708, bytes.readBufferInt(ByteOrder.BIG_ENDIAN, 4));
+        assertEquals(0x0807060504030201L, bytes.readBufferLong(ByteOrder.LITTLE_ENDIAN, 0));
+        try {
+            bytes.writeBufferByte(0, (byte) 42);
+            fail("bytes must not be writable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            bytes.readBufferInt(ByteOrder.LITTLE_ENDIAN, 5);
+            fail("out of bounds read must fail");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        assertFalse(v("[1, 2, 3]").hasBufferElements());
+    }
+
+    @Test
+    public void testWritableBufferElements() {
+        for (String buffer : new String[]{"bytearray(16)", "__import__('array').array('d', [0.0, 0.0])", "memoryview(bytearray(32))[8:24]"}) {
+            Value value = v(buffer);
+            assertTrue(buffer, value.hasBufferElements());
+            assertTrue(buffer, value.isBufferWritable());
+            assertEquals(buffer, 16, value.getBufferSize());
+            value.writeBufferByte(15, (byte) 7);
+            assertEquals(buffer, 7, value.readBufferByte(15));
+            value.writeBufferShort(ByteOrder.BIG_ENDIAN, 0, (short) 0x0102);
+            assertEquals(buffer, 1, value.readBufferByte(0));
+            assertEquals(buffer, 0x0201, value.readBufferShort(ByteOrder.LITTLE_ENDIAN, 0));
+            value.writeBufferLong(ByteOrder.LITTLE_ENDIAN, 0, 0x0102030405060708L);
+            assertEquals(buffer, 8, value.readBufferByte(0));
+            assertEquals(buffer, 0x0807060504030201L, value.readBufferLong(ByteOrder.BIG_ENDIAN, 0));
+            value.writeBufferDouble(ByteOrder.BIG_ENDIAN, 8, 1.5);
+            assertEquals(buffer, 1.5, value.readBufferDouble(ByteOrder.BIG_ENDIAN, 8), 0);
+            value.writeBufferFloat(ByteOrder.LITTLE_ENDIAN, 8, 2.5f);
+            assertEquals(buffer, 2.5f, value.readBufferFloat(ByteOrder.LITTLE_ENDIAN, 8), 0);
+        }
+        Value array = v("import array\na = array.array('i', [1, 2, 3])\na");
+        assertEquals(2, array.readBufferInt(ByteOrder.nativeOrder(), 4));
+        array.writeBufferInt(ByteOrder.nativeOrder(), 8, 42);
+        assertEquals(42, v("a[2]").asInt());
+    }
+
     private static final class LazyArray implements ProxyArray {
 
         private final Iterator<?> it;
@@ -47,6 +47,7 @@ import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -76,4 +77,27 @@ public class SourceEvalTests {
         }
         currentContext.close();
     }
+
+    @Test
+    public void SourceCacheStatistics() throws Exception {
+        Context context = Context.newBuilder().allowExperimentalOptions(true).allowAllAccess(true).build();
+        try {
+            context.initialize("python");
+            Value info = context.eval(PythonLanguage.ID, "__graalpython__.source_cache_info");
+            Assert.assertFalse(info.execute().isNull());
+            long misses = info.execute().getArrayElement(1).asLong();
+            long size = info.execute().getArrayElement(3).asLong();
+            Source source = Source.newBuilder(PythonLanguage.ID, "40 + 2", "cached_answer.py").buildLiteral();
+            Assert.assertEquals(42, context.eval(source).asInt());
+            Assert.assertEquals(misses + 1, info.execute().getArrayElement(1).asLong());
+            Assert.assertEquals(size + 1, info.execute().getArrayElement(3).asLong());
+            // sources built with caching disabled are not retained
+            Source uncached = Source.newBuilder(PythonLanguage.ID, "40 + 3", "uncached_answer.py").cached(false).buildLiteral();
+            Assert.assertEquals(43, context.eval(uncached).asInt());
+            Assert.assertEquals(misses + 1, info.execute().getArrayElement(1).asLong());
+            Assert.assertEquals(size + 1, info.execute().getArrayElement(3).asLong());
+        } finally {
+            context.close();
+        }
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.graalvm.polyglot.Context;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.graal.python.PythonLanguage;
+
+public class CApiProfilerTests {
+
+    private static final String PROFILE_HEADER = "========= C API profile";
+    private static final String CALL_EXTENSION = "import _cpython_sre\n_cpython_sre.getlower(65, 0)\n";
+
+    private static Context createContext(ByteArrayOutputStream err, int profile) {
+        return Context.newBuilder().allowExperimentalOptions(true).allowAllAccess(true).err(err).option("python.CApiProfile", Integer.toString(profile)).build();
+    }
+
+    @Test
+    public void printsProfileAtExit() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        Context context = createContext(err, -1);
+        try {
+            context.eval(PythonLanguage.ID, CALL_EXTENSION);
+            Assert.assertFalse(err.toString(StandardCharsets.UTF_8).contains(PROFILE_HEADER));
+        } finally {
+            context.close();
+        }
+        String output = err.toString(StandardCharsets.UTF_8);
+        Assert.assertTrue(output, output.contains(PROFILE_HEADER));
+        Assert.assertTrue(output, output.contains("==== module _cpython_sre"));
+    }
+
+    @Test
+    public void periodicReporterStopsWithContext() throws InterruptedException {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        Context context = createContext(err, 10);
+        try {
+            context.eval(PythonLanguage.ID, CALL_EXTENSION + "import time\ntime.sleep(0.2)\n");
+            Assert.assertTrue(err.toString(StandardCharsets.UTF_8).contains(PROFILE_HEADER));
+        } finally {
+            context.close();
+        }
+        int sizeAfterClose = err.size();
+        Thread.sleep(100);
+        Assert.assertEquals(sizeAfterClose, err.size());
+    }
+}
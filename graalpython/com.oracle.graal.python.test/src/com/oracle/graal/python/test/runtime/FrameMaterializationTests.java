@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.runtime;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.graal.python.PythonLanguage;
+
+public class FrameMaterializationTests {
+
+    @Test
+    public void countsMaterializationsPerCallSite() throws Exception {
+        Context context = Context.newBuilder().allowExperimentalOptions(true).allowAllAccess(true).option("python.FrameMaterializationStatistics", "true").build();
+        try {
+            Source source = Source.newBuilder(PythonLanguage.ID, "import sys\n" +
+                            "def callee():\n" +
+                            "    return sys._getframe(1).f_code\n" +
+                            "def caller():\n" +
+                            "    for i in range(10):\n" +
+                            "        callee()\n" +
+                            "caller()\n", "materialize_caller.py").build();
+            context.eval(source);
+            Value count = context.eval(PythonLanguage.ID, "sum(e[3] + e[4] for e in __graalpython__.frame_materialization_info() if e[0] == 'materialize_caller.py' and e[1] == 6)");
+            Assert.assertTrue(count.asLong() > 0);
+        } finally {
+            context.close();
+        }
+    }
+
+    @Test
+    public void disabledByDefault() {
+        Context context = Context.newBuilder().allowExperimentalOptions(true).allowAllAccess(true).build();
+        try {
+            Assert.assertTrue(context.eval(PythonLanguage.ID, "__graalpython__.frame_materialization_info()").isNull());
+        } finally {
+            context.close();
+        }
+    }
+}
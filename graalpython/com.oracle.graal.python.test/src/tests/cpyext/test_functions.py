@@ -469,4 +469,73 @@ class TestPyObject(CPyExtTestCase):
         arguments=["PyObject* func"],
         argspec="O",
         cmpfunc=lambda x, y: type(x) == staticmethod
-    )
\ No newline at end of file
+    )
+
+class TestPyMem(CPyExtTestCase):
+
+    def compile_module(self, name):
+        type(self).mro()[1].__dict__["test_%s" % name].create_module(name)
+        super(TestPyMem, self).compile_module(name)
+
+    # the raw allocators may be used without holding the GIL
+    test_PyMem_RawMalloc = CPyExtFunction(
+        lambda args: args[0],
+        lambda: (
+            (0,),
+            (16,),
+            (1000,),
+        ),
+        code='''
+        Py_ssize_t wrap_PyMem_RawMalloc(Py_ssize_t size) {
+            Py_ssize_t i, result = -1;
+            char *buf, *bigger;
+            Py_BEGIN_ALLOW_THREADS
+            buf = (char *) PyMem_RawCalloc(size, 1);
+            if (buf != NULL) {
+                for (i = 0; i < size && buf[i] == 0; i++);
+                if (i == size) {
+                    memset(buf, 'x', size);
+                    bigger = (char *) PyMem_RawRealloc(buf, 2 * size + 1);
+                    if (bigger != NULL) {
+                        buf = bigger;
+                        for (i = 0; i < size && buf[i] == 'x'; i++);
+                        result = i;
+                    }
+                }
+                PyMem_RawFree(buf);
+            }
+            PyMem_RawFree(PyMem_RawMalloc(size));
+            Py_END_ALLOW_THREADS
+            return result;
+        }
+        ''',
+        resultspec="n",
+        argspec="n",
+        arguments=["Py_ssize_t size"],
+        callfunction="wrap_PyMem_RawMalloc",
+    )
+
+    test_PyMem_Calloc = CPyExtFunction(
+        lambda args: args[0],
+        lambda: (
+            (1,),
+            (100,),
+            (100000,),
+        ),
+        code='''
+        Py_ssize_t wrap_PyMem_Calloc(Py_ssize_t size) {
+            Py_ssize_t i;
+            char *buf = (char *) PyMem_Calloc(size, 1);
+            if (buf == NULL) {
+                return -1;
+            }
+            for (i = 0; i < size && buf[i] == 0; i++);
+            PyMem_Free(buf);
+            return i;
+        }
+        ''',
+        resultspec="n",
+        argspec="n",
+        arguments=["Py_ssize_t size"],
+        callfunction="wrap_PyMem_Calloc",
+    )
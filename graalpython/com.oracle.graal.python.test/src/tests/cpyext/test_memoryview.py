@@ -40,7 +40,7 @@
 import itertools
 import sys
 
-from . import CPyExtTestCase, CPyExtFunction, CPyExtType, unhandled_error_compare_with_message, unhandled_error_compare
+from . import CPyExtTestCase, CPyExtFunction, CPyExtType, unhandled_error_compare_with_message, unhandled_error_compare, GRAALPYTHON
 
 __dir__ = __file__.rpartition("/")[0]
 
@@ -478,3 +478,72 @@ class TestObject(object):
         mv1.release()
         mv3.release()
         assert obj.get_bufcount() == 0
+
+    def test_managed_buffer_interleaved_writes(self):
+        import array
+        TestType = CPyExtType(
+            "TestMemoryViewBuffer2",
+            """
+            static char* to_native(void* ptr) {
+                /* storing the pointer in native memory forces a managed buffer to native */
+                void** slot = (void**) malloc(sizeof(void*));
+                char* result;
+                slot[0] = ptr;
+                result = (char*) slot[0];
+                free(slot);
+                return result;
+            }
+
+            PyObject* write_around(PyObject* self, PyObject* args) {
+                PyObject* obj;
+                PyObject* callback;
+                PyObject* result;
+                Py_buffer view;
+                char* buf;
+                char first, second;
+                if (!PyArg_ParseTuple(args, "OO", &obj, &callback)) {
+                    return NULL;
+                }
+                if (PyObject_GetBuffer(obj, &view, PyBUF_WRITABLE) < 0) {
+                    return NULL;
+                }
+                buf = to_native(view.buf);
+                buf[0] = 'a';
+                result = PyObject_CallObject(callback, NULL);
+                if (result == NULL) {
+                    PyBuffer_Release(&view);
+                    return NULL;
+                }
+                Py_DECREF(result);
+                buf[2] = 'c';
+                /* reads through the original and the native pointer must agree */
+                first = ((char*) view.buf)[0];
+                second = buf[1];
+                PyBuffer_Release(&view);
+                return Py_BuildValue("(cc)", first, second);
+            }
+            """,
+            tp_methods='{"write_around", write_around, METH_VARARGS, ""}',
+        )
+        obj = TestType()
+
+        # native writes become visible once the buffer is released
+        a = array.array('b', b'0123')
+        assert obj.write_around(a, lambda: None) == (b'a', b'1')
+        assert a.tobytes() == b'a1c3'
+
+        def write_from_python():
+            a[1] = ord('B')
+
+        a = array.array('b', b'0123')
+        first, second = obj.write_around(a, write_from_python)
+        # native writes are never lost
+        assert first == b'a'
+        if GRAALPYTHON:
+            # the managed array cannot share its storage with native code, so the Python write
+            # is not visible to native code and the native contents are written back on release
+            assert second == b'1'
+            assert a.tobytes() == b'a1c3'
+        else:
+            assert second == b'B'
+            assert a.tobytes() == b'aBc3'
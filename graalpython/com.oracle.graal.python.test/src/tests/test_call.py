@@ -417,3 +417,108 @@ def test_multiple_starargs():
 
     assert foo(*(1, 2), *gen()) == (1, 2, 3, 4)
     assert foo(0, *[1], 2, *gen(), 5) == (0, 1, 2, 3, 4, 5)
+
+
+def test_constant_keywords_polymorphic_callees():
+    def f(a, b=2, *, c=3):
+        return (a, b, c)
+
+    def g(c, b, a=1):
+        return (a, b, c)
+
+    def h(a, /, b, **kwargs):
+        return (a, b, kwargs)
+
+    def call(fn):
+        return fn(1, b=20, c=30)
+
+    for _ in range(20):
+        assert call(f) == (1, 20, 30)
+        try:
+            call(g)
+        except TypeError as e:
+            assert "multiple values for argument 'c'" in str(e)
+        else:
+            assert False
+        assert call(h) == (1, 20, {'c': 30})
+
+    def call_varying(fn, **kwargs):
+        return fn(1, **kwargs)
+
+    for _ in range(20):
+        assert call_varying(f, b=5) == (1, 5, 3)
+        assert call_varying(f, c=6) == (1, 2, 6)
+        try:
+            call_varying(f, a=6)
+        except TypeError as e:
+            assert "multiple values for argument 'a'" in str(e)
+        else:
+            assert False
+
+
+def test_forwarded_kwargs_are_independent():
+    def inner(*args, **kwargs):
+        kwargs['added'] = True
+        return args, kwargs
+
+    def wrapper(*args, **kwargs):
+        result = inner(*args, **kwargs)
+        return result, kwargs
+
+    class Proxy:
+        def __call__(self, *args, **kwargs):
+            kwargs.pop('a', None)
+            return inner(*args, **kwargs)
+
+    for _ in range(20):
+        d = {'a': 1, 'b': 2}
+        (args, inner_kwargs), outer_kwargs = wrapper(1, 2, **d)
+        assert args == (1, 2)
+        assert inner_kwargs == {'a': 1, 'b': 2, 'added': True}
+        assert outer_kwargs == {'a': 1, 'b': 2}
+        assert d == {'a': 1, 'b': 2}
+        assert Proxy()(3, **d) == ((3,), {'b': 2, 'added': True})
+        assert d == {'a': 1, 'b': 2}
+        assert wrapper(self=1) == (((), {'self': 1, 'added': True}), {'self': 1})
+
+
+def test_constant_keywords_fallbacks():
+    class C:
+        def m(self, a, b=2, *, c=3):
+            return (a, b, c)
+
+        def v(self, *args, c=3):
+            return (args, c)
+
+    def f(a, b=2, *args, c, **kwargs):
+        return (a, b, args, c, kwargs)
+
+    def call_method(o):
+        return o.m(1, c=30)
+
+    def call_varargs(fn):
+        return fn(1, 2, 3, c=4)
+
+    def call_dup(fn):
+        return fn(1, a=2, c=3)
+
+    for _ in range(20):
+        o = C()
+        assert call_method(o) == (1, 2, 30)
+        assert o.v(1, 2, c=4) == ((1, 2), 4)
+        assert call_varargs(f) == (1, 2, (3,), 4, {})
+        assert f(1, c=4, d=5) == (1, 2, (), 4, {'d': 5})
+        try:
+            call_dup(f)
+        except TypeError as e:
+            assert "multiple values for argument 'a'" in str(e)
+        else:
+            assert False
+        try:
+            f(1, b=2)
+        except TypeError as e:
+            assert "missing 1 required keyword-only argument: 'c'" in str(e)
+        else:
+            assert False
+        assert dict(a=1, b=2) == {'a': 1, 'b': 2}
+        assert sorted([3, 1, 2], reverse=True) == [3, 2, 1]
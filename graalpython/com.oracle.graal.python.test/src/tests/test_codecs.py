@@ -361,3 +361,25 @@ class UTFByteOrderTest(unittest.TestCase):
             self.assertEqual(b'\x02\xf6\x01\x00'.decode('utf-32'), "😂")
         else:
             self.assertEqual(b'\x00\x01\xf6\x02'.decode('utf-32'), "😂")
+
+
+class DirectCodecsTest(unittest.TestCase):
+    def test_valid_input(self):
+        s = "ascii Příliš 日本 😂"
+        for enc in ("utf-8", "utf8", "utf-16-le", "utf-16-be", "utf-32-le", "utf-32-be"):
+            self.assertEqual(s.encode(enc).decode(enc), s)
+        self.assertEqual(bytearray(b"abc").decode("ascii"), "abc")
+        self.assertEqual(b"\xe9t\xe9".decode("latin-1"), "été")
+        self.assertEqual("été".encode("latin-1"), b"\xe9t\xe9")
+        self.assertEqual(b"\xef\xbb\xbfa".decode("utf-8"), "﻿a")
+
+    def test_invalid_input_falls_back(self):
+        self.assertRaises(UnicodeDecodeError, b"a\xffb".decode, "utf-8")
+        self.assertEqual(b"a\xffb".decode("utf-8", "replace"), "a�b")
+        self.assertRaises(UnicodeDecodeError, b"\xed\xa0\x80".decode, "utf-8")
+        self.assertEqual(b"a\x80".decode("ascii", "ignore"), "a")
+        self.assertRaises(UnicodeDecodeError, b"abc".decode, "utf-16-le")
+        self.assertRaises(UnicodeEncodeError, "\udc80".encode, "utf-8")
+        self.assertEqual("a\udc80".encode("utf-8", "surrogateescape"), b"a\x80")
+        self.assertEqual("é".encode("ascii", "xmlcharrefreplace"), b"&#233;")
+        self.assertEqual(codecs.utf_8_decode(b"ab\xc3", "strict", False), ("ab", 2))
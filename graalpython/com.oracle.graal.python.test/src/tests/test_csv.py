@@ -37,6 +37,7 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
+import sys
 import unittest
 import csv
 from tempfile import TemporaryFile
@@ -100,6 +101,83 @@ class TestDialectValidity(unittest.TestCase):
         self.assertEqual(d.escapechar, "")
 
 
-
-
-
+class TestReader(unittest.TestCase):
+
+    def test_fields(self):
+        lines = ['a,bb,,"q,uo""ted",x\\,y\r\n', '"multi\n', 'line",end\n', '\n', 'last']
+        self.assertEqual(list(csv.reader(lines, escapechar="\\")),
+                         [['a', 'bb', '', 'q,uo"ted', 'x,y'], ['multi\nline', 'end'], [], ['last']])
+        self.assertEqual(list(csv.reader(['a, b,  c'], skipinitialspace=True)), [['a', 'b', 'c']])
+        self.assertEqual(list(csv.reader(['"a"b,c'])), [['ab', 'c']])
+        self.assertEqual(list(csv.reader(['1,2.5,"x"'], quoting=csv.QUOTE_NONNUMERIC)), [[1.0, 2.5, 'x']])
+
+    def test_field_size_limit(self):
+        old = csv.field_size_limit(5)
+        try:
+            self.assertEqual(list(csv.reader(['12345,"12345"'])), [['12345', '12345']])
+            self.assertRaises(csv.Error, lambda: list(csv.reader(['123456'])))
+            self.assertRaises(csv.Error, lambda: list(csv.reader(['"12\n', '3456"'])))
+        finally:
+            csv.field_size_limit(old)
+
+    @unittest.skipIf(sys.implementation.name != 'graalpy', "parse_numbers is a GraalPy extension")
+    def test_parse_numbers(self):
+        self.assertEqual(list(csv.reader(['1,-2,+3'], parse_numbers=True)), [[1, -2, 3]])
+        rows = list(csv.reader(['1.5,2e3,"3",x,,12345678901234567890,.5,1.,-,e5'], parse_numbers=True))
+        self.assertEqual(rows, [[1.5, 2000.0, '3', 'x', '', 12345678901234567890, 0.5, 1.0, '-', 'e5']])
+        self.assertEqual(list(csv.reader(['1;2'], delimiter=';', parse_numbers=False)), [['1', '2']])
+
+    @unittest.skipIf(sys.implementation.name != 'graalpy', "parse_numbers is a GraalPy extension")
+    def test_parse_numbers_quote_nonnumeric(self):
+        reader = csv.reader(['1,2.5,"x",inf'], quoting=csv.QUOTE_NONNUMERIC, parse_numbers=True)
+        self.assertEqual(list(reader), [[1, 2.5, 'x', float('inf')]])
+        with self.assertRaises(ValueError):
+            list(csv.reader(['1,x'], quoting=csv.QUOTE_NONNUMERIC, parse_numbers=True))
+
+
+class TestWriter(unittest.TestCase):
+
+    class Sink:
+        def __init__(self):
+            self.chunks = []
+
+        def write(self, s):
+            self.chunks.append(s)
+
+    def test_writerows(self):
+        sink = self.Sink()
+        w = csv.writer(sink, lineterminator='\n')
+        w.writerows([[1, 'a,b', None], [], ['q"uote', 2.5], ['']])
+        self.assertEqual(''.join(sink.chunks), '1,"a,b",\n\n"q""uote",2.5\n""\n')
+        sink = self.Sink()
+        csv.writer(sink).writerows(iter([]))
+        self.assertEqual(sink.chunks, [])
+
+    def test_writerows_error(self):
+        def rows():
+            yield ['a', 'b']
+            yield ['c']
+            raise ZeroDivisionError
+
+        sink = self.Sink()
+        self.assertRaises(ZeroDivisionError, csv.writer(sink, lineterminator='\n').writerows, rows())
+        self.assertEqual(''.join(sink.chunks), 'a,b\nc\n')
+        sink = self.Sink()
+        w = csv.writer(sink, lineterminator='\n', quoting=csv.QUOTE_NONE)
+        self.assertRaises(csv.Error, w.writerows, [['x'], ['a,b'], ['y']])
+        self.assertEqual(''.join(sink.chunks), 'x\n')
+
+    @unittest.skipIf(sys.implementation.name != 'graalpy', "write_batch_size is a GraalPy extension")
+    def test_write_batch_size(self):
+        sink = self.Sink()
+        csv.writer(sink, lineterminator='\n').writerows([['a'], ['b']])
+        # batching is opt-in
+        self.assertEqual(sink.chunks, ['a\n', 'b\n'])
+        sink = self.Sink()
+        w = csv.writer(sink, write_batch_size=4, lineterminator='\n')
+        w.writerows([['ab'], ['c'], ['d'], ['efgh'], ['i']])
+        self.assertEqual(sink.chunks, ['ab\nc\n', 'd\nefgh\n', 'i\n'])
+        sink = self.Sink()
+        csv.writer(sink, write_batch_size=0, delimiter=';').writerows([[1, 2], [3]])
+        self.assertEqual(sink.chunks, ['1;2\r\n', '3\r\n'])
+        self.assertRaises(ValueError, csv.writer, sink, write_batch_size=-1)
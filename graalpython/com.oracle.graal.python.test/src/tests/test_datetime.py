@@ -0,0 +1,109 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import datetime
+import unittest
+from datetime import date, time, timedelta, timezone
+
+
+class TestDateTime(unittest.TestCase):
+
+    def test_ordinal_roundtrip(self):
+        for n in (1, 59, 60, 365, 366, 730120, 730179, 736695, 3652059):
+            self.assertEqual(date.fromordinal(n).toordinal(), n)
+        self.assertEqual(date.fromordinal(730179), date(2000, 2, 29))
+        self.assertEqual(date.fromordinal(3652059), date.max)
+        self.assertEqual(date(2004, 12, 31).toordinal(), 731946)
+        self.assertRaises(ValueError, date.fromordinal, 0)
+
+    def test_field_checks(self):
+        self.assertRaises(ValueError, date, 2021, 2, 29)
+        self.assertRaises(ValueError, date, 0, 1, 1)
+        self.assertRaises(ValueError, datetime.datetime, 2020, 13, 1)
+        self.assertRaises(ValueError, time, 12, 60)
+        self.assertRaises(ValueError, time, 12, 0, 0, 1000000)
+        self.assertRaises(ValueError, time, 12, fold=2)
+        self.assertRaises(TypeError, date, 2020.0, 1, 1)
+        self.assertEqual(date(2020, True, 1), date(2020, 1, 1))
+
+        class Index:
+            def __index__(self):
+                return 7
+        self.assertEqual(date(2020, Index(), Index()), date(2020, 7, 7))
+
+    def test_isoformat(self):
+        dt = datetime.datetime(2020, 2, 29, 3, 4, 5, 60789)
+        self.assertEqual(dt.isoformat(), '2020-02-29T03:04:05.060789')
+        self.assertEqual(dt.isoformat(' ', 'hours'), '2020-02-29 03')
+        self.assertEqual(dt.isoformat(timespec='minutes'), '2020-02-29T03:04')
+        self.assertEqual(dt.isoformat(timespec='seconds'), '2020-02-29T03:04:05')
+        self.assertEqual(dt.isoformat(timespec='milliseconds'), '2020-02-29T03:04:05.060')
+        self.assertEqual(dt.isoformat(timespec='microseconds'), '2020-02-29T03:04:05.060789')
+        self.assertEqual(dt.replace(microsecond=0).isoformat(), '2020-02-29T03:04:05')
+        self.assertEqual(time(23, 59).isoformat(), '23:59:00')
+        self.assertRaises(ValueError, dt.isoformat, timespec='days')
+
+    def test_fromisoformat(self):
+        for s in ('2020-02-29T03:04:05.060789', '2020-02-29T03:04:05.060', '2020-02-29 03:04',
+                  '2020-02-29T03', '2020-02-29'):
+            dt = datetime.datetime.fromisoformat(s)
+            self.assertEqual(dt, datetime.datetime.fromisoformat(dt.isoformat()))
+        self.assertEqual(datetime.datetime.fromisoformat('2020-02-29T03:04:05.060'),
+                         datetime.datetime(2020, 2, 29, 3, 4, 5, 60000))
+        self.assertEqual(datetime.datetime.fromisoformat('2020-01-01T12:30+01:00'),
+                         datetime.datetime(2020, 1, 1, 12, 30, tzinfo=timezone(timedelta(hours=1))))
+        self.assertEqual(date.fromisoformat('1999-12-31'), date(1999, 12, 31))
+        self.assertEqual(time.fromisoformat('12:30:01.5000'[:-1]), time(12, 30, 1, 500000))
+        for s in ('2020-1-01', '2020/01/01', '2020-01-0x', '2020-01-01T1', '2020-01-01T12:3x',
+                  '2020-01-01T12;30'):
+            self.assertRaises(ValueError, datetime.datetime.fromisoformat, s)
+
+    def test_hash(self):
+        dt = datetime.datetime(2020, 5, 5, 1, 2, 3)
+        self.assertEqual(hash(dt), hash(dt.replace(fold=1)))
+        self.assertEqual(len({dt, datetime.datetime(2020, 5, 5, 1, 2, 3), dt.date(), date(2020, 5, 5)}), 2)
+        plus_one = timezone(timedelta(hours=1))
+        self.assertEqual(hash(time(12, 0, tzinfo=timezone.utc)), hash(time(13, 0, tzinfo=plus_one)))
+        self.assertEqual(hash(datetime.datetime(2020, 1, 1, 12, tzinfo=timezone.utc)),
+                         hash(datetime.datetime(2020, 1, 1, 13, tzinfo=plus_one)))
+
+    def test_strftime(self):
+        dt = datetime.datetime(2020, 2, 29, 3, 4, 5, 60789, tzinfo=timezone.utc)
+        self.assertEqual(dt.strftime('%Y-%m-%d %H:%M:%S'), '2020-02-29 03:04:05')
+        self.assertEqual(dt.strftime('%f %%f %z %Z'), '060789 %f +0000 UTC')
+        self.assertEqual(dt.strftime('100%%'), '100%')
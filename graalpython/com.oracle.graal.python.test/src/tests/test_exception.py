@@ -626,6 +626,102 @@ class ExceptionTests(unittest.TestCase):
         self.assertIsNone(e.__cause__)
         self.assertTrue(e.__suppress_context__)
 
+    def test_implicit_chaining_ignoring_handler(self):
+        def lookup(d, k):
+            try:
+                return d[k]
+            except KeyError:
+                return undefined_name_in_handler
+
+        try:
+            lookup({}, "missing")
+        except NameError as exc:
+            e = exc
+        self.assertEqual(type(e.__context__), KeyError)
+        self.assertEqual(e.__context__.args[0], "missing")
+
+    def test_exc_info_in_code_called_from_handler(self):
+        seen = []
+
+        class Recorder:
+            def __setitem__(self, key, value):
+                seen.append(sys.exc_info()[0])
+
+            @property
+            def prop(self):
+                seen.append(sys.exc_info()[0])
+
+            def __eq__(self, other):
+                seen.append(sys.exc_info()[0])
+                return True
+
+            __hash__ = None
+
+        def set_item(d, r):
+            try:
+                d["missing"]
+            except KeyError:
+                r["missing"] = None
+
+        def get_property(d, r):
+            try:
+                d["missing"]
+            except KeyError:
+                r.prop
+
+        def compare(d, r):
+            try:
+                d["missing"]
+            except KeyError:
+                return r == 1
+
+        for f in (set_item, get_property, compare):
+            f({}, Recorder())
+        self.assertEqual(seen, [KeyError, KeyError, KeyError])
+
+    def test_exc_info_in_globals_lookup_from_handler(self):
+        seen = []
+
+        class Globals(dict):
+            def __getitem__(self, key):
+                seen.append(sys.exc_info()[0])
+                return dict.__getitem__(self, key)
+
+        g = Globals(KeyError=KeyError)
+        exec("def f(d):\n  try:\n    d['missing']\n  except KeyError:\n    return value\n", g)
+        g["value"] = 42
+        self.assertEqual(g["f"]({}), 42)
+        self.assertIn(KeyError, seen)
+
+    def test_exc_info_after_ignoring_handler(self):
+        def lookup(d, k):
+            try:
+                return d[k]
+            except KeyError:
+                return None
+
+        try:
+            raise TypeError
+        except TypeError:
+            self.assertIsNone(lookup({}, "x"))
+            try:
+                raise ValueError
+            except ValueError:
+                pass
+            self.assertEqual(sys.exc_info()[0], TypeError)
+        self.assertEqual(sys.exc_info(), (None, None, None))
+
+    def test_stop_iteration_ignoring_handler(self):
+        it = iter(range(3))
+        count = 0
+        while True:
+            try:
+                count += next(it)
+            except StopIteration:
+                break
+        self.assertEqual(count, 3)
+        self.assertEqual(sys.exc_info(), (None, None, None))
+
     def test_encoding_err(self):
         errMsg = ""
         try:
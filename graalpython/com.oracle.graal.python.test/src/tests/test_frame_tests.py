@@ -38,6 +38,7 @@
 # SOFTWARE.
 
 import sys
+import unittest
 
 
 # IMPORTANT: DO NOT MOVE!
@@ -140,3 +141,50 @@ def test_builtins():
 #         assert e.__traceback__.tb_frame.f_back.f_code == sys._getframe(0).f_back.f_code
 #         assert e.__traceback__.tb_next.tb_next.tb_frame.f_back.f_code == foo.__code__
 #         assert e.__traceback__.tb_next.tb_frame.f_back.f_code == test_backref_from_traceback.__code__
+
+
+@unittest.skipIf(sys.implementation.name != "graalpy", "uses __graalpython__.caller_location")
+def test_caller_location():
+    def callee(depth):
+        return __graalpython__.caller_location(depth)
+
+    def caller(depth):
+        return callee(depth)
+
+    assert caller(0)[0].co_name == "callee"
+    assert caller(1)[0].co_name == "caller"
+    code, lineno = caller(2)
+    assert code.co_name == "test_caller_location"
+    assert code.co_filename == sys._getframe().f_code.co_filename
+    assert lineno == sys._getframe().f_lineno - 3
+    assert caller(10000) is None
+
+
+def test_logging_records_caller():
+    import logging
+
+    records = []
+
+    class Handler(logging.Handler):
+        def emit(self, record):
+            records.append(record)
+
+    logger = logging.getLogger("test_logging_records_caller")
+    logger.propagate = False
+    handler = Handler()
+    logger.addHandler(handler)
+    try:
+        def log_from_helper():
+            logger.warning("from helper", stacklevel=2)
+
+        logger.warning("direct")
+        log_from_helper()
+        logger.warning("with stack", stack_info=True)
+        lineno = test_logging_records_caller.__code__.co_firstlineno
+        assert [r.funcName for r in records] == ["test_logging_records_caller"] * 3
+        assert records[0].lineno == lineno + 17, records[0].lineno
+        assert records[1].lineno == lineno + 18, records[1].lineno
+        assert records[2].lineno == lineno + 19, records[2].lineno
+        assert records[0].pathname == test_logging_records_caller.__code__.co_filename
+    finally:
+        logger.removeHandler(handler)
@@ -0,0 +1,124 @@
+# Copyright (c) 2019, 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import hashlib
+import threading
+import unittest
+
+DATA = b"The quick brown fox jumps over the lazy dog"
+
+
+class TestHashlib(unittest.TestCase):
+
+    def test_vectors(self):
+        expected = {
+            'md5': '9e107d9d372bb6826bd81d3542a419d6',
+            'sha1': '2fd4e1c67a2d28fced849ee1bb76e7391b93eb12',
+            'sha224': '730e109bd7a8a32b1cb9d9a09aa2325d2430587ddbc0c38bad911525',
+            'sha256': 'd7a8fbb307d7809469ca9abcb0082e4f8d5651e46d3cdb762d02d0bf37c9e592',
+            'sha384': 'ca737f1014a48f4c0b6dd43cb177b0afd9e5169367544c494011e3317dbf9a509cb1e5dc1e85a941bbee3d7f2afbc9b1',
+            'sha512': '07e547d9586f6a73f73fbac0435ed76951218fb7d0c8d788a309d785436bbb642e93a252a954f23912547d1e8a3b5ed6e1bfd7097821233fa0538f3db854fee6',
+            'sha3_224': 'd15dadceaa4d5d7bb3b48f446421d542e08ad8887305e28d58335795',
+            'sha3_256': '69070dda01975c8c120c3aada1b282394e7f032fa9cf32f4cb2259a0897dfc04',
+            'blake2b': 'a8add4bdddfd93e4877d2746e62817b116364a1fa7bc148d95090bc7333b3673f82401cf7aa2e4cb1ecd90296e3f14cb5413f8ed77be73045b13914cdcd6a918',
+            'blake2s': '606beeec743ccbeff6cbcdf5d5302aa855c256c29b88c8ed331ea1a6bf3c8812',
+        }
+        for name, digest in expected.items():
+            self.assertEqual(hashlib.new(name, DATA).hexdigest(), digest, name)
+            self.assertEqual(getattr(hashlib, name)(DATA).digest(), bytes.fromhex(digest), name)
+        self.assertEqual(hashlib.shake_128(DATA).hexdigest(16), 'f4202e3c5852f9182a0430fd8144f0a7')
+        self.assertEqual(len(hashlib.shake_256(b'').digest(100)), 100)
+
+    def test_attributes(self):
+        for name, digest_size, block_size in [('md5', 16, 64), ('sha1', 20, 64), ('sha256', 32, 64), ('sha512', 64, 128),
+                                              ('sha3_256', 32, 136), ('shake_128', 0, 168), ('blake2b', 64, 128), ('blake2s', 32, 64)]:
+            h = hashlib.new(name)
+            self.assertEqual(h.name, name)
+            self.assertEqual(h.digest_size, digest_size, name)
+            self.assertEqual(h.block_size, block_size, name)
+
+    def test_update_and_copy(self):
+        for name in ['md5', 'sha1', 'sha256', 'sha3_512', 'blake2s']:
+            h = hashlib.new(name, DATA[:10])
+            c = h.copy()
+            h.update(memoryview(DATA)[10:])
+            self.assertEqual(h.digest(), hashlib.new(name, DATA).digest(), name)
+            c.update(bytearray(DATA[10:20]))
+            self.assertEqual(c.digest(), hashlib.new(name, DATA[:20]).digest(), name)
+            # digest() does not finalize the object
+            self.assertEqual(h.digest(), h.digest())
+        self.assertRaises(TypeError, hashlib.md5, 'str')
+        self.assertRaises(TypeError, hashlib.sha256().update, 'str')
+        self.assertRaises(TypeError, hashlib.shake_128().digest)
+
+    def test_blake2_params(self):
+        h = hashlib.blake2b(DATA, digest_size=32, key=b'secret', salt=b'salt', person=b'me')
+        self.assertEqual(h.hexdigest(), '1ef21e6abdfd50d31fd6571187169cb616e51002c88a8f6d0f06f3fc2697eaa6')
+        self.assertEqual(hashlib.blake2s(DATA, digest_size=16, key=b'k').digest_size, 16)
+        self.assertEqual(hashlib.blake2b(salt=b'').digest(), hashlib.blake2b().digest())
+        self.assertRaises(ValueError, hashlib.blake2b, digest_size=65)
+        self.assertRaises(ValueError, hashlib.blake2s, salt=b'x' * 9)
+        self.assertRaises(ValueError, hashlib.blake2s, key=b'x' * 33)
+
+    def test_threads(self):
+        data = bytes(range(256)) * 8192
+        expected = hashlib.sha256(data).hexdigest()
+        results = []
+
+        def run():
+            results.append(hashlib.sha256(data).hexdigest())
+
+        threads = [threading.Thread(target=run) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual(results, [expected] * 4)
+
+        h = hashlib.sha1()
+
+        def update():
+            for _ in range(8):
+                h.update(data)
+
+        threads = [threading.Thread(target=update) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual(h.hexdigest(), hashlib.sha1(data * 32).hexdigest())
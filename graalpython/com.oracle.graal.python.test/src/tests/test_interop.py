@@ -621,6 +621,44 @@ if sys.implementation.name == "graalpy":
         else:
             assert False, "should throw a type error again"
 
+    @skipIf(is_native, "not supported in native mode")
+    def test_foreign_array_to_list():
+        import java
+        il = java.type("int[]")(5)
+        for i in range(5):
+            il[i] = i * 10
+        assert list(il) == [0, 10, 20, 30, 40]
+        assert sum(list(il)) == 100
+        assert il[1:4] == [10, 20, 30]
+        assert il[::-2] == [40, 20, 0]
+        assert il[4:1:-1] == [40, 30, 20]
+        dl = java.type("double[]")(2)
+        dl[1] = 1.5
+        assert list(dl) == [0.0, 1.5]
+
+    @skipIf(is_native, "not supported in native mode")
+    def test_foreign_buffer_memoryview():
+        import java
+        bb = java.type("java.nio.ByteBuffer").allocate(4)
+        bb.put(0, 7)
+        mv = memoryview(bb)
+        assert len(mv) == 4
+        assert not mv.readonly
+        assert mv[0] == 7
+        mv[1] = 9
+        assert bb.get(1) == 9
+        assert mv.tobytes() == b'\x07\x09\x00\x00'
+        assert memoryview(bb.asReadOnlyBuffer()).readonly
+        # the foreign buffer shrinks after the view was created
+        bb.limit(2)
+        assert mv[1] == 9
+        try:
+            mv[3]
+        except IndexError:
+            pass
+        else:
+            assert False, "should raise IndexError"
+
     @skipIf(is_native, "not supported in native mode")
     def test_foreign_repl():
         from java.util.logging import LogRecord
@@ -149,6 +149,39 @@ if (platform.system() == 'Java' or sys.implementation.name == "graalpy") and \
         instance = StringBuilder("aaa")
 
 
+    class BulkConversionTest(unittest.TestCase):
+        def test_primitive_lists(self):
+            ints = list(range(1000))
+            self.assertEqual(list(jarray.array(ints, 'i')), ints)
+            self.assertEqual(list(jarray.array(ints, 'l')), ints)
+            self.assertEqual(list(jarray.array(ints, 'd')), [float(i) for i in ints])
+            longs = [i * 1099511627776 for i in range(100)]
+            self.assertEqual(list(jarray.array(longs, 'l')), longs)
+            doubles = [i / 3 for i in range(100)]
+            self.assertEqual(list(jarray.array(doubles, 'd')), doubles)
+            bools = [i % 3 == 0 for i in range(100)]
+            self.assertEqual(list(jarray.array(bools, 'z')), bools)
+
+        def test_copy_is_independent(self):
+            ints = [1, 2, 3]
+            array = jarray.array(ints, 'i')
+            ints[0] = 42
+            ints.append(4)
+            self.assertEqual(len(array), 3)
+            self.assertEqual(array[0], 1)
+
+        def test_dict_views(self):
+            d = {i: i * 0.5 for i in range(100)}
+            self.assertEqual(list(jarray.array(d.keys(), 'i')), list(d.keys()))
+            self.assertEqual(list(jarray.array(d.values(), 'd')), list(d.values()))
+
+        def test_narrowing_is_checked(self):
+            with self.assertRaises(TypeError):
+                jarray.array([1, 2 ** 40], 'i')
+            with self.assertRaises(TypeError):
+                jarray.array([1.5, 2.5], 'i')
+
+
     class ErrorTest(unittest.TestCase):
         def test_wrong_type(self):
             with self.assertRaises(ValueError):
@@ -39,6 +39,11 @@
 
 import unittest
 
+try:
+    import _json
+except ImportError:
+    _json = None
+
 BIGINT_JSON_DATA = '''
 {
   "int_values": [
@@ -83,3 +88,93 @@ class JsonTest(unittest.TestCase):
             1521583201347000000,
             10,
         }
+
+    def test_load_numeric_arrays(self):
+        import json
+        data = json.loads('[[1, 2, -3], [1.5, -2e3], [1, 2.5], [true, false], [], [12345678901234567890, 1]]')
+        assert data == [[1, 2, -3], [1.5, -2000.0], [1, 2.5], [True, False], [], [12345678901234567890, 1]]
+        assert [type(x) for x in data[2]] == [int, float]
+        assert [type(x) for x in data[3]] == [bool, bool]
+        # lists produced by the scanner must still accept any item
+        data[0].append("x")
+        data[1][0] = None
+        assert data[0] == [1, 2, -3, "x"]
+        assert data[1] == [None, -2000.0]
+
+    def test_load_parse_hooks(self):
+        import json
+        from decimal import Decimal
+        assert json.loads('[1.5, 2]', parse_float=Decimal, parse_int=str) == [Decimal('1.5'), '2']
+        assert json.loads('{"a": {"b": 1}}', object_hook=lambda d: sorted(d.items())) == [('a', [('b', 1)])]
+        assert json.loads('{"a": 1, "b": 2}', object_pairs_hook=list) == [('a', 1), ('b', 2)]
+
+    def test_load_non_ascii(self):
+        import json
+        assert json.loads('{"kéy": "\U0001f600 \\u00e9"}') == {"kéy": "\U0001f600 é"}
+        decoder = json.JSONDecoder()
+        s = '["\U0001f600\U0001f600"] ["x"]'
+        obj, end = decoder.raw_decode(s)
+        assert obj == ["\U0001f600\U0001f600"]
+        assert end == 6
+        assert decoder.raw_decode(s, 7) == (["x"], 12)
+
+    def test_load_error_position(self):
+        import json
+        for s, pos in [('[1, 2', 5), ('{"\U0001f600": 1,}', 8), ('["\U0001f600", x]', 6)]:
+            try:
+                json.loads(s)
+            except json.JSONDecodeError as e:
+                assert e.pos == pos, (s, e.pos)
+                assert e.doc == s
+            else:
+                assert False, s
+
+    @unittest.skipIf(not hasattr(_json, "iterload"), "_json.iterload is GraalPy specific")
+    def test_iterload(self):
+        import io
+        import json
+        docs = [{"a": [1, 2, {"b": "x\\\"]}"}]}, [1, "é\U0001f600", None], 12, "s", True, -1.5e3, {}]
+        ndjson = "\n".join(json.dumps(d, ensure_ascii=False) for d in docs) + "\n"
+        array = json.dumps(docs, ensure_ascii=False)
+        for n in (1, 2, 3, 7, 64):
+            text_chunks = [ndjson[i:i + n] for i in range(0, len(ndjson), n)]
+            assert list(_json.iterload(text_chunks)) == docs, n
+            assert list(_json.iterload(io.BytesIO(ndjson.encode()), chunk_size=n)) == docs, n
+            array_chunks = [array[i:i + n].encode() for i in range(0, len(array), n)]
+            assert list(_json.iterload(array_chunks, items=True)) == docs, n
+        assert list(_json.iterload(io.StringIO(" [ 1 ,2 ] "), items=True)) == [1, 2]
+        assert list(_json.iterload([b'[1.5]'], items=True, parse_float=str)) == ['1.5']
+        for bad, items in [("[1, 2", True), ('{"a": 1', False), ("[1,]", True), ("[1] 2", True), ('"abc', False)]:
+            try:
+                list(_json.iterload([bad], items=items))
+            except json.JSONDecodeError:
+                pass
+            else:
+                assert False, bad
+
+    def test_dump_numeric_lists(self):
+        import json
+        assert json.dumps([1, 2, -3]) == "[1, 2, -3]"
+        assert json.dumps([1, 2 ** 40, -3]) == "[1, 1099511627776, -3]"
+        assert json.dumps([1, 2 ** 70]) == "[1, 1180591620717411303424]"
+        assert json.dumps([1.0, -0.0, 0.0, 2.5, 1e16, 1e15, -123456.0]) == "[1.0, -0.0, 0.0, 2.5, 1e+16, 1000000000000000.0, -123456.0]"
+        assert json.dumps((1.5, float("inf"), float("nan"))) == "[1.5, Infinity, NaN]"
+        assert json.dumps([1.5, 2.5], separators=(",", ":")) == "[1.5,2.5]"
+        try:
+            json.dumps([1.0, float("inf")], allow_nan=False)
+        except ValueError:
+            pass
+        else:
+            assert False
+
+    def test_dump_sort_keys(self):
+        import json
+        d = {"b": 1, "a": [1, 2], "\U0001f600": None, "é": 2, "A": {"z": 1, "y": 2}}
+        assert json.dumps(d, sort_keys=True) == '{"A": {"y": 2, "z": 1}, "a": [1, 2], "b": 1, "\\u00e9": 2, "\\ud83d\\ude00": null}'
+        assert json.dumps({2: "x", 1: "y"}, sort_keys=True) == '{"1": "y", "2": "x"}'
+        try:
+            json.dumps({"a": 1, 2: 3}, sort_keys=True)
+        except TypeError:
+            pass
+        else:
+            assert False
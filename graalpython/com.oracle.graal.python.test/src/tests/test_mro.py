@@ -338,4 +338,45 @@ def test_no_value_and_mro_shape():
         pass
 
     c = C()
-    assert c.foo() == 42
\ No newline at end of file
+    assert c.foo() == 42
+
+def test_megamorphic_lookup_invalidation():
+    # enough classes to make the lookup sites below megamorphic
+    class Base:
+        def value(self):
+            return 0
+
+    classes = [type('C%d' % i, (Base,), {}) for i in range(20)]
+    grandchildren = [type('G%d' % i, (cls,), {}) for i, cls in enumerate(classes)]
+
+    def values():
+        return [g().value() for g in grandchildren]
+
+    def has_extra():
+        return [hasattr(g, 'extra') for g in grandchildren]
+
+    assert values() == [0] * 20
+    assert has_extra() == [False] * 20
+
+    Base.value = lambda self: 1
+    assert values() == [1] * 20
+
+    classes[3].value = lambda self: 3
+    result = values()
+    assert result[3] == 3 and result.count(1) == 19
+
+    classes[5].extra = True
+    assert has_extra() == [i == 5 for i in range(20)]
+    del classes[5].extra
+    assert has_extra() == [False] * 20
+
+    del classes[3].value
+    assert values() == [1] * 20
+
+    class Other:
+        def value(self):
+            return 2
+
+    grandchildren[7].__bases__ = (Other,)
+    result = values()
+    assert result[7] == 2 and result.count(1) == 19
@@ -488,3 +488,37 @@ class ReTests(unittest.TestCase):
             r"(//?| ==?)|([[]]+)")
         for m in regex.finditer(''):
             self.fail()
+
+    def test_sub_template_and_empty_matches(self):
+        self.assertEqual(re.sub(r"(a)|b", r"[\1]", "abxab"), "[a][]x[a][]")
+        self.assertEqual(re.sub(r"(?P<d>\d)", r"<\g<d>\g<0>>", "a1b22"), "a<11>b<22><22>")
+        self.assertEqual(re.subn(r"x*", "-", "abxd"), ("-a-b--d-", 5))
+        self.assertEqual(re.subn(r"x*", "-", "abxd", count=2), ("-a-bxd", 2))
+        self.assertEqual(re.sub(r"\d", r"\n", "a1"), "a\n")
+
+    def test_findall_split_unmatched_groups(self):
+        self.assertEqual(re.findall(r"(a)|(b)", "ab"), [("a", ""), ("", "b")])
+        self.assertEqual(re.findall(r"x*", "axb"), ["", "x", "", ""])
+        self.assertEqual(re.compile(r"\d").findall("1a2b3", 1, 4), ["2"])
+        self.assertEqual(re.split(r"(,)|(;)", "a,b;c"), ["a", ",", None, "b", None, ";", "c"])
+        self.assertEqual(re.split(r"x*", "axbc"), ["", "a", "", "b", "c", ""])
+        self.assertEqual(re.split(r",", "a,b,c", maxsplit=1), ["a", "b,c"])
+
+    @unittest.skipIf(sys.implementation.name != 'graalpy', "GraalPy specific")
+    def test_tregex_cache(self):
+        import _sre
+        self.assertIsNotNone(_sre.tregex_cache_info(), "the compiled regex cache is disabled")
+        pattern = r"tregex-cache-test-(\d+)"
+        re.purge()
+        p1 = re.compile(pattern)
+        self.assertEqual(p1.search("tregex-cache-test-42").group(1), "42")
+        hits = _sre.tregex_cache_info()[0]
+        re.purge()
+        p2 = re.compile(pattern)
+        self.assertIsNot(p1, p2)
+        # a new Pattern object for the same source reuses the parsed regex
+        self.assertEqual(p2.search("tregex-cache-test-7").group(1), "7")
+        self.assertIs(p2._Pattern__tregex_compile(), p1._Pattern__tregex_compile())
+        self.assertGreater(_sre.tregex_cache_info()[0], hits)
+        # the options are part of the key, so other methods do not get the search regex
+        self.assertIsNot(p2._Pattern__tregex_compile("match"), p1._Pattern__tregex_compile())
@@ -173,5 +173,52 @@ class TestSlots(unittest.TestCase):
             __slots__ = ('a', 'b')
         self.assertRaises(AttributeError, setattr, C(), 'c', 42)
 
+    def test_many_slots_and_primitive_values(self):
+        names = tuple('s%d' % i for i in range(12))
+        C = type('C', (), {'__slots__': names})
+        objs = [C() for _ in range(3)]
+        for j, obj in enumerate(objs):
+            for i, name in enumerate(names):
+                setattr(obj, name, i * j if i % 3 == 0 else i / 2 if i % 3 == 1 else str(i))
+        for j, obj in enumerate(objs):
+            for i, name in enumerate(names):
+                self.assertEqual(getattr(obj, name), i * j if i % 3 == 0 else i / 2 if i % 3 == 1 else str(i))
+        # generalize a slot that held ints so far
+        objs[0].s0 = 'x'
+        objs[1].s0 = 2 ** 70
+        self.assertEqual(objs[0].s0, 'x')
+        self.assertEqual(objs[1].s0, 2 ** 70)
+        self.assertEqual(objs[2].s0, 0)
+        del objs[2].s1
+        with self.assertRaises(AttributeError):
+            objs[2].s1
+        objs[2].s1 = 1.5
+        self.assertEqual(objs[2].s1, 1.5)
+
+    def test_slots_subclasses(self):
+        class Base:
+            __slots__ = ('a',)
+
+        class Sub(Base):
+            __slots__ = ('b',)
+
+        class WithDict(Base):
+            pass
+
+        class ListSub(list):
+            __slots__ = ('a',)
+
+        s = Sub()
+        s.a, s.b = 1, 2
+        self.assertEqual((s.a, s.b), (1, 2))
+        self.assertFalse(hasattr(s, '__dict__'))
+        w = WithDict()
+        w.a = 1
+        w.c = 3
+        self.assertEqual((w.a, w.c), (1, 3))
+        l = ListSub([1, 2])
+        l.a = 3
+        self.assertEqual((l, l.a), ([1, 2], 3))
+
 if __name__ == "__main__":
     unittest.main()
@@ -199,6 +199,26 @@ class TraceTests(unittest.TestCase):
         if self.events != events:
             self.fail('\n'+'\n'.join(difflib.ndiff([str(x) for x in events], [str(x) for x in self.events])))
 
+    def test_08_exc_info_in_handler(self):
+        def handler():
+            try:
+                raise ValueError
+            except ValueError:
+                return 1
+
+        def exc_info_trace(frame, event, arg):
+            if frame.f_code is handler.__code__ and event == 'line':
+                self.events.append((frame.f_lineno - handler.__code__.co_firstlineno, sys.exc_info()[0]))
+            return exc_info_trace
+
+        self.events = []
+        sys.settrace(exc_info_trace)
+        try:
+            handler()
+        finally:
+            sys.settrace(None)
+        self.assertEqual(self.events[-2:], [(3, ValueError), (4, ValueError)])
+
     def simpler_trace(self, fr, ev, arg):
         self.events.append(fr.f_code.co_name)
 
@@ -46,6 +46,7 @@ import org.graalvm.options.OptionValues;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.TRegexCache;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
@@ -55,6 +56,7 @@ import com.oracle.graal.python.builtins.objects.frame.PFrame;
 import com.oracle.graal.python.builtins.objects.function.BuiltinMethodDescriptor;
 import com.oracle.graal.python.builtins.objects.function.PArguments;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.object.PythonSlotsObject;
 import com.oracle.graal.python.builtins.objects.type.MroShape;
 import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
 import com.oracle.graal.python.builtins.objects.type.PythonManagedClass;
@@ -90,6 +92,7 @@ import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.PythonParser.ParserMode;
+import com.oracle.graal.python.runtime.SourceCallTargetCache;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.util.Function;
@@ -254,6 +257,8 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     private final ConcurrentHashMap<BuiltinMethodDescriptor, RootCallTarget> descriptorCallTargets = new ConcurrentHashMap<>();
 
     private final Shape emptyShape = Shape.newBuilder().allowImplicitCastIntToDouble(false).allowImplicitCastIntToLong(true).shapeFlags(0).propertyAssumptions(true).build();
+    private final Shape emptySlotsShape = Shape.newBuilder().layout(PythonSlotsObject.class).allowImplicitCastIntToDouble(false).allowImplicitCastIntToLong(true).shapeFlags(
+                    PythonObject.HAS_SLOTS_BUT_NO_DICT_FLAG | PythonObject.HAS_SLOTS_LAYOUT_FLAG).propertyAssumptions(true).build();
     @CompilationFinal(dimensions = 1) private final Shape[] builtinTypeInstanceShapes = new Shape[PythonBuiltinClassType.VALUES.length];
 
     @CompilationFinal(dimensions = 1) private static final Object[] CONTEXT_INSENSITIVE_SINGLETONS = new Object[]{PNone.NONE, PNone.NO_VALUE, PEllipsis.INSTANCE, PNotImplemented.NOT_IMPLEMENTED};
@@ -413,6 +418,21 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     @Override
     protected CallTarget parse(ParsingRequest request) {
         PythonContext context = PythonContext.get(null);
+        Source source = request.getSource();
+        SourceCallTargetCache cache = getSourceCallTargetCache();
+        if (cache != null && SourceCallTargetCache.isCacheable(context, source, !request.getArgumentNames().isEmpty())) {
+            SourceCallTargetCache.Key key = SourceCallTargetCache.Key.create(source, context.getOption(PythonOptions.EnableBytecodeInterpreter));
+            CallTarget callTarget = cache.get(key);
+            if (callTarget == null) {
+                callTarget = parseSource(context, request);
+                cache.put(key, callTarget);
+            }
+            return callTarget;
+        }
+        return parseSource(context, request);
+    }
+
+    private CallTarget parseSource(PythonContext context, ParsingRequest request) {
         if (context.getOption(PythonOptions.EnableBytecodeInterpreter)) {
             return parseForBytecodeInterpreter(request);
         }
@@ -992,6 +1012,56 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
 
     private final ConcurrentHashMap<TruffleString, CallTarget> cachedCode = new ConcurrentHashMap<>();
 
+    /** Parsed top-level sources shared by all contexts (lazily initialized). */
+    private volatile SourceCallTargetCache sourceCallTargetCache;
+
+    /**
+     * Returns the engine-wide cache of parsed sources or {@code null} if it is disabled by
+     * {@link PythonOptions#SourceCacheSize}.
+     */
+    @TruffleBoundary
+    public SourceCallTargetCache getSourceCallTargetCache() {
+        SourceCallTargetCache cache = sourceCallTargetCache;
+        if (cache == null) {
+            int size = getEngineOption(PythonOptions.SourceCacheSize);
+            if (size <= 0) {
+                return null;
+            }
+            synchronized (this) {
+                cache = sourceCallTargetCache;
+                if (cache == null) {
+                    sourceCallTargetCache = cache = new SourceCallTargetCache(size);
+                }
+            }
+        }
+        return cache;
+    }
+
+    /** Parsed TRegex regexes shared by all contexts (lazily initialized). */
+    private volatile TRegexCache tregexCache;
+
+    /**
+     * Returns the engine-wide cache of parsed TRegex regexes or {@code null} if it is disabled by
+     * {@link PythonOptions#TRegexCacheSize}.
+     */
+    @TruffleBoundary
+    public TRegexCache getTRegexCache() {
+        TRegexCache cache = tregexCache;
+        if (cache == null) {
+            int size = getEngineOption(PythonOptions.TRegexCacheSize);
+            if (size <= 0) {
+                return null;
+            }
+            synchronized (this) {
+                cache = tregexCache;
+                if (cache == null) {
+                    tregexCache = cache = new TRegexCache(size);
+                }
+            }
+        }
+        return cache;
+    }
+
     @TruffleBoundary
     public CallTarget cacheCode(TruffleString filename, Supplier<CallTarget> createCode) {
         if (!singleContext) {
@@ -1046,6 +1116,18 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         return Shape.newBuilder(klass.getInstanceShape()).shapeFlags(PythonObject.HAS_SLOTS_BUT_NO_DICT_FLAG).build();
     }
 
+    /**
+     * Returns the instance shape of a class whose instances are allocated as
+     * {@link PythonSlotsObject}, i.e., whose slot values live in in-object fields.
+     */
+    public Shape getShapeForClassWithSlotsLayout(PythonManagedClass klass) {
+        if (isSingleContext()) {
+            return Shape.newBuilder(emptySlotsShape).addConstantProperty(HiddenAttributes.CLASS, klass, 0).build();
+        } else {
+            return emptySlotsShape;
+        }
+    }
+
     public Shape getBuiltinTypeInstanceShape(PythonBuiltinClassType type) {
         int ordinal = type.ordinal();
         Shape shape = builtinTypeInstanceShapes[ordinal];
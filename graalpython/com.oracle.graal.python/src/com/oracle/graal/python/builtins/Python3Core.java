@@ -74,6 +74,7 @@ import com.oracle.graal.python.builtins.modules.CodecsTruffleModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.CollectionsModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.ContextvarsModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.CryptModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.DateTimeAccelModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.ErrnoModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.FaulthandlerModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.FcntlModuleBuiltins;
@@ -183,6 +184,13 @@ import com.oracle.graal.python.builtins.modules.ctypes.StgDictBuiltins;
 import com.oracle.graal.python.builtins.modules.ctypes.StructUnionTypeBuiltins;
 import com.oracle.graal.python.builtins.modules.ctypes.StructureBuiltins;
 import com.oracle.graal.python.builtins.modules.ctypes.UnionTypeBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.Blake2ModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.DigestObjectBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.Md5ModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.Sha1ModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.Sha256ModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.Sha3ModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.Sha512ModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.io.BufferedIOBaseBuiltins;
 import com.oracle.graal.python.builtins.modules.io.BufferedIOMixinBuiltins;
 import com.oracle.graal.python.builtins.modules.io.BufferedRWPairBuiltins;
@@ -402,7 +410,8 @@ public abstract class Python3Core extends ParserErrorCallback {
                         toTruffleStringUncached("zipimport"),
                         toTruffleStringUncached("java"),
                         toTruffleStringUncached("pip_hook"),
-                        toTruffleStringUncached("_struct")));
+                        toTruffleStringUncached("_struct"),
+                        toTruffleStringUncached("_json")));
         // add service loader defined python file extensions
         if (!ImageInfo.inImageRuntimeCode()) {
             ServiceLoader<PythonBuiltins> providers = ServiceLoader.load(PythonBuiltins.class, Python3Core.class.getClassLoader());
@@ -612,6 +621,7 @@ public abstract class Python3Core extends ParserErrorCallback {
                         new JArrayModuleBuiltins(),
                         new CSVModuleBuiltins(),
                         new JSONModuleBuiltins(),
+                        new DateTimeAccelModuleBuiltins(),
                         new SREModuleBuiltins(),
                         new AstModuleBuiltins(),
                         new SelectModuleBuiltins(),
@@ -701,6 +711,15 @@ public abstract class Python3Core extends ParserErrorCallback {
                         new CSVReaderBuiltins(),
                         new CSVWriterBuiltins(),
 
+                        // hashlib
+                        new Md5ModuleBuiltins(),
+                        new Sha1ModuleBuiltins(),
+                        new Sha256ModuleBuiltins(),
+                        new Sha512ModuleBuiltins(),
+                        new Sha3ModuleBuiltins(),
+                        new Blake2ModuleBuiltins(),
+                        new DigestObjectBuiltins(),
+
                         // _ast
                         new AstBuiltins(),
 
@@ -250,6 +250,22 @@ public enum PythonBuiltinClassType implements TruffleObject {
     CSVReader("Reader", "_csv", Flags.PUBLIC_BASE_WODICT),
     CSVWriter("Writer", "_csv", Flags.PUBLIC_BASE_WODICT),
 
+    // hashlib
+    HashlibMD5("md5", null, "_md5", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA1("sha1", null, "_sha1", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA224("sha224", null, "_sha256", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA256("sha256", null, "_sha256", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA384("sha384", null, "_sha512", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA512("sha512", null, "_sha512", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA3_224("sha3_224", "_sha3", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA3_256("sha3_256", "_sha3", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA3_384("sha3_384", "_sha3", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHA3_512("sha3_512", "_sha3", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHAKE128("shake_128", "_sha3", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibSHAKE256("shake_256", "_sha3", Flags.PUBLIC_DERIVED_WODICT),
+    HashlibBlake2b("blake2b", "_blake2", Flags.PUBLIC_BASE_WODICT),
+    HashlibBlake2s("blake2s", "_blake2", Flags.PUBLIC_BASE_WODICT),
+
     // _ast (rest of the classes are not builtin, they are generated in AstModuleBuiltins)
     AST("AST", "_ast", "ast", Flags.PUBLIC_BASE_WDICT),
 
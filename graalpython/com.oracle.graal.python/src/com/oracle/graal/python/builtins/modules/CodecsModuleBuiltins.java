@@ -499,20 +499,100 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Decodes bytes without a Java charset if the encoding has the same byte representation as one
+     * of the TruffleString encodings (see
+     * {@link CharsetMapping#getTruffleStringEncodingNormalized}) and the input is valid in it.
+     * Returns {@code null} if the fast path does not apply, the caller must then use the regular
+     * decoder, which also takes care of the error handling.
+     */
+    @GenerateUncached
+    public abstract static class DirectDecodeNode extends Node {
+        public abstract TruffleString execute(byte[] bytes, int len, TruffleString normalizedEncoding);
+
+        @Specialization
+        static TruffleString decode(byte[] bytes, int len, TruffleString normalizedEncoding,
+                        @Cached TruffleString.FromByteArrayNode fromByteArrayNode,
+                        @Cached TruffleString.IsValidNode isValidNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached ConditionProfile directProfile) {
+            TruffleString.Encoding encoding = CharsetMapping.getTruffleStringEncodingNormalized(normalizedEncoding);
+            if (directProfile.profile(encoding != null && isAligned(encoding, len))) {
+                // the bytes may belong to a mutable object, so they must be copied
+                TruffleString decoded = fromByteArrayNode.execute(bytes, 0, len, encoding, true);
+                if (isValidNode.execute(decoded, encoding)) {
+                    return switchEncodingNode.execute(decoded, TS_ENCODING);
+                }
+            }
+            return null;
+        }
+
+        private static boolean isAligned(TruffleString.Encoding encoding, int len) {
+            if (encoding == TruffleString.Encoding.UTF_16) {
+                return (len & 1) == 0;
+            } else if (encoding == TruffleString.Encoding.UTF_32) {
+                return (len & 3) == 0;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The encoding counterpart of {@link DirectDecodeNode}: encodes strings that are representable
+     * in the target encoding without a Java charset and returns {@code null} if the fast path does
+     * not apply.
+     */
+    @GenerateUncached
+    public abstract static class DirectEncodeNode extends Node {
+        public abstract byte[] execute(TruffleString input, TruffleString normalizedEncoding);
+
+        @Specialization
+        static byte[] encode(TruffleString input, TruffleString normalizedEncoding,
+                        @Cached TruffleString.GetCodeRangeNode getCodeRangeNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached TruffleString.CopyToByteArrayNode copyToByteArrayNode,
+                        @Cached ConditionProfile directProfile) {
+            TruffleString.Encoding encoding = CharsetMapping.getTruffleStringEncodingNormalized(normalizedEncoding);
+            if (directProfile.profile(encoding != null && isRepresentable(getCodeRangeNode.execute(input, TS_ENCODING), encoding))) {
+                TruffleString encoded = switchEncodingNode.execute(input, encoding);
+                byte[] bytes = new byte[encoded.byteLength(encoding)];
+                copyToByteArrayNode.execute(encoded, 0, bytes, 0, bytes.length, encoding);
+                return bytes;
+            }
+            return null;
+        }
+
+        private static boolean isRepresentable(TruffleString.CodeRange codeRange, TruffleString.Encoding encoding) {
+            if (encoding == TruffleString.Encoding.US_ASCII) {
+                return codeRange == TruffleString.CodeRange.ASCII;
+            } else if (encoding == TruffleString.Encoding.ISO_8859_1) {
+                return codeRange == TruffleString.CodeRange.ASCII || codeRange == TruffleString.CodeRange.LATIN_1;
+            }
+            // lone surrogates make the code range broken, they need the error handlers
+            return codeRange != TruffleString.CodeRange.BROKEN;
+        }
+    }
+
     @GenerateUncached
     public abstract static class CodecsEncodeToJavaBytesNode extends Node {
         public abstract byte[] execute(Object self, TruffleString encoding, TruffleString errors);
 
         @Specialization
         byte[] encode(Object self, TruffleString encoding, TruffleString errors,
+                        @Cached CastToTruffleStringNode castTruffleStr,
+                        @Cached DirectEncodeNode directEncodeNode,
                         @Cached CastToJavaStringNode castStr,
                         @Cached TruffleString.EqualNode equalNode,
                         @Cached HandleEncodingErrorNode errorHandler,
                         @Cached PRaiseNode raiseNode,
                         @Cached NormalizeEncodingNameNode normalizeEncodingNameNode) {
+            TruffleString normalizedEncoding = normalizeEncodingNameNode.execute(encoding);
+            byte[] direct = directEncodeNode.execute(castTruffleStr.execute(self), normalizedEncoding);
+            if (direct != null) {
+                return direct;
+            }
             String input = castStr.execute(self);
             CodingErrorAction errorAction = convertCodingErrorAction(errors, equalNode);
-            TruffleString normalizedEncoding = normalizeEncodingNameNode.execute(encoding);
             Charset charset = CharsetMapping.getCharsetNormalized(normalizedEncoding);
             if (charset == null) {
                 throw raiseNode.raise(LookupError, ErrorMessages.UNKNOWN_ENCODING, encoding);
@@ -598,6 +678,7 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
                         @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
                         @Cached TruffleString.EqualNode equalNode,
                         @Cached NormalizeEncodingNameNode normalizeEncodingNameNode,
+                        @Cached DirectDecodeNode directDecodeNode,
                         @Cached HandleDecodingErrorNode errorHandler,
                         @Cached PRaiseNode raiseNode,
                         @Cached PythonObjectFactory factory) {
@@ -605,8 +686,12 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
             try {
                 int len = bufferLib.getBufferLength(buffer);
                 byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
-                CodingErrorAction errorAction = convertCodingErrorAction(errors, equalNode);
                 TruffleString normalizedEncoding = normalizeEncodingNameNode.execute(encoding);
+                TruffleString direct = directDecodeNode.execute(bytes, len, normalizedEncoding);
+                if (direct != null) {
+                    return factory.createTuple(new Object[]{direct, len});
+                }
+                CodingErrorAction errorAction = convertCodingErrorAction(errors, equalNode);
                 Charset charset = CharsetMapping.getCharsetForDecodingNormalized(normalizedEncoding, bytes, len);
                 if (charset == null) {
                     throw raiseNode.raise(LookupError, ErrorMessages.UNKNOWN_ENCODING, encoding);
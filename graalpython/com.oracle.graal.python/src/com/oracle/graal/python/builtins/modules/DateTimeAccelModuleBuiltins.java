@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.Python3Core;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.SpecialAttributeNames;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleStringBuilder;
+
+/**
+ * Helpers for the pure-Python {@code datetime} module. The module keeps its classes in Python, but
+ * delegates the calendar arithmetic, field validation and ISO format parsing/formatting done on
+ * every instance creation and {@code isoformat()}/{@code fromisoformat()} call to these nodes.
+ * Functions that validate fields return {@code None} for arguments that are not plain ints, in
+ * which case the caller falls back to its Python implementation.
+ */
+@CoreFunctions(defineModule = "_datetime_accel")
+public final class DateTimeAccelModuleBuiltins extends PythonBuiltins {
+
+    static final TruffleString T_AUTO = tsLiteral("auto");
+    private static final TruffleString T_HOURS = tsLiteral("hours");
+    private static final TruffleString T_MINUTES = tsLiteral("minutes");
+    private static final TruffleString T_SECONDS = tsLiteral("seconds");
+    private static final TruffleString T_MILLISECONDS = tsLiteral("milliseconds");
+    private static final TruffleString T_MICROSECONDS = tsLiteral("microseconds");
+
+    private static final TruffleString T_YEAR_RANGE = tsLiteral("year must be in 1..9999");
+    private static final TruffleString T_MONTH_RANGE = tsLiteral("month must be in 1..12");
+    private static final TruffleString[] T_DAY_RANGE = {tsLiteral("day must be in 1..28"), tsLiteral("day must be in 1..29"), tsLiteral("day must be in 1..30"),
+                    tsLiteral("day must be in 1..31")};
+    private static final TruffleString T_HOUR_RANGE = tsLiteral("hour must be in 0..23");
+    private static final TruffleString T_MINUTE_RANGE = tsLiteral("minute must be in 0..59");
+    private static final TruffleString T_SECOND_RANGE = tsLiteral("second must be in 0..59");
+    private static final TruffleString T_MICROSECOND_RANGE = tsLiteral("microsecond must be in 0..999999");
+    private static final TruffleString T_FOLD_RANGE = tsLiteral("fold must be either 0 or 1");
+
+    private static final int MINYEAR = 1;
+    private static final int MAXYEAR = 9999;
+
+    // -1 is a placeholder for indexing purposes.
+    private static final int[] DAYS_IN_MONTH = {-1, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    private static final int[] DAYS_BEFORE_MONTH = {-1, 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    private static final long DI400Y = daysBeforeYear(401);
+    private static final long DI100Y = daysBeforeYear(101);
+    private static final long DI4Y = daysBeforeYear(5);
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return DateTimeAccelModuleBuiltinsFactory.getFactories();
+    }
+
+    @Override
+    public void initialize(Python3Core core) {
+        addBuiltinConstant(SpecialAttributeNames.T___DOC__, "datetime speedups\n");
+        super.initialize(core);
+    }
+
+    static boolean isLeap(long year) {
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static long daysBeforeYear(long year) {
+        long y = year - 1;
+        return y * 365 + Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400);
+    }
+
+    static int daysInMonth(long year, int month) {
+        if (month == 2 && isLeap(year)) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month];
+    }
+
+    static int daysBeforeMonth(long year, int month) {
+        return DAYS_BEFORE_MONTH[month] + (month > 2 && isLeap(year) ? 1 : 0);
+    }
+
+    @Builtin(name = "ymd2ord", parameterNames = {"year", "month", "day"}, doc = "year, month, day -> ordinal, considering 01-Jan-0001 as day 1.")
+    @ArgumentClinic(name = "year", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "month", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "day", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class Ymd2OrdNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return DateTimeAccelModuleBuiltinsClinicProviders.Ymd2OrdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        long ymd2ord(int year, int month, int day) {
+            if (month < 1 || month > 12) {
+                throw raise(ValueError, T_MONTH_RANGE);
+            }
+            return daysBeforeYear(year) + daysBeforeMonth(year, month) + day;
+        }
+    }
+
+    @Builtin(name = "ord2ymd", parameterNames = {"n"}, doc = "ordinal -> (year, month, day), considering 01-Jan-0001 as day 1.")
+    @ArgumentClinic(name = "n", conversion = ClinicConversion.Long)
+    @GenerateNodeFactory
+    abstract static class Ord2YmdNode extends PythonUnaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return DateTimeAccelModuleBuiltinsClinicProviders.Ord2YmdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        PTuple ord2ymd(long ordinal) {
+            // see datetime._ord2ymd for a description of the algorithm
+            long n = ordinal - 1;
+            long n400 = Math.floorDiv(n, DI400Y);
+            n = Math.floorMod(n, DI400Y);
+            long year = n400 * 400 + 1;
+            long n100 = n / DI100Y;
+            n %= DI100Y;
+            long n4 = n / DI4Y;
+            n %= DI4Y;
+            long n1 = n / 365;
+            n %= 365;
+            year += n100 * 100 + n4 * 4 + n1;
+            if (n1 == 4 || n100 == 4) {
+                return factory().createTuple(new Object[]{year - 1, 12, 31});
+            }
+            boolean leapYear = n1 == 3 && (n4 != 24 || n100 == 3);
+            int month = (int) ((n + 50) >> 5);
+            int preceding = DAYS_BEFORE_MONTH[month] + (month > 2 && leapYear ? 1 : 0);
+            if (preceding > n) {
+                month--;
+                preceding -= DAYS_IN_MONTH[month] + (month == 2 && leapYear ? 1 : 0);
+            }
+            return factory().createTuple(new Object[]{year, month, (int) n - preceding + 1});
+        }
+    }
+
+    @Builtin(name = "check_date_fields", minNumOfPositionalArgs = 3, parameterNames = {"year", "month", "day"})
+    @GenerateNodeFactory
+    abstract static class CheckDateFieldsNode extends PythonTernaryBuiltinNode {
+
+        @Specialization
+        PTuple check(int year, int month, int day) {
+            if (year < MINYEAR || year > MAXYEAR) {
+                throw raise(ValueError, new Object[]{T_YEAR_RANGE, year});
+            }
+            if (month < 1 || month > 12) {
+                throw raise(ValueError, new Object[]{T_MONTH_RANGE, month});
+            }
+            int dim = daysInMonth(year, month);
+            if (day < 1 || day > dim) {
+                throw raise(ValueError, new Object[]{T_DAY_RANGE[dim - 28], day});
+            }
+            return factory().createTuple(new int[]{year, month, day});
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        static Object fallback(Object year, Object month, Object day) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "check_time_fields", minNumOfPositionalArgs = 5, parameterNames = {"hour", "minute", "second", "microsecond", "fold"})
+    @GenerateNodeFactory
+    abstract static class CheckTimeFieldsNode extends PythonBuiltinNode {
+
+        @Specialization
+        PTuple check(int hour, int minute, int second, int microsecond, int fold) {
+            if (hour < 0 || hour > 23) {
+                throw raise(ValueError, new Object[]{T_HOUR_RANGE, hour});
+            }
+            if (minute < 0 || minute > 59) {
+                throw raise(ValueError, new Object[]{T_MINUTE_RANGE, minute});
+            }
+            if (second < 0 || second > 59) {
+                throw raise(ValueError, new Object[]{T_SECOND_RANGE, second});
+            }
+            if (microsecond < 0 || microsecond > 999999) {
+                throw raise(ValueError, new Object[]{T_MICROSECOND_RANGE, microsecond});
+            }
+            if (fold != 0 && fold != 1) {
+                throw raise(ValueError, new Object[]{T_FOLD_RANGE, fold});
+            }
+            return factory().createTuple(new int[]{hour, minute, second, microsecond, fold});
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        static Object fallback(Object hour, Object minute, Object second, Object microsecond, Object fold) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "format_time", minNumOfPositionalArgs = 4, parameterNames = {"hh", "mm", "ss", "us", "timespec"})
+    @ArgumentClinic(name = "hh", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "mm", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "ss", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "us", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "timespec", conversion = ClinicConversion.TString, defaultValue = "DateTimeAccelModuleBuiltins.T_AUTO")
+    @GenerateNodeFactory
+    abstract static class FormatTimeNode extends PythonClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return DateTimeAccelModuleBuiltinsClinicProviders.FormatTimeNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        TruffleString format(int hh, int mm, int ss, int us, TruffleString timespec,
+                        @Cached TruffleString.EqualNode equalNode,
+                        @Cached TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
+                        @Cached TruffleStringBuilder.ToStringNode toStringNode) {
+            int components;
+            int fractionWidth = 0;
+            int fraction = us;
+            if (equalNode.execute(timespec, T_AUTO, TS_ENCODING)) {
+                // skip trailing microseconds when us == 0
+                components = 3;
+                fractionWidth = us != 0 ? 6 : 0;
+            } else if (equalNode.execute(timespec, T_HOURS, TS_ENCODING)) {
+                components = 1;
+            } else if (equalNode.execute(timespec, T_MINUTES, TS_ENCODING)) {
+                components = 2;
+            } else if (equalNode.execute(timespec, T_SECONDS, TS_ENCODING)) {
+                components = 3;
+            } else if (equalNode.execute(timespec, T_MILLISECONDS, TS_ENCODING)) {
+                components = 3;
+                fractionWidth = 3;
+                fraction = Math.floorDiv(us, 1000);
+            } else if (equalNode.execute(timespec, T_MICROSECONDS, TS_ENCODING)) {
+                components = 3;
+                fractionWidth = 6;
+            } else {
+                throw raise(ValueError, ErrorMessages.UNKNOWN_TIMESPEC_VALUE);
+            }
+            TruffleStringBuilder sb = TruffleStringBuilder.create(TS_ENCODING, 15);
+            appendPadded(sb, hh, 2, appendCodePointNode);
+            if (components > 1) {
+                appendCodePointNode.execute(sb, ':', 1, true);
+                appendPadded(sb, mm, 2, appendCodePointNode);
+            }
+            if (components > 2) {
+                appendCodePointNode.execute(sb, ':', 1, true);
+                appendPadded(sb, ss, 2, appendCodePointNode);
+            }
+            if (fractionWidth > 0) {
+                appendCodePointNode.execute(sb, '.', 1, true);
+                appendPadded(sb, fraction, fractionWidth, appendCodePointNode);
+            }
+            return toStringNode.execute(sb);
+        }
+
+        /**
+         * Appends {@code value} like {@code '{:0<width>d}'.format(value)} would.
+         */
+        private static void appendPadded(TruffleStringBuilder sb, int value, int width, TruffleStringBuilder.AppendCodePointNode appendCodePointNode) {
+            long v = value;
+            int padTo = width;
+            if (v < 0) {
+                appendCodePointNode.execute(sb, '-', 1, true);
+                v = -v;
+                padTo--;
+            }
+            long divisor = 1;
+            int digits = 1;
+            while (divisor <= v / 10) {
+                divisor *= 10;
+                digits++;
+            }
+            for (int i = digits; i < padTo; i++) {
+                appendCodePointNode.execute(sb, '0', 1, true);
+            }
+            for (; divisor > 0; divisor /= 10) {
+                appendCodePointNode.execute(sb, (int) ('0' + (v / divisor) % 10), 1, true);
+            }
+        }
+    }
+
+    @Builtin(name = "parse_isoformat_date", minNumOfPositionalArgs = 1, parameterNames = {"dtstr"})
+    @ArgumentClinic(name = "dtstr", conversion = ClinicConversion.TString)
+    @GenerateNodeFactory
+    abstract static class ParseIsoformatDateNode extends PythonUnaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return DateTimeAccelModuleBuiltinsClinicProviders.ParseIsoformatDateNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        PList parse(TruffleString dtstr,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.CodePointAtIndexNode codePointAtIndexNode) {
+            // expects YYYY-MM-DD; anything after the first 10 characters is ignored
+            if (codePointLengthNode.execute(dtstr, TS_ENCODING) < 10) {
+                throw raise(ValueError, ErrorMessages.INVALID_DATE_COMPONENT);
+            }
+            int year = parseDigits(dtstr, 0, 4, codePointAtIndexNode);
+            if (codePointAtIndexNode.execute(dtstr, 4, TS_ENCODING) != '-') {
+                throw raise(ValueError, ErrorMessages.INVALID_DATE_SEPARATOR);
+            }
+            int month = parseDigits(dtstr, 5, 2, codePointAtIndexNode);
+            if (codePointAtIndexNode.execute(dtstr, 7, TS_ENCODING) != '-') {
+                throw raise(ValueError, ErrorMessages.INVALID_DATE_SEPARATOR);
+            }
+            int day = parseDigits(dtstr, 8, 2, codePointAtIndexNode);
+            if (year < 0 || month < 0 || day < 0) {
+                throw raise(ValueError, ErrorMessages.INVALID_DATE_COMPONENT);
+            }
+            return factory().createList(new IntSequenceStorage(new int[]{year, month, day}));
+        }
+    }
+
+    @Builtin(name = "parse_hh_mm_ss_ff", minNumOfPositionalArgs = 1, parameterNames = {"tstr"})
+    @ArgumentClinic(name = "tstr", conversion = ClinicConversion.TString)
+    @GenerateNodeFactory
+    abstract static class ParseHhMmSsFfNode extends PythonUnaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return DateTimeAccelModuleBuiltinsClinicProviders.ParseHhMmSsFfNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        PList parse(TruffleString tstr,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.CodePointAtIndexNode codePointAtIndexNode) {
+            // parses things of the form HH[:MM[:SS[.fff[fff]]]]
+            int len = codePointLengthNode.execute(tstr, TS_ENCODING);
+            int[] timeComps = new int[4];
+            int pos = 0;
+            for (int comp = 0; comp < 3; comp++) {
+                if (len - pos < 2) {
+                    throw raise(ValueError, ErrorMessages.INCOMPLETE_TIME_COMPONENT);
+                }
+                timeComps[comp] = parseDigits(tstr, pos, 2, codePointAtIndexNode);
+                if (timeComps[comp] < 0) {
+                    throw raise(ValueError, ErrorMessages.INVALID_TIME_COMPONENT);
+                }
+                pos += 2;
+                if (pos >= len || comp >= 2) {
+                    break;
+                }
+                if (codePointAtIndexNode.execute(tstr, pos, TS_ENCODING) != ':') {
+                    throw raise(ValueError, ErrorMessages.INVALID_TIME_SEPARATOR);
+                }
+                pos++;
+            }
+            if (pos < len) {
+                if (codePointAtIndexNode.execute(tstr, pos, TS_ENCODING) != '.') {
+                    throw raise(ValueError, ErrorMessages.INVALID_MICROSECOND_COMPONENT);
+                }
+                pos++;
+                int remainder = len - pos;
+                if (remainder != 3 && remainder != 6) {
+                    throw raise(ValueError, ErrorMessages.INVALID_MICROSECOND_COMPONENT);
+                }
+                int fraction = parseDigits(tstr, pos, remainder, codePointAtIndexNode);
+                if (fraction < 0) {
+                    throw raise(ValueError, ErrorMessages.INVALID_MICROSECOND_COMPONENT);
+                }
+                timeComps[3] = remainder == 3 ? fraction * 1000 : fraction;
+            }
+            return factory().createList(new IntSequenceStorage(timeComps));
+        }
+    }
+
+    /**
+     * Parses {@code count} ASCII digits starting at {@code start}. Returns -1 if any of them is not
+     * a digit.
+     */
+    private static int parseDigits(TruffleString s, int start, int count, TruffleString.CodePointAtIndexNode codePointAtIndexNode) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int c = codePointAtIndexNode.execute(s, i, TS_ENCODING);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
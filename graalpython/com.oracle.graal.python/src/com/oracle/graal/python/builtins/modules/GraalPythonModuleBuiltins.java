@@ -100,16 +100,21 @@ import com.oracle.graal.python.builtins.objects.str.StringUtils;
 import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
 import com.oracle.graal.python.lib.PyObjectTypeCheck;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRootNode;
 import com.oracle.graal.python.nodes.builtins.FunctionNodes.GetCallTargetNode;
+import com.oracle.graal.python.nodes.bytecode.FrameInfo;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.classes.IsSubtypeNode;
+import com.oracle.graal.python.nodes.frame.FrameMaterializationStatistics;
+import com.oracle.graal.python.nodes.frame.MaterializeFrameNode;
 import com.oracle.graal.python.nodes.function.FunctionRootNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
@@ -119,6 +124,7 @@ import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.SourceCallTargetCache;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
@@ -127,6 +133,8 @@ import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.TruffleFile;
 import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.TruffleLogger;
@@ -136,15 +144,20 @@ import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.dsl.TypeSystemReference;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.FrameInstance;
+import com.oracle.truffle.api.frame.FrameInstanceVisitor;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.UnknownIdentifierException;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.LanguageInfo;
+import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.nodes.NodeUtil;
 import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.llvm.api.Toolchain;
 
@@ -571,6 +584,97 @@ public class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "source_cache_info", minNumOfPositionalArgs = 0)
+    @GenerateNodeFactory
+    abstract static class SourceCacheInfoNode extends PythonBuiltinNode {
+
+        /**
+         * Returns {@code (hits, misses, evictions, currsize, maxsize)} of the engine-wide cache of
+         * parsed sources or {@code None} if the cache is disabled.
+         */
+        @Specialization
+        Object info() {
+            SourceCallTargetCache cache = getLanguage().getSourceCallTargetCache();
+            if (cache == null) {
+                return PNone.NONE;
+            }
+            long[] stats = cache.getStatistics();
+            return factory().createTuple(new Object[]{stats[0], stats[1], stats[2], stats[3], stats[4]});
+        }
+    }
+
+    @Builtin(name = "caller_location", minNumOfPositionalArgs = 0, parameterNames = {"depth"}, doc = "caller_location(depth=0)\n\n" +
+                    "Returns (code, lineno) of the frame that sys._getframe(depth) would return, or None if the call stack is not deep enough.\n" +
+                    "Unlike sys._getframe, this creates no frame objects, so it does not cause the frames on the stack to be materialized.")
+    @ArgumentClinic(name = "depth", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class CallerLocationNode extends PythonUnaryClinicBuiltinNode {
+
+        @Specialization
+        @TruffleBoundary
+        Object location(int depth) {
+            Object result = Truffle.getRuntime().iterateFrames(new FrameInstanceVisitor<Object>() {
+                int i = 0;
+
+                public Object visitFrame(FrameInstance frameInstance) {
+                    RootNode rootNode = ((RootCallTarget) frameInstance.getCallTarget()).getRootNode();
+                    // count the same frames as 'sys._getframe', i.e., skip builtins and internal
+                    // Python code
+                    if (!(rootNode instanceof PRootNode) || PRootNode.isPythonInternal(rootNode) || i++ < depth) {
+                        return null;
+                    }
+                    Frame frame = frameInstance.getFrame(FrameInstance.FrameAccess.READ_ONLY);
+                    if (MaterializeFrameNode.isBytecodeFrame(frame)) {
+                        FrameInfo info = (FrameInfo) frame.getFrameDescriptor().getInfo();
+                        PBytecodeRootNode bytecodeRoot = info.getRootNode();
+                        return createLocation(PythonUtils.getOrCreateCallTarget(bytecodeRoot), bytecodeRoot.bciToLine(info.getBci(frame)));
+                    }
+                    Node callNode = frameInstance.getCallNode();
+                    SourceSection section = callNode != null ? callNode.getEncapsulatingSourceSection() : rootNode.getSourceSection();
+                    return createLocation((RootCallTarget) frameInstance.getCallTarget(), section != null ? section.getStartLine() : -1);
+                }
+            });
+            return result != null ? result : PNone.NONE;
+        }
+
+        private Object createLocation(RootCallTarget callTarget, int line) {
+            return factory().createTuple(new Object[]{factory().createCode(callTarget), line});
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GraalPythonModuleBuiltinsClinicProviders.CallerLocationNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    @Builtin(name = "frame_materialization_info", minNumOfPositionalArgs = 0)
+    @GenerateNodeFactory
+    abstract static class FrameMaterializationInfoNode extends PythonBuiltinNode {
+
+        /**
+         * Returns a list of {@code (filename, line, name, created, synced)} tuples, one per location
+         * that caused frames to be materialized and ordered by frequency, or {@code None} if
+         * {@link PythonOptions#FrameMaterializationStatistics} is disabled.
+         */
+        @Specialization
+        @TruffleBoundary
+        Object info() {
+            FrameMaterializationStatistics statistics = getContext().getFrameMaterializationStatistics();
+            if (statistics == null) {
+                return PNone.NONE;
+            }
+            Object[][] entries = statistics.getEntries();
+            Object[] result = new Object[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                Object[] entry = entries[i];
+                entry[0] = toTruffleStringUncached((String) entry[0]);
+                entry[2] = toTruffleStringUncached((String) entry[2]);
+                result[i] = factory().createTuple(entry);
+            }
+            return factory().createList(result);
+        }
+    }
+
     // Internal builtin used for testing: changes strategy of newly allocated set or map
     @Builtin(name = "set_storage_strategy", minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
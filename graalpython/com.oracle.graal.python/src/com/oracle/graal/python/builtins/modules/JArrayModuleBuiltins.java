@@ -63,8 +63,14 @@ import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltin
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Fallback;
@@ -192,9 +198,16 @@ public class JArrayModuleBuiltins extends PythonBuiltins {
                         @Cached SequenceNodes.GetSequenceStorageNode getSequenceStorageNode,
                         @Cached SequenceStorageNodes.LenNode lenNode,
                         @Cached SequenceStorageNodes.GetItemScalarNode getItemScalarNode,
+                        @Cached CastToJavaStringNode castTypeCode,
                         @Cached ZerosNode zerosNode) {
             SequenceStorage storage = getSequenceStorageNode.execute(sequence);
             int length = lenNode.execute(storage);
+            if (isString(type)) {
+                Object copy = copyPrimitiveStorage(storage, length, castTypeCode.execute(type));
+                if (copy != null) {
+                    return getContext().getEnv().asGuestValue(copy);
+                }
+            }
             Object array = zerosNode.execute(length, type);
             for (int i = 0; i < length; i++) {
                 Object value = getItemScalarNode.execute(storage, i);
@@ -216,9 +229,44 @@ public class JArrayModuleBuiltins extends PythonBuiltins {
                         @Cached SequenceNodes.GetSequenceStorageNode getSequenceStorageNode,
                         @Cached SequenceStorageNodes.LenNode lenNode,
                         @Cached SequenceStorageNodes.GetItemScalarNode getItemScalarNode,
+                        @Cached CastToJavaStringNode castTypeCode,
                         @Cached ZerosNode zerosNode) {
             PList list = constructListNode.execute(frame, sequence);
-            return fromSequence(list, type, lib, getSequenceStorageNode, lenNode, getItemScalarNode, zerosNode);
+            return fromSequence(list, type, lib, getSequenceStorageNode, lenNode, getItemScalarNode, castTypeCode, zerosNode);
+        }
+
+        /**
+         * Copies a primitive-backed storage into a Java array of the given type code in one go
+         * instead of writing every element through interop. Returns {@code null} if the storage
+         * does not hold values that trivially fit the requested component type.
+         */
+        @TruffleBoundary
+        private static Object copyPrimitiveStorage(SequenceStorage storage, int length, String typeCode) {
+            if (storage instanceof IntSequenceStorage) {
+                int[] values = ((IntSequenceStorage) storage).getInternalIntArray();
+                if (ArrayFromTypeCode.I.equals(typeCode)) {
+                    return PythonUtils.arrayCopyOf(values, length);
+                } else if (ArrayFromTypeCode.L.equals(typeCode)) {
+                    long[] result = new long[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = values[i];
+                    }
+                    return result;
+                } else if (ArrayFromTypeCode.D.equals(typeCode)) {
+                    double[] result = new double[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = values[i];
+                    }
+                    return result;
+                }
+            } else if (storage instanceof LongSequenceStorage && ArrayFromTypeCode.L.equals(typeCode)) {
+                return PythonUtils.arrayCopyOf(((LongSequenceStorage) storage).getInternalLongArray(), length);
+            } else if (storage instanceof DoubleSequenceStorage && ArrayFromTypeCode.D.equals(typeCode)) {
+                return PythonUtils.arrayCopyOf(((DoubleSequenceStorage) storage).getInternalDoubleArray(), length);
+            } else if (storage instanceof BoolSequenceStorage && ArrayFromTypeCode.Z.equals(typeCode)) {
+                return PythonUtils.arrayCopyOf(((BoolSequenceStorage) storage).getInternalBoolArray(), length);
+            }
+            return null;
         }
     }
 }
@@ -41,11 +41,13 @@
 package com.oracle.graal.python.builtins.modules;
 
 import static com.oracle.graal.python.nodes.StringLiterals.T_COMMA;
+import static com.oracle.graal.python.nodes.StringLiterals.T_EMPTY_STRING;
 import static com.oracle.graal.python.nodes.StringLiterals.T_SLASH;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+import static com.oracle.graal.python.util.PythonUtils.tsbCapacity;
 
 import java.util.List;
 
@@ -54,22 +56,29 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
+import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
 import com.oracle.graal.python.builtins.objects.function.PFunction;
+import com.oracle.graal.python.lib.PyLongCheckNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PNodeWithRaiseAndIndirectCall;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CannotCastException;
+import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.util.ArrayBuilder;
+import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
@@ -82,6 +91,7 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.interop.ArityException;
 import com.oracle.truffle.api.interop.ExceptionType;
 import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.UnknownIdentifierException;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.interop.UnsupportedTypeException;
 import com.oracle.truffle.api.library.CachedLibrary;
@@ -194,7 +204,7 @@ public class SREModuleBuiltins extends PythonBuiltins {
                 TruffleString flagsStr = flagsToStringNode.execute(flags);
                 TruffleString optionsStr = optionsToStringNode.execute(options);
                 Source regexSource = toRegexSourceNode.execute(frame, pattern, flagsStr, optionsStr);
-                Object compiledRegex = getContext().getEnv().parseInternal(regexSource).call();
+                Object compiledRegex = parse(regexSource).call();
                 if (compiledRegexLib.isNull(compiledRegex)) {
                     unsupportedRegexError.enter();
                     if (getLanguage().getEngineOption(PythonOptions.TRegexUsesSREFallback)) {
@@ -210,6 +220,21 @@ public class SREModuleBuiltins extends PythonBuiltins {
             }
         }
 
+        @TruffleBoundary
+        private CallTarget parse(Source regexSource) {
+            TRegexCache cache = getLanguage().getTRegexCache();
+            if (cache == null) {
+                return getContext().getEnv().parseInternal(regexSource);
+            }
+            String cacheKey = regexSource.getCharacters().toString();
+            CallTarget callTarget = cache.get(cacheKey);
+            if (callTarget == null) {
+                callTarget = getContext().getEnv().parseInternal(regexSource);
+                cache.put(cacheKey, callTarget);
+            }
+            return callTarget;
+        }
+
         private Object handleError(RuntimeException e, BranchProfile syntaxError, BranchProfile potentialSyntaxError, InteropLibrary lib, TruffleString.SwitchEncodingNode switchEncodingNode) {
             try {
                 if (lib.isException(e)) {
@@ -231,6 +256,25 @@ public class SREModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "tregex_cache_info")
+    @GenerateNodeFactory
+    abstract static class TRegexCacheInfo extends PythonBuiltinNode {
+
+        /**
+         * Returns {@code (hits, misses, evictions, currsize, maxsize)} of the engine-wide parsed
+         * regex cache or {@code None} if the cache is disabled.
+         */
+        @Specialization
+        Object info() {
+            TRegexCache cache = getLanguage().getTRegexCache();
+            if (cache == null) {
+                return PNone.NONE;
+            }
+            long[] stats = cache.getStatistics();
+            return factory().createTuple(new Object[]{stats[0], stats[1], stats[2], stats[3], stats[4]});
+        }
+    }
+
     @Builtin(name = "tregex_call_exec", minNumOfPositionalArgs = 3)
     @TypeSystemReference(PythonArithmeticTypes.class)
     @GenerateNodeFactory
@@ -261,4 +305,237 @@ public class SREModuleBuiltins extends PythonBuiltins {
             }
         }
     }
+
+    /**
+     * Base class of the builtins that loop over all matches of a regex in Java instead of calling
+     * {@code tregex_call_exec} once per match from Python. The regexes are the objects returned by
+     * {@code tregex_compile_internal}, i.e., either TRegex objects or {@code _ExecutablePattern}s
+     * produced by the SRE fallback compiler, and are only accessed through interop. Since TRegex
+     * cannot advance by itself after an empty match, every loop gets a second regex compiled with
+     * {@code MustAdvance=true} that is used for the search following an empty match.
+     */
+    abstract static class TRegexLoopNode extends PythonBuiltinNode {
+
+        private static final String J_EXEC = "exec";
+        private static final String J_IS_MATCH = "isMatch";
+        private static final String J_GET_START = "getStart";
+        private static final String J_GET_END = "getEnd";
+
+        protected final Object exec(InteropLibrary regexLib, Object regex, TruffleString input, int fromIndex) {
+            try {
+                return regexLib.invokeMember(regex, J_EXEC, input, fromIndex);
+            } catch (ArityException | UnknownIdentifierException | UnsupportedTypeException | UnsupportedMessageException e) {
+                throw raise(TypeError, ErrorMessages.M, e);
+            }
+        }
+
+        protected static boolean isMatch(InteropLibrary resultLib, InteropLibrary valueLib, Object result) {
+            try {
+                return valueLib.asBoolean(resultLib.readMember(result, J_IS_MATCH));
+            } catch (UnknownIdentifierException | UnsupportedMessageException e) {
+                throw CompilerDirectives.shouldNotReachHere(e);
+            }
+        }
+
+        protected static int getStart(InteropLibrary resultLib, InteropLibrary valueLib, Object result, int groupIndex) {
+            return getBound(resultLib, valueLib, result, J_GET_START, groupIndex);
+        }
+
+        protected static int getEnd(InteropLibrary resultLib, InteropLibrary valueLib, Object result, int groupIndex) {
+            return getBound(resultLib, valueLib, result, J_GET_END, groupIndex);
+        }
+
+        private static int getBound(InteropLibrary resultLib, InteropLibrary valueLib, Object result, String member, int groupIndex) {
+            try {
+                return valueLib.asInt(resultLib.invokeMember(result, member, groupIndex));
+            } catch (ArityException | UnknownIdentifierException | UnsupportedTypeException | UnsupportedMessageException e) {
+                throw CompilerDirectives.shouldNotReachHere(e);
+            }
+        }
+    }
+
+    @Builtin(name = "tregex_findall_str", minNumOfPositionalArgs = 5)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class TRegexFindAllStr extends TRegexLoopNode {
+
+        @Specialization
+        Object findall(VirtualFrame frame, Object regex, Object regexMustAdvance, Object inputObj, int fromIndex, int groupCount,
+                        @Cached CastToTruffleStringNode cast,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.SubstringNode substringNode,
+                        @CachedLibrary(limit = "2") InteropLibrary regexLib,
+                        @CachedLibrary(limit = "2") InteropLibrary resultLib,
+                        @CachedLibrary(limit = "3") InteropLibrary valueLib) {
+            TruffleString input = cast.execute(inputObj);
+            int length = codePointLengthNode.execute(input, TS_ENCODING);
+            ArrayBuilder<Object> matches = new ArrayBuilder<>();
+            int pos = fromIndex;
+            boolean mustAdvance = false;
+            PythonContext context = getContext();
+            PythonLanguage language = getLanguage();
+            Object state = IndirectCallContext.enter(frame, language, context, this);
+            try {
+                while (pos <= length) {
+                    Object result = exec(regexLib, mustAdvance ? regexMustAdvance : regex, input, pos);
+                    if (!isMatch(resultLib, valueLib, result)) {
+                        break;
+                    }
+                    int start = getStart(resultLib, valueLib, result, 0);
+                    int end = getEnd(resultLib, valueLib, result, 0);
+                    if (groupCount == 1) {
+                        matches.add(substringNode.execute(input, start, end - start, TS_ENCODING, true));
+                    } else if (groupCount == 2) {
+                        matches.add(group(resultLib, valueLib, substringNode, input, result, 1));
+                    } else {
+                        Object[] groups = new Object[groupCount - 1];
+                        for (int i = 1; i < groupCount; i++) {
+                            groups[i - 1] = group(resultLib, valueLib, substringNode, input, result, i);
+                        }
+                        matches.add(factory().createTuple(groups));
+                    }
+                    pos = end;
+                    mustAdvance = start == end;
+                }
+            } finally {
+                IndirectCallContext.exit(frame, language, context, state);
+            }
+            return factory().createList(matches.toArray(new Object[0]));
+        }
+
+        private static TruffleString group(InteropLibrary resultLib, InteropLibrary valueLib, TruffleString.SubstringNode substringNode, TruffleString input, Object result, int groupIndex) {
+            int start = getStart(resultLib, valueLib, result, groupIndex);
+            if (start < 0) {
+                return T_EMPTY_STRING;
+            }
+            int end = getEnd(resultLib, valueLib, result, groupIndex);
+            return substringNode.execute(input, start, end - start, TS_ENCODING, true);
+        }
+    }
+
+    @Builtin(name = "tregex_subn_str", minNumOfPositionalArgs = 5)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class TRegexSubnStr extends TRegexLoopNode {
+
+        /**
+         * {@code templateParts} is the parsed replacement: a tuple whose items are either literal
+         * strings or group indices (see {@code _sre._template_parts}).
+         */
+        @Specialization
+        Object subn(VirtualFrame frame, Object regex, Object regexMustAdvance, Object inputObj, long count, Object templateParts,
+                        @Cached CastToTruffleStringNode cast,
+                        @Cached PyLongCheckNode longCheckNode,
+                        @Cached CastToJavaIntExactNode castToIntNode,
+                        @Cached SequenceNodes.GetObjectArrayNode getObjectArrayNode,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.SubstringNode substringNode,
+                        @Cached TruffleStringBuilder.AppendStringNode appendStringNode,
+                        @Cached TruffleStringBuilder.ToStringNode toStringNode,
+                        @CachedLibrary(limit = "2") InteropLibrary regexLib,
+                        @CachedLibrary(limit = "2") InteropLibrary resultLib,
+                        @CachedLibrary(limit = "3") InteropLibrary valueLib) {
+            TruffleString input = cast.execute(inputObj);
+            // the array may be the storage of the caller's sequence, so cast into a copy
+            Object[] templateItems = getObjectArrayNode.execute(templateParts);
+            Object[] parts = new Object[templateItems.length];
+            for (int i = 0; i < parts.length; i++) {
+                Object item = templateItems[i];
+                // group indices are normalized to Integer, literals to TruffleString
+                parts[i] = longCheckNode.execute(item) ? (Object) castToIntNode.execute(item) : cast.execute(item);
+            }
+            int length = codePointLengthNode.execute(input, TS_ENCODING);
+            TruffleStringBuilder sb = TruffleStringBuilder.create(TS_ENCODING, tsbCapacity(length));
+            long n = 0;
+            int pos = 0;
+            boolean mustAdvance = false;
+            PythonContext context = getContext();
+            PythonLanguage language = getLanguage();
+            Object state = IndirectCallContext.enter(frame, language, context, this);
+            try {
+                while ((count == 0 || n < count) && pos <= length) {
+                    Object result = exec(regexLib, mustAdvance ? regexMustAdvance : regex, input, pos);
+                    if (!isMatch(resultLib, valueLib, result)) {
+                        break;
+                    }
+                    n++;
+                    int start = getStart(resultLib, valueLib, result, 0);
+                    int end = getEnd(resultLib, valueLib, result, 0);
+                    appendStringNode.execute(sb, substringNode.execute(input, pos, start - pos, TS_ENCODING, true));
+                    for (Object part : parts) {
+                        if (part instanceof Integer) {
+                            int groupIndex = (int) part;
+                            int groupStart = getStart(resultLib, valueLib, result, groupIndex);
+                            if (groupStart >= 0) {
+                                int groupEnd = getEnd(resultLib, valueLib, result, groupIndex);
+                                appendStringNode.execute(sb, substringNode.execute(input, groupStart, groupEnd - groupStart, TS_ENCODING, true));
+                            }
+                        } else {
+                            appendStringNode.execute(sb, (TruffleString) part);
+                        }
+                    }
+                    pos = end;
+                    mustAdvance = start == end;
+                }
+            } finally {
+                IndirectCallContext.exit(frame, language, context, state);
+            }
+            appendStringNode.execute(sb, substringNode.execute(input, pos, length - pos, TS_ENCODING, true));
+            return factory().createTuple(new Object[]{toStringNode.execute(sb), n});
+        }
+    }
+
+    @Builtin(name = "tregex_split_str", minNumOfPositionalArgs = 5)
+    @TypeSystemReference(PythonArithmeticTypes.class)
+    @GenerateNodeFactory
+    abstract static class TRegexSplitStr extends TRegexLoopNode {
+
+        @Specialization
+        Object split(VirtualFrame frame, Object regex, Object regexMustAdvance, Object inputObj, long maxsplit, int groupCount,
+                        @Cached CastToTruffleStringNode cast,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.SubstringNode substringNode,
+                        @CachedLibrary(limit = "2") InteropLibrary regexLib,
+                        @CachedLibrary(limit = "2") InteropLibrary resultLib,
+                        @CachedLibrary(limit = "3") InteropLibrary valueLib) {
+            TruffleString input = cast.execute(inputObj);
+            int length = codePointLengthNode.execute(input, TS_ENCODING);
+            ArrayBuilder<Object> pieces = new ArrayBuilder<>();
+            long n = 0;
+            int collectPos = 0;
+            int searchPos = 0;
+            boolean mustAdvance = false;
+            PythonContext context = getContext();
+            PythonLanguage language = getLanguage();
+            Object state = IndirectCallContext.enter(frame, language, context, this);
+            try {
+                while ((maxsplit == 0 || n < maxsplit) && searchPos <= length) {
+                    Object result = exec(regexLib, mustAdvance ? regexMustAdvance : regex, input, searchPos);
+                    if (!isMatch(resultLib, valueLib, result)) {
+                        break;
+                    }
+                    n++;
+                    int start = getStart(resultLib, valueLib, result, 0);
+                    int end = getEnd(resultLib, valueLib, result, 0);
+                    pieces.add(substringNode.execute(input, collectPos, start - collectPos, TS_ENCODING, true));
+                    for (int i = 1; i < groupCount; i++) {
+                        int groupStart = getStart(resultLib, valueLib, result, i);
+                        if (groupStart >= 0) {
+                            int groupEnd = getEnd(resultLib, valueLib, result, i);
+                            pieces.add(substringNode.execute(input, groupStart, groupEnd - groupStart, TS_ENCODING, true));
+                        } else {
+                            pieces.add(PNone.NONE);
+                        }
+                    }
+                    collectPos = end;
+                    searchPos = end;
+                    mustAdvance = start == end;
+                }
+            } finally {
+                IndirectCallContext.exit(frame, language, context, state);
+            }
+            pieces.add(substringNode.execute(input, collectPos, length - collectPos, TS_ENCODING, true));
+            return factory().createList(pieces.toArray(new Object[0]));
+        }
+    }
 }
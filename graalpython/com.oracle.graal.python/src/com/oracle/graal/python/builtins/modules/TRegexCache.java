@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A size-bounded LRU cache of parsed TRegex regexes, keyed by the regex source text. The source
+ * text contains the flavor, the pattern, the flags and the TRegex options (which encode the Python
+ * method and the must-advance flag), so it identifies a regex completely. The cache is owned by
+ * {@link PythonLanguage} and therefore shared by all contexts of an engine. It holds the call
+ * targets returned by {@code parseInternal}, which belong to the engine and not to a context; each
+ * context calls them to obtain its regex object. The cache of the {@code re} module holds
+ * {@code Pattern} objects of one context, is keyed without the TRegex options and is emptied by
+ * {@code re.purge()}, so it cannot provide this sharing.
+ */
+public final class TRegexCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<String, CallTarget> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TRegexCache(int maxSize) {
+        assert maxSize > 0;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @TruffleBoundary
+    public synchronized CallTarget get(String regexSource) {
+        CallTarget regex = entries.get(regexSource);
+        if (regex != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return regex;
+    }
+
+    @TruffleBoundary
+    public synchronized void put(String regexSource, CallTarget regex) {
+        entries.put(regexSource, regex);
+        if (entries.size() > maxSize) {
+            Iterator<Map.Entry<String, CallTarget>> it = entries.entrySet().iterator();
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns {@code [hits, misses, evictions, currentSize, maxSize]}.
+     */
+    @TruffleBoundary
+    public synchronized long[] getStatistics() {
+        return new long[]{hits, misses, evictions, entries.size(), maxSize};
+    }
+}
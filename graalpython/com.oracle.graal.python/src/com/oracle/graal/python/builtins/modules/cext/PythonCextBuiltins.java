@@ -94,6 +94,7 @@ import com.oracle.graal.python.builtins.objects.cext.capi.CApiContext.AllocInfo;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiGuards;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiMemberAccessNodes.ReadMemberNode;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiMemberAccessNodes.WriteMemberNode;
+import com.oracle.graal.python.builtins.objects.cext.capi.CApiProfiler;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.AsCharPointerNode;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.AsPythonObjectNode;
@@ -1842,17 +1843,54 @@ public final class PythonCextBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class PyTruffleNativeOptions extends PythonBuiltinNode {
         private static final int TRACE_MEM = 0x1;
+        private static final int PRECISE_ALLOC = 0x2;
 
         @Specialization
         int getNativeOptions() {
+            return getNativeOptions(getContext());
+        }
+
+        /**
+         * The options may change while the context runs (an allocation reporter may be attached
+         * later), so the native allocator re-reads them periodically.
+         */
+        @TruffleBoundary
+        static int getNativeOptions(PythonContext context) {
             int options = 0;
-            if (getContext().getOption(PythonOptions.TraceNativeMemory)) {
-                options |= TRACE_MEM;
+            if (context.getOption(PythonOptions.TraceNativeMemory)) {
+                options |= TRACE_MEM | PRECISE_ALLOC;
+            }
+            if (PyTruffleObjectAlloc.isPreciseTrackingRequired(context)) {
+                options |= PRECISE_ALLOC;
             }
             return options;
         }
     }
 
+    /**
+     * Called from the native allocator with the accumulated size of allocations (positive delta)
+     * or frees (negative delta) since the last call. This is used instead of calling
+     * {@code PyTruffle_Object_Alloc} and {@code PyTruffle_Trace_Free} for each single allocation if
+     * no precise tracing is required. Returns the current native options such that the allocator
+     * notices if precise tracing becomes required.
+     */
+    @Builtin(name = "PyTruffle_Native_Memory_Pressure", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class PyTruffleNativeMemoryPressure extends PythonUnaryBuiltinNode {
+
+        @Specialization
+        int doLong(VirtualFrame frame, long delta,
+                        @Cached GetThreadStateNode getThreadStateNode) {
+            CApiContext cApiContext = getContext().getCApiContext();
+            if (delta > 0) {
+                cApiContext.increaseMemoryPressure(frame, getThreadStateNode, this, delta);
+            } else {
+                cApiContext.reduceMemoryPressure(-delta);
+            }
+            return PyTruffleNativeOptions.getNativeOptions(getContext());
+        }
+    }
+
     /**
      * This will be called right before the call to stdlib's {@code free} function.
      */
@@ -2123,6 +2161,10 @@ public final class PythonCextBuiltins extends PythonBuiltins {
                         @Cached CharPtrToJavaObjectNode charPtrToJavaObjectNode) {
             Object f = createFunctionNode.execute(name, methObj, wrapper, PNone.NO_VALUE, flags, factory);
             assert f instanceof PBuiltinFunction;
+            CApiProfiler profiler = CApiProfiler.get(createFunctionNode);
+            if (profiler != null) {
+                profiler.registerFunction(methObj, module);
+            }
             PBuiltinFunction func = (PBuiltinFunction) f;
             dylib.put(func.getStorage(), T___NAME__, name);
             Object strDoc = charPtrToJavaObjectNode.execute(doc);
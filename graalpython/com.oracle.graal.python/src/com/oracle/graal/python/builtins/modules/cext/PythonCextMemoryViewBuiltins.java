@@ -63,8 +63,10 @@ import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.lib.PyMemoryViewFromObject;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -156,4 +158,23 @@ public final class PythonCextMemoryViewBuiltins extends PythonBuiltins {
             }
         }
     }
+
+    /**
+     * Called when the last native export of a memoryview was released; writes back and frees the
+     * off-heap copy of a managed buffer that may have been created in the meantime.
+     */
+    @Builtin(name = "PyTruffle_MemoryView_ReleaseBufferArray", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class PyTruffleMemoryViewReleaseBufferArray extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object release(PMemoryView mv) {
+            ReleaseNode.releaseBufferArrayWrapper(mv);
+            return PNone.NO_VALUE;
+        }
+
+        @Fallback
+        static Object doOther(@SuppressWarnings("unused") Object object) {
+            return PNone.NO_VALUE;
+        }
+    }
 }
@@ -90,6 +90,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -103,6 +104,8 @@ import com.oracle.truffle.api.strings.TruffleString;
 public final class CSVModuleBuiltins extends PythonBuiltins {
 
     private static final TruffleString T__DIALECTS = tsLiteral("_dialects");
+    private static final TruffleString T_PARSE_NUMBERS = tsLiteral("parse_numbers");
+    private static final TruffleString T_WRITE_BATCH_SIZE = tsLiteral("write_batch_size");
     static final String J_ATTR_DELIMITER = "delimiter";
     private static final TruffleString T_ATTR_DELIMITER = tsLiteral(J_ATTR_DELIMITER);
     static final String J_ATTR_DOUBLEQUOTE = "doublequote";
@@ -254,10 +257,20 @@ public final class CSVModuleBuiltins extends PythonBuiltins {
         @Specialization
         Object createReader(VirtualFrame frame, Object csvfile, Object dialectObj, PKeyword[] kwargs,
                         @Cached PyObjectGetIter getIter,
-                        @Cached CallNode callNode) {
+                        @Cached CallNode callNode,
+                        @Cached TruffleString.EqualNode equalNode,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
             Object inputIter = getIter.execute(frame, csvfile);
-            CSVDialect dialect = (CSVDialect) callNode.execute(frame, PythonBuiltinClassType.CSVDialect, new Object[]{dialectObj}, kwargs);
-            return factory().createCSVReader(PythonBuiltinClassType.CSVReader, inputIter, dialect);
+            /* parse_numbers is not a dialect parameter, take it out before creating the dialect */
+            boolean parseNumbers = false;
+            PKeyword[] dialectKwargs = kwargs;
+            int idx = findKeyword(kwargs, T_PARSE_NUMBERS, equalNode);
+            if (idx >= 0) {
+                parseNumbers = isTrueNode.execute(frame, kwargs[idx].getValue());
+                dialectKwargs = removeKeyword(kwargs, idx);
+            }
+            CSVDialect dialect = (CSVDialect) callNode.execute(frame, PythonBuiltinClassType.CSVDialect, new Object[]{dialectObj}, dialectKwargs);
+            return factory().createCSVReader(PythonBuiltinClassType.CSVReader, inputIter, dialect, parseNumbers);
         }
     }
 
@@ -268,16 +281,45 @@ public final class CSVModuleBuiltins extends PythonBuiltins {
         Object createReader(VirtualFrame frame, Object outputFile, Object dialectObj, PKeyword[] kwargs,
                         @Cached CallNode callNode,
                         @Cached PyObjectLookupAttr lookupAttr,
-                        @Cached PyCallableCheckNode checkCallable) {
+                        @Cached PyCallableCheckNode checkCallable,
+                        @Cached TruffleString.EqualNode equalNode,
+                        @Cached PyLongAsIntNode asIntNode) {
             Object write = lookupAttr.execute(frame, outputFile, T_WRITE);
             if (write == PNone.NO_VALUE || !checkCallable.execute(write)) {
                 throw raise(PythonBuiltinClassType.TypeError, ErrorMessages.S_MUST_HAVE_WRITE_METHOD, "argument 1");
             }
-            CSVDialect dialect = (CSVDialect) callNode.execute(frame, PythonBuiltinClassType.CSVDialect, new Object[]{dialectObj}, kwargs);
-            return factory().createCSVWriter(PythonBuiltinClassType.CSVWriter, write, dialect);
+            /* write_batch_size is not a dialect parameter, take it out before creating the dialect */
+            int writeBatchSize = CSVWriter.DEFAULT_WRITE_BATCH_SIZE;
+            PKeyword[] dialectKwargs = kwargs;
+            int idx = findKeyword(kwargs, T_WRITE_BATCH_SIZE, equalNode);
+            if (idx >= 0) {
+                writeBatchSize = asIntNode.execute(frame, kwargs[idx].getValue());
+                if (writeBatchSize < 0) {
+                    throw raise(PythonBuiltinClassType.ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "write_batch_size");
+                }
+                dialectKwargs = removeKeyword(kwargs, idx);
+            }
+            CSVDialect dialect = (CSVDialect) callNode.execute(frame, PythonBuiltinClassType.CSVDialect, new Object[]{dialectObj}, dialectKwargs);
+            return factory().createCSVWriter(PythonBuiltinClassType.CSVWriter, write, dialect, writeBatchSize);
         }
     }
 
+    static int findKeyword(PKeyword[] kwargs, TruffleString name, TruffleString.EqualNode equalNode) {
+        for (int i = 0; i < kwargs.length; i++) {
+            if (equalNode.execute(kwargs[i].getName(), name, TS_ENCODING)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static PKeyword[] removeKeyword(PKeyword[] kwargs, int idx) {
+        PKeyword[] result = new PKeyword[kwargs.length - 1];
+        PythonUtils.arraycopy(kwargs, 0, result, 0, idx);
+        PythonUtils.arraycopy(kwargs, idx + 1, result, idx, kwargs.length - idx - 1);
+        return result;
+    }
+
     @Builtin(name = "field_size_limit", parameterNames = {"$mod", "limit"}, declaresExplicitSelf = true, doc = "Sets an upper limit on parsed fields.\n" +
                     "csv.field_size_limit([limit])\n\n" +
                     "Returns old limit. If limit is not given, no new limit is set and\n" +
@@ -711,7 +753,12 @@ public final class CSVModuleBuiltins extends PythonBuiltins {
                     "provided by the dialect.\n" +
                     "\n" +
                     "The returned object is an iterator.  Each iteration returns a row\n" +
-                    "of the CSV file (which can span multiple input lines)";
+                    "of the CSV file (which can span multiple input lines)\n" +
+                    "\n" +
+                    "If the keyword argument \"parse_numbers\" is true, unquoted fields\n" +
+                    "that are decimal integers or floating point numbers are returned as\n" +
+                    "int or float instead of str.  With QUOTE_NONNUMERIC, other unquoted\n" +
+                    "fields are still converted to float.";
 
     private static final String WRITER_DOC = "    csv_writer = csv.writer(fileobj [, dialect='excel']\n" +
                     "                            [optional keyword args])\n" +
@@ -724,5 +771,10 @@ public final class CSVModuleBuiltins extends PythonBuiltins {
                     "                            [optional keyword args])\n" +
                     "    csv_writer.writerows(rows)\n" +
                     "\n" +
-                    "The \"fileobj\" argument can be any object that supports the file API.\n";
+                    "The \"fileobj\" argument can be any object that supports the file API.\n" +
+                    "\n" +
+                    "If \"write_batch_size\" is positive, writerows() joins rows into a\n" +
+                    "shared buffer and passes it to the file's write() method once it\n" +
+                    "holds at least that many characters.  The default of 0 writes every\n" +
+                    "row separately.\n";
 }
@@ -45,6 +45,7 @@ import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.truffle.api.object.Shape;
+import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
 
 public final class CSVReader extends PythonBuiltinObject {
@@ -63,22 +64,33 @@ public final class CSVReader extends PythonBuiltinObject {
 
     final Object inputIter; /* iterate over this for input lines */
     final CSVDialect dialect; /* parsing dialect */
+    final boolean parseNumbers; /* convert unquoted numeric fields to int or float */
     ReaderState state; /* current CSV parse state */
     TruffleStringBuilder field; /* temporary buffer */
+    TruffleString runLine; /* line holding field text not yet copied to the buffer */
+    int runStart; /* start of the pending field text in runLine */
+    int runEnd; /* end of the pending field text in runLine */
     boolean numericField; /* treat field as numeric */
     int lineNum; /* Source-file line number */
+    int lastRowLength; /* number of fields in the previous row, used to pre-size the next one */
     long fieldLimit; /* Cached copy of CSVModuleBuiltins.fieldLimit */
 
-    public CSVReader(Object cls, Shape instanceShape, Object inputIter, CSVDialect dialect) {
+    public CSVReader(Object cls, Shape instanceShape, Object inputIter, CSVDialect dialect, boolean parseNumbers) {
         super(cls, instanceShape);
         this.inputIter = inputIter;
         this.dialect = dialect;
+        this.parseNumbers = parseNumbers;
         lineNum = 0;
     }
 
     void parseReset() {
         this.field = TruffleStringBuilder.create(TS_ENCODING);
+        this.runLine = null;
         this.state = START_RECORD;
         this.numericField = false;
     }
+
+    boolean isFieldEmpty() {
+        return runLine == null && field.isEmpty();
+    }
 }
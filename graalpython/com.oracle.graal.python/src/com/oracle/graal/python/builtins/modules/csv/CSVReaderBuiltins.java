@@ -40,6 +40,7 @@
  */
 package com.oracle.graal.python.builtins.modules.csv;
 
+import static com.oracle.graal.python.builtins.modules.csv.CSVModuleBuiltins.NOT_SET_CODEPOINT;
 import static com.oracle.graal.python.builtins.modules.csv.CSVModuleBuiltins.T__CSV;
 import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.AFTER_ESCAPED_CRNL;
 import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.EAT_CRNL;
@@ -55,6 +56,7 @@ import static com.oracle.graal.python.nodes.SpecialMethodNames.J___ITER__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.J___NEXT__;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
+import java.math.BigInteger;
 import java.util.List;
 
 import com.oracle.graal.python.builtins.Builtin;
@@ -62,10 +64,8 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState;
-import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.lib.PyNumberFloatNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
-import com.oracle.graal.python.nodes.builtins.ListNodes.AppendNode;
 import com.oracle.graal.python.nodes.control.GetNextNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
@@ -74,6 +74,10 @@ import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorageFactory;
+import com.oracle.graal.python.util.ArrayBuilder;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
@@ -82,7 +86,6 @@ import com.oracle.truffle.api.exception.AbstractTruffleException;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
-import com.oracle.truffle.api.strings.TruffleStringIterator;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.CSVReader)
 public final class CSVReaderBuiltins extends PythonBuiltins {
@@ -110,20 +113,22 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
         private static final int CARRIAGE_RETURN_CODEPOINT = '\r';
         private static final int SPACE_CODEPOINT = ' ';
 
+        @Child private TruffleString.SubstringNode substringNode = TruffleString.SubstringNode.create();
+        @Child private TruffleStringBuilder.AppendSubstringByteIndexNode appendSubstringNode = TruffleStringBuilder.AppendSubstringByteIndexNode.create();
+
         @Specialization
         Object nextPos(VirtualFrame frame, CSVReader self,
                         @Cached TruffleString.ByteIndexOfCodePointNode byteIndexOfCodePointNode,
-                        @Cached TruffleString.CreateCodePointIteratorNode createCodePointIteratorNode,
-                        @Cached TruffleStringIterator.NextNode nextNode,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.CodePointAtIndexNode codePointAtIndexNode,
                         @Cached TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
                         @Cached TruffleStringBuilder.ToStringNode toStringNode,
                         @Cached PyNumberFloatNode pyNumberFloatNode,
-                        @Cached AppendNode appendNode,
                         @Cached GetNextNode getNextNode,
                         @Cached CastToTruffleStringNode castToStringNode,
                         @Cached GetClassNode getClassNode,
                         @Cached IsBuiltinClassProfile isBuiltinClassProfile) {
-            PList fields = factory().createList();
+            ArrayBuilder<Object> fields = new ArrayBuilder<>(Math.max(self.lastRowLength, 4));
             CSVModuleBuiltins csvModuleBuiltins = (CSVModuleBuiltins) getContext().lookupBuiltinModule(T__CSV).getBuiltins();
             self.parseReset();
             do {
@@ -133,12 +138,12 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                 } catch (PException e) {
                     e.expectStopIteration(isBuiltinClassProfile);
                     self.fieldLimit = csvModuleBuiltins.fieldLimit;
-                    if (!self.field.isEmpty() || self.state == IN_QUOTED_FIELD) {
+                    if (!self.isFieldEmpty() || self.state == IN_QUOTED_FIELD) {
                         if (self.dialect.strict) {
                             throw raise(PythonBuiltinClassType.CSVError, ErrorMessages.UNEXPECTED_END_OF_DATA);
                         } else {
                             try {
-                                parseSaveField(self, fields, toStringNode, pyNumberFloatNode, appendNode);
+                                parseSaveField(self, fields, toStringNode, pyNumberFloatNode);
                             } catch (AbstractTruffleException ignored) {
                                 throw e.getExceptionForReraise();
                             }
@@ -166,20 +171,60 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                 }
 
                 self.lineNum++;
-                TruffleStringIterator tsi = createCodePointIteratorNode.execute(line, TS_ENCODING);
-                while (tsi.hasNext()) {
-                    final int codepoint = nextNode.execute(tsi);
-                    parseProcessCodePoint(self, fields, codepoint, appendCodePointNode, toStringNode, pyNumberFloatNode, appendNode);
+                int length = codePointLengthNode.execute(line, TS_ENCODING);
+                int i = 0;
+                while (i < length) {
+                    if (self.state == IN_FIELD || self.state == IN_QUOTED_FIELD) {
+                        /* take all ordinary characters of the field at once */
+                        int runEnd = findRunEnd(self, line, i, length, codePointAtIndexNode);
+                        if (runEnd > i) {
+                            parseAddRun(self, line, i, runEnd);
+                            i = runEnd;
+                            continue;
+                        }
+                    }
+                    final int codepoint = codePointAtIndexNode.execute(line, i, TS_ENCODING);
+                    parseProcessCodePoint(self, fields, codepoint, appendCodePointNode, toStringNode, pyNumberFloatNode);
+                    i++;
                 }
-                parseProcessCodePoint(self, fields, EOL, appendCodePointNode, toStringNode, pyNumberFloatNode, appendNode);
+                parseProcessCodePoint(self, fields, EOL, appendCodePointNode, toStringNode, pyNumberFloatNode);
 
             } while (self.state != START_RECORD);
-            return fields;
+            self.lastRowLength = fields.size();
+            return factory().createList(SequenceStorageFactory.createStorage(fields.toObjectArray(PythonUtils.EMPTY_OBJECT_ARRAY)));
+        }
+
+        /**
+         * Returns the index of the first code point at or after {@code start} that has a special
+         * meaning in the current state, or {@code length} if there is none.
+         */
+        private static int findRunEnd(CSVReader self, TruffleString line, int start, int length, TruffleString.CodePointAtIndexNode codePointAtIndexNode) {
+            CSVDialect dialect = self.dialect;
+            int i = start;
+            if (self.state == IN_QUOTED_FIELD) {
+                int quote = dialect.quoting != QUOTE_NONE ? dialect.quoteCharCodePoint : NOT_SET_CODEPOINT;
+                while (i < length) {
+                    int codePoint = codePointAtIndexNode.execute(line, i, TS_ENCODING);
+                    if (codePoint == dialect.escapeCharCodePoint || codePoint == quote) {
+                        break;
+                    }
+                    i++;
+                }
+            } else {
+                while (i < length) {
+                    int codePoint = codePointAtIndexNode.execute(line, i, TS_ENCODING);
+                    if (codePoint == dialect.delimiterCodePoint || codePoint == dialect.escapeCharCodePoint || codePoint == NEWLINE_CODEPOINT || codePoint == CARRIAGE_RETURN_CODEPOINT) {
+                        break;
+                    }
+                    i++;
+                }
+            }
+            return i;
         }
 
         @SuppressWarnings("fallthrough")
-        private void parseProcessCodePoint(CSVReader self, PList fields, int codePoint, TruffleStringBuilder.AppendCodePointNode appendCodePointNode, TruffleStringBuilder.ToStringNode toStringNode,
-                        PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode) {
+        private void parseProcessCodePoint(CSVReader self, ArrayBuilder<Object> fields, int codePoint, TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
+                        TruffleStringBuilder.ToStringNode toStringNode, PyNumberFloatNode pyNumberFloatNode) {
             CSVDialect dialect = self.dialect;
 
             switch (self.state) {
@@ -200,7 +245,7 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                     /* expecting field */
                     if (codePoint == NEWLINE_CODEPOINT || codePoint == CARRIAGE_RETURN_CODEPOINT || codePoint == EOL) {
                         /* save empty field - return [fields] */
-                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode, appendNode);
+                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode);
                         self.state = (codePoint == EOL) ? START_RECORD : EAT_CRNL;
                     } else if (codePoint == dialect.quoteCharCodePoint &&
                                     dialect.quoting != QUOTE_NONE) {
@@ -213,10 +258,10 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                         /* ignore space at start of field */
                     } else if (codePoint == dialect.delimiterCodePoint) {
                         /* save empty field */
-                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode, appendNode);
+                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode);
                     } else {
                         /* begin new unquoted field */
-                        if (dialect.quoting == QUOTE_NONNUMERIC) {
+                        if (dialect.quoting == QUOTE_NONNUMERIC || self.parseNumbers) {
                             self.numericField = true;
                         }
                         parseAddCodePoint(self, codePoint, appendCodePointNode);
@@ -248,7 +293,7 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                     /* in unquoted field */
                     if (codePoint == NEWLINE_CODEPOINT || codePoint == CARRIAGE_RETURN_CODEPOINT || codePoint == EOL) {
                         /* end of line - return [fields] */
-                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode, appendNode);
+                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode);
 
                         self.state = (codePoint == EOL) ? START_RECORD : EAT_CRNL;
                     } else if (codePoint == dialect.escapeCharCodePoint) {
@@ -256,7 +301,7 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                         self.state = ESCAPED_CHAR;
                     } else if (codePoint == dialect.delimiterCodePoint) {
                         /* save field - wait for new field */
-                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode, appendNode);
+                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode);
                         self.state = START_FIELD;
                     } else {
                         /* normal character - save in field */
@@ -303,11 +348,11 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
                         self.state = IN_QUOTED_FIELD;
                     } else if (codePoint == dialect.delimiterCodePoint) {
                         /* save field - wait for new field */
-                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode, appendNode);
+                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode);
                         self.state = START_FIELD;
                     } else if (codePoint == NEWLINE_CODEPOINT || codePoint == CARRIAGE_RETURN_CODEPOINT || codePoint == EOL) {
                         /* end of line - return [fields] */
-                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode, appendNode);
+                        parseSaveField(self, fields, toStringNode, pyNumberFloatNode);
                         self.state = (codePoint == EOL) ? START_RECORD : EAT_CRNL;
                     } else if (!dialect.strict) {
                         parseAddCodePoint(self, codePoint, appendCodePointNode);
@@ -330,24 +375,125 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
             }
         }
 
-        private void parseSaveField(CSVReader self, PList fields, TruffleStringBuilder.ToStringNode toStringNode, PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode) {
-            TruffleString field = toStringNode.execute(self.field);
-            self.field = TruffleStringBuilder.create(TS_ENCODING);
+        private void parseSaveField(CSVReader self, ArrayBuilder<Object> fields, TruffleStringBuilder.ToStringNode toStringNode, PyNumberFloatNode pyNumberFloatNode) {
+            TruffleString field;
+            if (self.runLine != null && self.field.isEmpty()) {
+                /* the whole field is a single run of the line, no need to go through the buffer */
+                field = substringNode.execute(self.runLine, self.runStart, self.runEnd - self.runStart, TS_ENCODING, false);
+                self.runLine = null;
+            } else {
+                flushRun(self);
+                field = toStringNode.execute(self.field);
+                self.field = TruffleStringBuilder.create(TS_ENCODING);
+            }
             if (self.numericField) {
                 self.numericField = false;
-                appendNode.execute(fields, pyNumberFloatNode.execute(field));
+                if (self.parseNumbers) {
+                    Object number = parseNumber(field);
+                    if (number == field && self.dialect.quoting == QUOTE_NONNUMERIC) {
+                        /* QUOTE_NONNUMERIC still requires every unquoted field to be a number */
+                        number = pyNumberFloatNode.execute(field);
+                    }
+                    fields.add(number);
+                } else {
+                    fields.add(pyNumberFloatNode.execute(field));
+                }
             } else {
-                appendNode.execute(fields, field);
+                fields.add(field);
             }
         }
 
         private void parseAddCodePoint(CSVReader self, int codePoint, TruffleStringBuilder.AppendCodePointNode appendCodePointNode) {
+            checkFieldLimit(self, 1);
+            flushRun(self);
+            appendCodePointNode.execute(self.field, codePoint, 1, true);
+        }
+
+        private void parseAddRun(CSVReader self, TruffleString line, int start, int end) {
+            checkFieldLimit(self, end - start);
+            if (self.runLine == null && self.field.isEmpty()) {
+                self.runLine = line;
+                self.runStart = start;
+                self.runEnd = end;
+            } else {
+                flushRun(self);
+                appendSubstringNode.execute(self.field, line, start * 4, (end - start) * 4);
+            }
+        }
+
+        private void flushRun(CSVReader self) {
+            if (self.runLine != null) {
+                appendSubstringNode.execute(self.field, self.runLine, self.runStart * 4, (self.runEnd - self.runStart) * 4);
+                self.runLine = null;
+            }
+        }
+
+        private void checkFieldLimit(CSVReader self, int added) {
             assert TS_ENCODING == TruffleString.Encoding.UTF_32;
-            int cpLen = self.field.byteLength() / 4;        // assumes UTF-32
-            if (cpLen + 1 > self.fieldLimit) {
+            long cpLen = self.field.byteLength() / 4;        // assumes UTF-32
+            if (self.runLine != null) {
+                cpLen += self.runEnd - self.runStart;
+            }
+            if (cpLen + added > self.fieldLimit) {
                 throw raise(PythonBuiltinClassType.CSVError, ErrorMessages.LARGER_THAN_FIELD_SIZE_LIMIT, self.fieldLimit);
             }
-            appendCodePointNode.execute(self.field, codePoint, 1, true);
+        }
+
+        /**
+         * Converts an unquoted field to an int or float if it is a plain decimal number, otherwise
+         * returns it unchanged.
+         */
+        @TruffleBoundary
+        private Object parseNumber(TruffleString field) {
+            String s = field.toJavaStringUncached();
+            int len = s.length();
+            int i = 0;
+            if (i < len && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            int intDigits = countDigits(s, i);
+            i += intDigits;
+            if (i == len) {
+                if (intDigits == 0) {
+                    return field;
+                }
+                if (intDigits <= 18) {
+                    long value = Long.parseLong(s);
+                    return (int) value == value ? (Object) (int) value : (Object) value;
+                }
+                return factory().createInt(new BigInteger(s));
+            }
+            int fracDigits = 0;
+            if (s.charAt(i) == '.') {
+                fracDigits = countDigits(s, i + 1);
+                i += 1 + fracDigits;
+            }
+            if (intDigits + fracDigits == 0) {
+                return field;
+            }
+            if (i < len && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+                i++;
+                if (i < len && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                    i++;
+                }
+                int expDigits = countDigits(s, i);
+                if (expDigits == 0) {
+                    return field;
+                }
+                i += expDigits;
+            }
+            if (i != len) {
+                return field;
+            }
+            return Double.parseDouble(s);
+        }
+
+        private static int countDigits(String s, int start) {
+            int i = start;
+            while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                i++;
+            }
+            return i - start;
         }
     }
 
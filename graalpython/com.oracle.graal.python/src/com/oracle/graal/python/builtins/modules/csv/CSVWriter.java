@@ -47,10 +47,15 @@ public final class CSVWriter extends PythonBuiltinObject {
 
     final Object write; /* write output lines to this file */
     final CSVDialect dialect; /* parsing dialect */
+    final int writeBatchSize; /* writerows flushes after this many characters */
 
-    public CSVWriter(Object cls, Shape instanceShape, Object write, CSVDialect dialect) {
+    /* batching is opt-in, by default every row is written separately like in CPython */
+    static final int DEFAULT_WRITE_BATCH_SIZE = 0;
+
+    public CSVWriter(Object cls, Shape instanceShape, Object write, CSVDialect dialect, int writeBatchSize) {
         super(cls, instanceShape);
         this.write = write;
         this.dialect = dialect;
+        this.writeBatchSize = writeBatchSize;
     }
 }
@@ -55,6 +55,7 @@ import com.oracle.graal.python.lib.PyNumberCheckNode;
 import com.oracle.graal.python.lib.PyObjectGetIter;
 import com.oracle.graal.python.lib.PyObjectStrAsTruffleStringNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PNodeWithRaise;
 import com.oracle.graal.python.nodes.call.special.CallUnaryMethodNode;
 import com.oracle.graal.python.nodes.control.GetNextNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
@@ -85,16 +86,85 @@ public final class CSVWriterBuiltins extends PythonBuiltins {
     public abstract static class WriteRowNode extends PythonBinaryBuiltinNode {
         @Specialization
         Object doIt(VirtualFrame frame, CSVWriter self, Object seq,
+                        @Cached JoinRowNode joinRow,
+                        @Cached CallUnaryMethodNode callNode,
+                        @Cached TruffleStringBuilder.ToStringNode toStringNode) {
+            TruffleStringBuilder sb = TruffleStringBuilder.create(TS_ENCODING);
+            joinRow.execute(frame, self.dialect, seq, sb);
+            return callNode.executeObject(frame, self.write, toStringNode.execute(sb));
+        }
+    }
+
+    @Builtin(name = "writerows", parameterNames = {"$self", "seqseq"}, minNumOfPositionalArgs = 2, doc = WRITEROWS_DOC)
+    @GenerateNodeFactory
+    public abstract static class WriteRowsNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object doIt(VirtualFrame frame, CSVWriter self, Object seq,
+                        @Cached PyObjectGetIter getIter,
+                        @Cached GetNextNode getNext,
+                        @Cached IsBuiltinClassProfile isBuiltinClassProfile,
+                        @Cached JoinRowNode joinRow,
+                        @Cached CallUnaryMethodNode callNode,
+                        @Cached TruffleStringBuilder.ToStringNode toStringNode,
+                        @Cached TruffleString.SubstringByteIndexNode substringNode) {
+            Object iter = getIter.execute(frame, seq);
+
+            /*
+             * Join the rows into one buffer and only call write() once it reaches the batch size
+             * instead of once per row.
+             */
+            TruffleStringBuilder sb = TruffleStringBuilder.create(TS_ENCODING);
+            long batchBytes = (long) self.writeBatchSize * 4;
+            int completeBytes = 0;
+            try {
+                while (true) {
+                    Object row;
+                    try {
+                        row = getNext.execute(frame, iter);
+                    } catch (PException e) {
+                        e.expectStopIteration(isBuiltinClassProfile);
+                        break;
+                    }
+                    joinRow.execute(frame, self.dialect, row, sb);
+                    completeBytes = sb.byteLength();
+                    if (completeBytes >= batchBytes) {
+                        completeBytes = 0;
+                        callNode.executeObject(frame, self.write, toStringNode.execute(sb));
+                        sb = TruffleStringBuilder.create(TS_ENCODING);
+                    }
+                }
+            } catch (PException e) {
+                /* Rows completed before the error are written, as if they were written one by one */
+                if (completeBytes > 0) {
+                    callNode.executeObject(frame, self.write, substringNode.execute(toStringNode.execute(sb), 0, completeBytes, TS_ENCODING, true));
+                }
+                throw e;
+            }
+            if (!sb.isEmpty()) {
+                callNode.executeObject(frame, self.write, toStringNode.execute(sb));
+            }
+            return PNone.NONE;
+        }
+    }
+
+    /**
+     * Appends one CSV record, including the line terminator, for the fields of {@code seq} to
+     * {@code sb}.
+     */
+    abstract static class JoinRowNode extends PNodeWithRaise {
+
+        abstract void execute(VirtualFrame frame, CSVDialect dialect, Object seq, TruffleStringBuilder sb);
+
+        @Specialization
+        void doIt(VirtualFrame frame, CSVDialect dialect, Object seq, TruffleStringBuilder sb,
                         @Cached PyObjectGetIter getIter,
                         @Cached GetClassNode getClass,
                         @Cached IsBuiltinClassProfile errorProfile,
-                        @Cached CallUnaryMethodNode callNode,
                         @Cached TruffleString.CreateCodePointIteratorNode createCodePointIteratorNode,
                         @Cached TruffleStringIterator.NextNode nextNode,
                         @Cached TruffleString.ByteIndexOfCodePointNode byteIndexOfCodePointNode,
                         @Cached TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
                         @Cached TruffleStringBuilder.AppendStringNode appendStringNode,
-                        @Cached TruffleStringBuilder.ToStringNode toStringNode,
                         @Cached PyObjectStrAsTruffleStringNode objectStrAsTruffleStringNode,
                         @Cached PyNumberCheckNode pyNumberCheckNode,
                         @Cached GetNextNode getNextNode,
@@ -108,9 +178,8 @@ public final class CSVWriterBuiltins extends PythonBuiltins {
                 throw raise(PythonBuiltinClassType.CSVError, ErrorMessages.EXPECTED_ITERABLE_NOT_S, getClass.execute(seq));
             }
 
-            // Join all fields of passed in sequence in internal buffer.
-            TruffleStringBuilder sb = TruffleStringBuilder.create(TS_ENCODING);
-            CSVDialect dialect = self.dialect;
+            // Join all fields of passed in sequence in the buffer.
+            int rowStart = sb.byteLength();
             boolean first = true;
             while (true) {
                 try {
@@ -128,14 +197,13 @@ public final class CSVWriterBuiltins extends PythonBuiltins {
                     break;
                 }
             }
-            if (!first && sb.isEmpty()) {
+            if (!first && sb.byteLength() == rowStart) {
                 if (dialect.quoting == QUOTE_NONE) {
                     throw raise(PythonBuiltinClassType.CSVError, ErrorMessages.EMPTY_FIELD_RECORD_MUST_BE_QUOTED);
                 }
                 joinAppend(sb, dialect, null, true, createCodePointIteratorNode, nextNode, byteIndexOfCodePointNode, appendCodePointNode, appendStringNode);
             }
             appendStringNode.execute(sb, dialect.lineTerminator);
-            return callNode.executeObject(frame, self.write, toStringNode.execute(sb));
         }
 
         private void joinField(TruffleStringBuilder sb, CSVDialect dialect, Object field, TruffleString.CreateCodePointIteratorNode createCodePointIteratorNode,
@@ -246,32 +314,6 @@ public final class CSVWriterBuiltins extends PythonBuiltins {
         }
     }
 
-    @Builtin(name = "writerows", parameterNames = {"$self", "seqseq"}, minNumOfPositionalArgs = 2, doc = WRITEROWS_DOC)
-    @GenerateNodeFactory
-    public abstract static class WriteRowsNode extends PythonBinaryBuiltinNode {
-        @Specialization
-        Object doIt(VirtualFrame frame, CSVWriter self, Object seq,
-                        @Cached PyObjectGetIter getIter,
-                        @Cached GetNextNode getNext,
-                        @Cached IsBuiltinClassProfile isBuiltinClassProfile,
-                        @Cached WriteRowNode writeRow) {
-            Object iter, row;
-
-            iter = getIter.execute(frame, seq);
-
-            while (true) {
-                try {
-                    row = getNext.execute(frame, iter);
-                    writeRow.execute(frame, self, row);
-                } catch (PException e) {
-                    e.expectStopIteration(isBuiltinClassProfile);
-                    break;
-                }
-            }
-            return PNone.NONE;
-        }
-    }
-
     @Builtin(name = "dialect", minNumOfPositionalArgs = 1, isGetter = true)
     @GenerateNodeFactory
     abstract static class GetDialectNode extends PythonUnaryBuiltinNode {
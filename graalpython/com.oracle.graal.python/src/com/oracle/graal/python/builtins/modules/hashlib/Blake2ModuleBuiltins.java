@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.hashlib;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibBlake2b;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibBlake2s;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.Python3Core;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.DigestObjectBuiltins.UpdateDigestNode;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+@CoreFunctions(defineModule = "_blake2")
+public final class Blake2ModuleBuiltins extends PythonBuiltins {
+
+    private static final TruffleString T_BLAKE2B = tsLiteral("blake2b");
+    private static final TruffleString T_BLAKE2S = tsLiteral("blake2s");
+
+    static final int BLAKE2B_MAX_DIGEST_SIZE = 64;
+    static final int BLAKE2B_MAX_KEY_SIZE = 64;
+    static final int BLAKE2B_SALT_SIZE = 16;
+    static final int BLAKE2B_PERSON_SIZE = 16;
+    static final int BLAKE2S_MAX_DIGEST_SIZE = 32;
+    static final int BLAKE2S_MAX_KEY_SIZE = 32;
+    static final int BLAKE2S_SALT_SIZE = 8;
+    static final int BLAKE2S_PERSON_SIZE = 8;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return Blake2ModuleBuiltinsFactory.getFactories();
+    }
+
+    @Override
+    public void initialize(Python3Core core) {
+        addBuiltinConstant("BLAKE2B_MAX_DIGEST_SIZE", BLAKE2B_MAX_DIGEST_SIZE);
+        addBuiltinConstant("BLAKE2B_MAX_KEY_SIZE", BLAKE2B_MAX_KEY_SIZE);
+        addBuiltinConstant("BLAKE2B_SALT_SIZE", BLAKE2B_SALT_SIZE);
+        addBuiltinConstant("BLAKE2B_PERSON_SIZE", BLAKE2B_PERSON_SIZE);
+        addBuiltinConstant("BLAKE2S_MAX_DIGEST_SIZE", BLAKE2S_MAX_DIGEST_SIZE);
+        addBuiltinConstant("BLAKE2S_MAX_KEY_SIZE", BLAKE2S_MAX_KEY_SIZE);
+        addBuiltinConstant("BLAKE2S_SALT_SIZE", BLAKE2S_SALT_SIZE);
+        addBuiltinConstant("BLAKE2S_PERSON_SIZE", BLAKE2S_PERSON_SIZE);
+        super.initialize(core);
+    }
+
+    /**
+     * Common part of the {@code blake2b} and {@code blake2s} constructors. Only the sequential mode
+     * is supported, so the tree hashing parameters must keep their defaults.
+     */
+    abstract static class Blake2NewNode extends PythonClinicBuiltinNode {
+
+        protected abstract boolean isBlake2b();
+
+        @Specialization(limit = "3")
+        DigestObject newDigest(VirtualFrame frame, Object cls, Object data, int digestSize, Object key, Object salt, Object person, int fanout, int depth, long leafSize, long nodeOffset,
+                        int nodeDepth, int innerSize, boolean lastNode,
+                        @CachedLibrary("data") PythonBufferAccessLibrary dataLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            boolean isB = isBlake2b();
+            int maxDigestSize = isB ? BLAKE2B_MAX_DIGEST_SIZE : BLAKE2S_MAX_DIGEST_SIZE;
+            try {
+                if (digestSize < 1 || digestSize > maxDigestSize) {
+                    throw raise(PythonBuiltinClassType.ValueError, ErrorMessages.DIGEST_SIZE_MUST_BE_BETWEEN_1_AND_D_BYTES, maxDigestSize);
+                }
+                if (fanout != 1 || depth != 1 || leafSize != 0 || nodeOffset != 0 || nodeDepth != 0 || innerSize != 0 || lastNode) {
+                    throw raise(PythonBuiltinClassType.NotImplementedError, ErrorMessages.BLAKE2_TREE_HASHING_NOT_SUPPORTED);
+                }
+                byte[] keyBytes = getParameter(key, "key", isB ? BLAKE2B_MAX_KEY_SIZE : BLAKE2S_MAX_KEY_SIZE, false, bufferLib);
+                byte[] saltBytes = getParameter(salt, "salt", isB ? BLAKE2B_SALT_SIZE : BLAKE2S_SALT_SIZE, true, bufferLib);
+                byte[] personBytes = getParameter(person, "person", isB ? BLAKE2B_PERSON_SIZE : BLAKE2S_PERSON_SIZE, true, bufferLib);
+                DigestObject self;
+                if (isB) {
+                    self = factory().createDigestObject(cls, T_BLAKE2B, 128, DigestObject.createBlake2b(keyBytes, digestSize, saltBytes, personBytes));
+                } else {
+                    self = factory().createDigestObject(cls, T_BLAKE2S, 64, DigestObject.createBlake2s(keyBytes, digestSize, saltBytes, personBytes));
+                }
+                if (data != PNone.NO_VALUE) {
+                    updateNode.execute(self, data);
+                }
+                return self;
+            } finally {
+                if (data != PNone.NO_VALUE) {
+                    dataLib.release(data, frame, this);
+                }
+                releaseParameter(frame, key, bufferLib);
+                releaseParameter(frame, salt, bufferLib);
+                releaseParameter(frame, person, bufferLib);
+            }
+        }
+
+        private void releaseParameter(VirtualFrame frame, Object buffer, PythonBufferAccessLibrary bufferLib) {
+            if (buffer != PNone.NO_VALUE) {
+                bufferLib.release(buffer, frame, this);
+            }
+        }
+
+        /**
+         * Reads an optional bytes-like parameter. Returns {@code null} for an empty value, which
+         * BLAKE2 treats the same as all zeros. Salt and person are padded with zeros to their full
+         * size. The buffer is released by the caller.
+         */
+        private byte[] getParameter(Object buffer, String name, int maxSize, boolean pad, PythonBufferAccessLibrary bufferLib) {
+            if (buffer == PNone.NO_VALUE) {
+                return null;
+            }
+            byte[] bytes = bufferLib.getCopiedByteArray(buffer);
+            if (bytes.length > maxSize) {
+                throw raise(PythonBuiltinClassType.ValueError, ErrorMessages.MAXIMUM_S_LENGTH_IS_D_BYTES, name, maxSize);
+            }
+            if (bytes.length == 0) {
+                return null;
+            }
+            return pad ? Arrays.copyOf(bytes, maxSize) : bytes;
+        }
+    }
+
+    @Builtin(name = "blake2b", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, keywordOnlyNames = {"digest_size", "key", "salt", "person", "fanout", "depth", "leaf_size",
+                    "node_offset", "node_depth", "inner_size", "last_node"}, constructsClass = HashlibBlake2b, doc = "Return a new BLAKE2b hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "digest_size", conversion = ClinicConversion.Int, defaultValue = "Blake2ModuleBuiltins.BLAKE2B_MAX_DIGEST_SIZE")
+    @ArgumentClinic(name = "key", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "salt", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "person", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "fanout", conversion = ClinicConversion.Int, defaultValue = "1")
+    @ArgumentClinic(name = "depth", conversion = ClinicConversion.Int, defaultValue = "1")
+    @ArgumentClinic(name = "leaf_size", conversion = ClinicConversion.Long, defaultValue = "0")
+    @ArgumentClinic(name = "node_offset", conversion = ClinicConversion.Long, defaultValue = "0")
+    @ArgumentClinic(name = "node_depth", conversion = ClinicConversion.Int, defaultValue = "0")
+    @ArgumentClinic(name = "inner_size", conversion = ClinicConversion.Int, defaultValue = "0")
+    @ArgumentClinic(name = "last_node", conversion = ClinicConversion.Boolean, defaultValue = "false")
+    @GenerateNodeFactory
+    abstract static class Blake2bNode extends Blake2NewNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Blake2ModuleBuiltinsClinicProviders.Blake2bNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Override
+        protected boolean isBlake2b() {
+            return true;
+        }
+    }
+
+    @Builtin(name = "blake2s", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, keywordOnlyNames = {"digest_size", "key", "salt", "person", "fanout", "depth", "leaf_size",
+                    "node_offset", "node_depth", "inner_size", "last_node"}, constructsClass = HashlibBlake2s, doc = "Return a new BLAKE2s hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "digest_size", conversion = ClinicConversion.Int, defaultValue = "Blake2ModuleBuiltins.BLAKE2S_MAX_DIGEST_SIZE")
+    @ArgumentClinic(name = "key", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "salt", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "person", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @ArgumentClinic(name = "fanout", conversion = ClinicConversion.Int, defaultValue = "1")
+    @ArgumentClinic(name = "depth", conversion = ClinicConversion.Int, defaultValue = "1")
+    @ArgumentClinic(name = "leaf_size", conversion = ClinicConversion.Long, defaultValue = "0")
+    @ArgumentClinic(name = "node_offset", conversion = ClinicConversion.Long, defaultValue = "0")
+    @ArgumentClinic(name = "node_depth", conversion = ClinicConversion.Int, defaultValue = "0")
+    @ArgumentClinic(name = "inner_size", conversion = ClinicConversion.Int, defaultValue = "0")
+    @ArgumentClinic(name = "last_node", conversion = ClinicConversion.Boolean, defaultValue = "false")
+    @GenerateNodeFactory
+    abstract static class Blake2sNode extends Blake2NewNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Blake2ModuleBuiltinsClinicProviders.Blake2sNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Override
+        protected boolean isBlake2b() {
+            return false;
+        }
+    }
+}
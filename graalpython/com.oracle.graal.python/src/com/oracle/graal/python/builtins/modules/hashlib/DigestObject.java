@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.hashlib;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.Xof;
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+import org.bouncycastle.crypto.digests.Blake2sDigest;
+import org.bouncycastle.crypto.digests.SHAKEDigest;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.Shape;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * A hash object of one of the {@code _md5}, {@code _sha1}, {@code _sha256}, {@code _sha512},
+ * {@code _sha3} or {@code _blake2} modules. The state is either a JDK {@link MessageDigest} or, for
+ * algorithms the JDK does not provide, a BouncyCastle {@link Digest}.
+ *
+ * Updates of large inputs run without the GIL, so all accesses to the state are synchronized on the
+ * object.
+ */
+public final class DigestObject extends PythonBuiltinObject {
+
+    private final TruffleString name;
+    private final int blockSize;
+    private final Object digest;
+
+    public DigestObject(Object cls, Shape instanceShape, TruffleString name, int blockSize, Object digest) {
+        super(cls, instanceShape);
+        assert digest instanceof MessageDigest || digest instanceof Digest;
+        this.name = name;
+        this.blockSize = blockSize;
+        this.digest = digest;
+    }
+
+    public TruffleString getName() {
+        return name;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Whether this is an extendable-output function (SHAKE), whose digest length is chosen by the
+     * caller.
+     */
+    public boolean isXof() {
+        return digest instanceof Xof;
+    }
+
+    @TruffleBoundary
+    public int getDigestSize() {
+        if (digest instanceof MessageDigest) {
+            return ((MessageDigest) digest).getDigestLength();
+        }
+        return isXof() ? 0 : ((Digest) digest).getDigestSize();
+    }
+
+    @TruffleBoundary
+    public synchronized void update(byte[] data, int offset, int length) {
+        if (digest instanceof MessageDigest) {
+            ((MessageDigest) digest).update(data, offset, length);
+        } else {
+            ((Digest) digest).update(data, offset, length);
+        }
+    }
+
+    /**
+     * Computes the digest of the data passed so far without changing the state. The
+     * {@code length} is only used for extendable-output functions.
+     */
+    @TruffleBoundary
+    public synchronized byte[] digest(int length) {
+        Object copy = copyDigestUnsynchronized();
+        if (copy instanceof MessageDigest) {
+            return ((MessageDigest) copy).digest();
+        }
+        byte[] out;
+        if (copy instanceof Xof) {
+            out = new byte[length];
+            ((Xof) copy).doFinal(out, 0, length);
+        } else {
+            out = new byte[((Digest) copy).getDigestSize()];
+            ((Digest) copy).doFinal(out, 0);
+        }
+        return out;
+    }
+
+    /**
+     * Returns an independent copy of the digest state, to be wrapped in a new hash object.
+     */
+    @TruffleBoundary
+    public synchronized Object copyDigest() {
+        return copyDigestUnsynchronized();
+    }
+
+    private Object copyDigestUnsynchronized() {
+        if (digest instanceof MessageDigest) {
+            try {
+                return ((MessageDigest) digest).clone();
+            } catch (CloneNotSupportedException e) {
+                throw CompilerDirectives.shouldNotReachHere(e);
+            }
+        } else if (digest instanceof SHAKEDigest) {
+            return new SHAKEDigest((SHAKEDigest) digest);
+        } else if (digest instanceof Blake2bDigest) {
+            return new Blake2bDigest((Blake2bDigest) digest);
+        } else if (digest instanceof Blake2sDigest) {
+            return new Blake2sDigest((Blake2sDigest) digest);
+        }
+        throw CompilerDirectives.shouldNotReachHere("unexpected digest " + digest);
+    }
+
+    @TruffleBoundary
+    static SHAKEDigest createShake(int bitLength) {
+        return new SHAKEDigest(bitLength);
+    }
+
+    /**
+     * Creates a sequential-mode BLAKE2b digest. Empty key, salt and person must be passed as
+     * {@code null}, salt and person are padded with zeros to their full size by the caller.
+     */
+    @TruffleBoundary
+    static Blake2bDigest createBlake2b(byte[] key, int digestSize, byte[] salt, byte[] person) {
+        return new Blake2bDigest(key, digestSize, salt, person);
+    }
+
+    /**
+     * @see #createBlake2b(byte[], int, byte[], byte[])
+     */
+    @TruffleBoundary
+    static Blake2sDigest createBlake2s(byte[] key, int digestSize, byte[] salt, byte[] person) {
+        return new Blake2sDigest(key, digestSize, salt, person);
+    }
+
+    @TruffleBoundary
+    static MessageDigest createMessageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            // all algorithms we ask for are provided by the JDK
+            throw CompilerDirectives.shouldNotReachHere(e);
+        }
+    }
+}
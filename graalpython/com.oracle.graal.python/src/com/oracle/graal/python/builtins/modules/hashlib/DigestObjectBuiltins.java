@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.hashlib;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibBlake2b;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibBlake2s;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibMD5;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA1;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA224;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA256;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA384;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_224;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_256;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_384;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_512;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA512;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHAKE128;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHAKE256;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
+import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.lib.PyNumberAsSizeNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.IndirectCallNode;
+import com.oracle.graal.python.nodes.PNodeWithRaise;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+@CoreFunctions(extendClasses = {HashlibMD5, HashlibSHA1, HashlibSHA224, HashlibSHA256, HashlibSHA384, HashlibSHA512, HashlibSHA3_224, HashlibSHA3_256, HashlibSHA3_384, HashlibSHA3_512,
+                HashlibSHAKE128, HashlibSHAKE256, HashlibBlake2b, HashlibBlake2s})
+public final class DigestObjectBuiltins extends PythonBuiltins {
+
+    /**
+     * Inputs of at least this many bytes are hashed without holding the GIL, same as CPython's
+     * {@code HASHLIB_GIL_MINSIZE}.
+     */
+    static final int GIL_RELEASE_THRESHOLD = 2048;
+
+    /**
+     * Buffers that are not backed by a Java byte array are hashed in chunks of this size.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final TruffleString T_DIGEST = tsLiteral("digest");
+    private static final TruffleString T_HEXDIGEST = tsLiteral("hexdigest");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return DigestObjectBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Feeds the contents of an acquired buffer into the digest. The caller is responsible for
+     * releasing the buffer.
+     */
+    public abstract static class UpdateDigestNode extends Node {
+
+        public abstract void execute(DigestObject self, Object buffer);
+
+        @Specialization(limit = "3")
+        static void update(DigestObject self, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached GilNode gil) {
+            int len = bufferLib.getBufferLength(buffer);
+            if (bufferLib.hasInternalByteArray(buffer)) {
+                update(self, bufferLib.getInternalByteArray(buffer), len, gil);
+            } else {
+                byte[] chunk = new byte[Math.min(len, CHUNK_SIZE)];
+                for (int offset = 0; offset < len; offset += chunk.length) {
+                    int n = Math.min(chunk.length, len - offset);
+                    bufferLib.readIntoByteArray(buffer, offset, chunk, 0, n);
+                    update(self, chunk, n, gil);
+                }
+            }
+        }
+
+        private static void update(DigestObject self, byte[] data, int len, GilNode gil) {
+            if (len >= GIL_RELEASE_THRESHOLD) {
+                gil.release(true);
+                try {
+                    self.update(data, 0, len);
+                } finally {
+                    gil.acquire();
+                }
+            } else {
+                self.update(data, 0, len);
+            }
+        }
+    }
+
+    /**
+     * Hashes the optional initial data of a newly created hash object and releases its buffer.
+     */
+    static <T extends Node & IndirectCallNode> DigestObject initialUpdate(VirtualFrame frame, T node, DigestObject self, Object buffer, PythonBufferAccessLibrary bufferLib,
+                    UpdateDigestNode updateNode) {
+        if (buffer != PNone.NO_VALUE) {
+            try {
+                updateNode.execute(self, buffer);
+            } finally {
+                bufferLib.release(buffer, frame, node);
+            }
+        }
+        return self;
+    }
+
+    /**
+     * Computes the digest, checking the {@code length} argument which is required for SHAKE and
+     * not accepted by the other algorithms.
+     */
+    abstract static class ComputeDigestNode extends PNodeWithRaise {
+
+        abstract byte[] execute(VirtualFrame frame, DigestObject self, Object length, TruffleString methodName);
+
+        @Specialization
+        byte[] compute(VirtualFrame frame, DigestObject self, Object length, TruffleString methodName,
+                        @Cached PyNumberAsSizeNode asSizeNode) {
+            if (self.isXof()) {
+                if (length == PNone.NO_VALUE) {
+                    throw raise(PythonBuiltinClassType.TypeError, ErrorMessages.S_MISSING_REQUIRED_ARGUMENT_S, methodName, "length");
+                }
+                int n = asSizeNode.executeExact(frame, length);
+                if (n < 0) {
+                    throw raise(PythonBuiltinClassType.ValueError, ErrorMessages.LENGTH_MUST_BE_NON_NEGATIVE);
+                }
+                return self.digest(n);
+            }
+            if (length != PNone.NO_VALUE) {
+                throw raise(PythonBuiltinClassType.TypeError, ErrorMessages.S_TAKES_NO_ARGUMENTS_D_GIVEN, methodName, 1);
+            }
+            return self.digest(0);
+        }
+    }
+
+    @Builtin(name = "update", minNumOfPositionalArgs = 2, parameterNames = {"$self", "obj"})
+    @ArgumentClinic(name = "obj", conversion = ClinicConversion.ReadableBuffer)
+    @GenerateNodeFactory
+    abstract static class UpdateNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return DigestObjectBuiltinsClinicProviders.UpdateNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        PNone update(VirtualFrame frame, DigestObject self, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            try {
+                updateNode.execute(self, buffer);
+            } finally {
+                bufferLib.release(buffer, frame, this);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "digest", minNumOfPositionalArgs = 1, parameterNames = {"$self", "length"})
+    @GenerateNodeFactory
+    abstract static class DigestNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        PBytes digest(VirtualFrame frame, DigestObject self, Object length,
+                        @Cached ComputeDigestNode computeNode) {
+            return factory().createBytes(computeNode.execute(frame, self, length, T_DIGEST));
+        }
+    }
+
+    @Builtin(name = "hexdigest", minNumOfPositionalArgs = 1, parameterNames = {"$self", "length"})
+    @GenerateNodeFactory
+    abstract static class HexDigestNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static TruffleString hexdigest(VirtualFrame frame, DigestObject self, Object length,
+                        @Cached ComputeDigestNode computeNode,
+                        @Cached BytesNodes.ByteToHexNode toHexNode) {
+            byte[] digest = computeNode.execute(frame, self, length, T_HEXDIGEST);
+            return toHexNode.execute(digest, digest.length, (byte) 0, 0);
+        }
+    }
+
+    @Builtin(name = "copy", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CopyNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        DigestObject copy(DigestObject self) {
+            return factory().createDigestObject(self.getInitialPythonClass(), self.getName(), self.getBlockSize(), self.copyDigest());
+        }
+    }
+
+    @Builtin(name = "name", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class NameNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static TruffleString name(DigestObject self) {
+            return self.getName();
+        }
+    }
+
+    @Builtin(name = "digest_size", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class DigestSizeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int digestSize(DigestObject self) {
+            return self.getDigestSize();
+        }
+    }
+
+    @Builtin(name = "block_size", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class BlockSizeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int blockSize(DigestObject self) {
+            return self.getBlockSize();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.hashlib;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_224;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_256;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_384;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHA3_512;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHAKE128;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.HashlibSHAKE256;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.DigestObjectBuiltins.UpdateDigestNode;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+@CoreFunctions(defineModule = "_sha3")
+public final class Sha3ModuleBuiltins extends PythonBuiltins {
+
+    private static final TruffleString T_SHA3_224 = tsLiteral("sha3_224");
+    private static final TruffleString T_SHA3_256 = tsLiteral("sha3_256");
+    private static final TruffleString T_SHA3_384 = tsLiteral("sha3_384");
+    private static final TruffleString T_SHA3_512 = tsLiteral("sha3_512");
+    private static final TruffleString T_SHAKE_128 = tsLiteral("shake_128");
+    private static final TruffleString T_SHAKE_256 = tsLiteral("shake_256");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return Sha3ModuleBuiltinsFactory.getFactories();
+    }
+
+    @Builtin(name = "sha3_224", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, constructsClass = HashlibSHA3_224, doc = "Return a new SHA3-224 hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @GenerateNodeFactory
+    abstract static class Sha3_224Node extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Sha3ModuleBuiltinsClinicProviders.Sha3_224NodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        DigestObject newDigest(VirtualFrame frame, Object cls, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            DigestObject self = factory().createDigestObject(cls, T_SHA3_224, 144, DigestObject.createMessageDigest("SHA3-224"));
+            return DigestObjectBuiltins.initialUpdate(frame, this, self, buffer, bufferLib, updateNode);
+        }
+    }
+
+    @Builtin(name = "sha3_256", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, constructsClass = HashlibSHA3_256, doc = "Return a new SHA3-256 hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @GenerateNodeFactory
+    abstract static class Sha3_256Node extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Sha3ModuleBuiltinsClinicProviders.Sha3_256NodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        DigestObject newDigest(VirtualFrame frame, Object cls, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            DigestObject self = factory().createDigestObject(cls, T_SHA3_256, 136, DigestObject.createMessageDigest("SHA3-256"));
+            return DigestObjectBuiltins.initialUpdate(frame, this, self, buffer, bufferLib, updateNode);
+        }
+    }
+
+    @Builtin(name = "sha3_384", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, constructsClass = HashlibSHA3_384, doc = "Return a new SHA3-384 hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @GenerateNodeFactory
+    abstract static class Sha3_384Node extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Sha3ModuleBuiltinsClinicProviders.Sha3_384NodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        DigestObject newDigest(VirtualFrame frame, Object cls, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            DigestObject self = factory().createDigestObject(cls, T_SHA3_384, 104, DigestObject.createMessageDigest("SHA3-384"));
+            return DigestObjectBuiltins.initialUpdate(frame, this, self, buffer, bufferLib, updateNode);
+        }
+    }
+
+    @Builtin(name = "sha3_512", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, constructsClass = HashlibSHA3_512, doc = "Return a new SHA3-512 hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @GenerateNodeFactory
+    abstract static class Sha3_512Node extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Sha3ModuleBuiltinsClinicProviders.Sha3_512NodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        DigestObject newDigest(VirtualFrame frame, Object cls, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            DigestObject self = factory().createDigestObject(cls, T_SHA3_512, 72, DigestObject.createMessageDigest("SHA3-512"));
+            return DigestObjectBuiltins.initialUpdate(frame, this, self, buffer, bufferLib, updateNode);
+        }
+    }
+
+    @Builtin(name = "shake_128", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, constructsClass = HashlibSHAKE128, doc = "Return a new SHAKE hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @GenerateNodeFactory
+    abstract static class Shake128Node extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Sha3ModuleBuiltinsClinicProviders.Shake128NodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        DigestObject newDigest(VirtualFrame frame, Object cls, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            DigestObject self = factory().createDigestObject(cls, T_SHAKE_128, 168, DigestObject.createShake(128));
+            return DigestObjectBuiltins.initialUpdate(frame, this, self, buffer, bufferLib, updateNode);
+        }
+    }
+
+    @Builtin(name = "shake_256", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "data"}, constructsClass = HashlibSHAKE256, doc = "Return a new SHAKE hash object.")
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer, defaultValue = "PNone.NO_VALUE")
+    @GenerateNodeFactory
+    abstract static class Shake256Node extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return Sha3ModuleBuiltinsClinicProviders.Shake256NodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        DigestObject newDigest(VirtualFrame frame, Object cls, Object buffer,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached UpdateDigestNode updateNode) {
+            DigestObject self = factory().createDigestObject(cls, T_SHAKE_256, 136, DigestObject.createShake(256));
+            return DigestObjectBuiltins.initialUpdate(frame, this, self, buffer, bufferLib, updateNode);
+        }
+    }
+}
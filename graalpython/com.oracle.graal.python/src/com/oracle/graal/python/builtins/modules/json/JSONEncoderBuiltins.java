@@ -29,6 +29,7 @@ import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 import static com.oracle.truffle.api.CompilerDirectives.castExact;
 
+import java.util.Arrays;
 import java.util.List;
 
 import com.oracle.graal.python.annotations.ArgumentClinic;
@@ -49,6 +50,7 @@ import com.oracle.graal.python.builtins.objects.list.ListBuiltins.ListSortNode;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.str.StringNodes;
+import com.oracle.graal.python.builtins.objects.str.StringUtils;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.SpecialMethodSlot;
 import com.oracle.graal.python.nodes.ErrorMessages;
@@ -67,7 +69,11 @@ import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.formatting.FloatFormatter;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.OverflowException;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -86,6 +92,7 @@ public class JSONEncoderBuiltins extends PythonBuiltins {
     private static final TruffleString T_POSITIVE_INFINITY = tsLiteral("Infinity");
     private static final TruffleString T_NEGATIVE_INFINITY = tsLiteral("-Infinity");
     private static final TruffleString T_NAN = tsLiteral("NaN");
+    private static final TruffleString T_DOT_ZERO = tsLiteral(".0");
 
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
@@ -158,6 +165,11 @@ public class JSONEncoderBuiltins extends PythonBuiltins {
                 } else {
                     appendStringNode.execute(builder, T_NAN);
                 }
+            } else if (obj == (long) obj && Math.abs(obj) < 1e16 && (obj != 0 || Double.doubleToRawLongBits(obj) == 0)) {
+                // integral values are printed like "42.0" by float.__repr__, unless they
+                // would need an exponent or are negative zero
+                appendLongNumberNode.execute(builder, (long) obj);
+                appendStringNode.execute(builder, T_DOT_ZERO);
             } else {
                 appendStringNode.execute(builder, formatDouble(obj));
             }
@@ -208,7 +220,7 @@ public class JSONEncoderBuiltins extends PythonBuiltins {
             } else if (obj instanceof Long) {
                 appendLongNumberNode.execute(builder, (long) obj);
             } else if (obj instanceof PInt) {
-                appendStringNode.execute(builder, fromJavaStringNode.execute(castExact(obj, PInt.class).toString(), TS_ENCODING));
+                appendPInt(builder, castExact(obj, PInt.class));
             } else if (obj instanceof Float) {
                 appendFloat(encoder, builder, (float) obj);
             } else if (obj instanceof Double) {
@@ -221,6 +233,17 @@ public class JSONEncoderBuiltins extends PythonBuiltins {
             return true;
         }
 
+        private void appendPInt(TruffleStringBuilder builder, PInt obj) {
+            long value;
+            try {
+                value = obj.longValueExact();
+            } catch (OverflowException e) {
+                appendStringNode.execute(builder, fromJavaStringNode.execute(obj.toString(), TS_ENCODING));
+                return;
+            }
+            appendLongNumberNode.execute(builder, value);
+        }
+
         private void appendListObj(PJSONEncoder encoder, TruffleStringBuilder builder, Object obj) {
             if (appendSimpleObj(encoder, builder, obj)) {
                 // done
@@ -259,12 +282,18 @@ public class JSONEncoderBuiltins extends PythonBuiltins {
                 startRecursion(encoder, dict);
                 appendStringNode.execute(builder, T_LBRACE);
 
+                DictEntry[] sortedEntries;
                 if (!encoder.sortKeys && isClassProfile.profileObject(dict, PDict)) {
                     HashingStorageIterable<DictEntry> entries = dictLib.entries(storage);
                     boolean first = true;
                     for (DictEntry entry : entries) {
                         first = appendDictEntry(encoder, builder, first, entry.key, entry.value);
                     }
+                } else if (isClassProfile.profileObject(dict, PDict) && (sortedEntries = sortStringKeyedEntries(storage)) != null) {
+                    boolean first = true;
+                    for (DictEntry entry : sortedEntries) {
+                        first = appendDictEntry(encoder, builder, first, entry.key, entry.value);
+                    }
                 } else {
                     PList items = constructList.execute(null, callGetItems.executeObject(null, dict));
                     if (encoder.sortKeys) {
@@ -295,6 +324,27 @@ public class JSONEncoderBuiltins extends PythonBuiltins {
             }
         }
 
+        /**
+         * Sorts the entries of a dict whose keys are all strings without going through a list of
+         * item tuples. Returns {@code null} if there is any other key, which needs the generic
+         * comparison.
+         */
+        private DictEntry[] sortStringKeyedEntries(HashingStorage storage) {
+            DictEntry[] entries = new DictEntry[dictLib.length(storage)];
+            int i = 0;
+            for (DictEntry entry : dictLib.entries(storage)) {
+                if (!(entry.key instanceof TruffleString) || i == entries.length) {
+                    return null;
+                }
+                entries[i++] = entry;
+            }
+            if (i != entries.length) {
+                return null;
+            }
+            Arrays.sort(entries, (a, b) -> StringUtils.compareStringsUncached((TruffleString) a.key, (TruffleString) b.key));
+            return entries;
+        }
+
         private boolean appendDictEntry(PJSONEncoder encoder, TruffleStringBuilder builder, boolean first, Object key, Object value) {
             if (!first) {
                 appendStringNode.execute(builder, encoder.itemSeparator);
@@ -326,7 +376,31 @@ public class JSONEncoderBuiltins extends PythonBuiltins {
                 startRecursion(encoder, list);
                 appendStringNode.execute(builder, T_LBRACKET);
 
-                if (isClassProfile.profileObject(list, PTuple) || isClassProfile.profileObject(list, PList)) {
+                if (storage instanceof IntSequenceStorage && (isClassProfile.profileObject(list, PTuple) || isClassProfile.profileObject(list, PList))) {
+                    int[] values = ((IntSequenceStorage) storage).getInternalIntArray();
+                    for (int i = 0; i < storage.length(); i++) {
+                        if (i > 0) {
+                            appendStringNode.execute(builder, encoder.itemSeparator);
+                        }
+                        appendLongNumberNode.execute(builder, values[i]);
+                    }
+                } else if (storage instanceof LongSequenceStorage && (isClassProfile.profileObject(list, PTuple) || isClassProfile.profileObject(list, PList))) {
+                    long[] values = ((LongSequenceStorage) storage).getInternalLongArray();
+                    for (int i = 0; i < storage.length(); i++) {
+                        if (i > 0) {
+                            appendStringNode.execute(builder, encoder.itemSeparator);
+                        }
+                        appendLongNumberNode.execute(builder, values[i]);
+                    }
+                } else if (storage instanceof DoubleSequenceStorage && (isClassProfile.profileObject(list, PTuple) || isClassProfile.profileObject(list, PList))) {
+                    double[] values = ((DoubleSequenceStorage) storage).getInternalDoubleArray();
+                    for (int i = 0; i < storage.length(); i++) {
+                        if (i > 0) {
+                            appendStringNode.execute(builder, encoder.itemSeparator);
+                        }
+                        appendFloat(encoder, builder, values[i]);
+                    }
+                } else if (isClassProfile.profileObject(list, PTuple) || isClassProfile.profileObject(list, PList)) {
                     for (int i = 0; i < storage.length(); i++) {
                         if (i > 0) {
                             appendStringNode.execute(builder, encoder.itemSeparator);
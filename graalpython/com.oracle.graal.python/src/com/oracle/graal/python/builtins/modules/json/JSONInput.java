@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.json;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.nio.charset.StandardCharsets;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.strings.InternalByteArray;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleString.CodeRange;
+import com.oracle.truffle.api.strings.TruffleString.Encoding;
+
+/**
+ * The text read by the JSON scanner. Pure ASCII documents, which are by far the most common, are
+ * read directly from the internal byte array of the {@link TruffleString} without converting them
+ * to a Java string first. All other documents are converted once per scan.
+ *
+ * The scanner works with {@code char} indices, whereas Python sees code point indices. The two only
+ * differ if the text contains supplementary characters, so the conversion methods are no-ops in
+ * the common case.
+ */
+final class JSONInput {
+    private final TruffleString original;
+    private final byte[] bytes;
+    private final int offset;
+    private final String string;
+    private final boolean hasSupplementary;
+    final int length;
+
+    private JSONInput(TruffleString original, byte[] bytes, int offset, int length) {
+        this.original = original;
+        this.bytes = bytes;
+        this.offset = offset;
+        this.string = null;
+        this.hasSupplementary = false;
+        this.length = length;
+    }
+
+    private JSONInput(TruffleString original, String string, boolean hasSupplementary) {
+        this.original = original;
+        this.bytes = null;
+        this.offset = 0;
+        this.string = string;
+        this.hasSupplementary = hasSupplementary;
+        this.length = string.length();
+    }
+
+    static JSONInput create(TruffleString string, TruffleString.GetCodeRangeNode getCodeRangeNode, TruffleString.SwitchEncodingNode switchEncodingNode,
+                    TruffleString.GetInternalByteArrayNode getInternalByteArrayNode, TruffleString.ToJavaStringNode toJavaStringNode) {
+        CodeRange codeRange = getCodeRangeNode.execute(string, TS_ENCODING);
+        if (codeRange == CodeRange.ASCII) {
+            TruffleString ascii = switchEncodingNode.execute(string, Encoding.US_ASCII);
+            InternalByteArray array = getInternalByteArrayNode.execute(ascii, Encoding.US_ASCII);
+            return new JSONInput(string, array.getArray(), array.getOffset(), array.getLength());
+        }
+        return new JSONInput(string, toJavaStringNode.execute(string), codeRange == CodeRange.VALID || codeRange == CodeRange.BROKEN);
+    }
+
+    @TruffleBoundary
+    static JSONInput create(String string) {
+        return new JSONInput(null, string, string.codePointCount(0, string.length()) != string.length());
+    }
+
+    char charAt(int index) {
+        if (bytes != null) {
+            return (char) bytes[offset + index];
+        }
+        return string.charAt(index);
+    }
+
+    /**
+     * Creates a Python string from the text between {@code start} (inclusive) and {@code end}
+     * (exclusive).
+     */
+    @TruffleBoundary
+    TruffleString substring(int start, int end) {
+        if (bytes != null) {
+            return original.substringUncached(start, end - start, TS_ENCODING, false);
+        }
+        return TruffleString.fromJavaStringUncached(string, start, end - start, TS_ENCODING, true);
+    }
+
+    @TruffleBoundary
+    String javaSubstring(int start, int end) {
+        if (bytes != null) {
+            return new String(bytes, offset + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        return string.substring(start, end);
+    }
+
+    TruffleString getOriginal() {
+        if (original == null) {
+            return toTruffleStringUncached(string);
+        }
+        return original;
+    }
+
+    /**
+     * Converts a Python (code point) index to an index usable with {@link #charAt(int)}. Indices
+     * past the end of the text stay past the end.
+     */
+    int toCharIndex(int codePointIndex) {
+        if (!hasSupplementary || codePointIndex <= 0) {
+            return codePointIndex;
+        }
+        return toCharIndexSlowPath(codePointIndex);
+    }
+
+    @TruffleBoundary
+    private int toCharIndexSlowPath(int codePointIndex) {
+        int codePointLength = string.codePointCount(0, length);
+        if (codePointIndex >= codePointLength) {
+            return length + (codePointIndex - codePointLength);
+        }
+        return string.offsetByCodePoints(0, codePointIndex);
+    }
+
+    /**
+     * Converts an index produced by the scanner back to a Python (code point) index.
+     */
+    int toCodePointIndex(int charIndex) {
+        if (!hasSupplementary || charIndex <= 0) {
+            return charIndex;
+        }
+        return toCodePointIndexSlowPath(charIndex);
+    }
+
+    @TruffleBoundary
+    private int toCodePointIndexSlowPath(int charIndex) {
+        if (charIndex >= length) {
+            return string.codePointCount(0, length) + (charIndex - length);
+        }
+        return string.codePointCount(0, charIndex);
+    }
+}
@@ -33,6 +33,7 @@ import com.oracle.graal.python.nodes.expression.CoerceToBooleanNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
@@ -43,6 +44,7 @@ import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
 import com.oracle.truffle.api.strings.TruffleStringIterator;
@@ -100,6 +102,84 @@ public class JSONModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "find_value_end", minNumOfPositionalArgs = 4, parameterNames = {"string", "idx", "depth", "flags"}, //
+                    doc = "find_value_end(string, idx, depth, flags) -> (end, depth, flags)\n" +
+                                    "\n" +
+                                    "Finds the end of the JSON value starting at idx without decoding it. depth and flags\n" +
+                                    "are 0 for a new value, or the state returned for the previous chunk of a value that\n" +
+                                    "continues in string. Returns the index after the value, or -1 and the state to pass\n" +
+                                    "along with the next chunk if the value does not end in string.")
+    @GenerateNodeFactory
+    @ArgumentClinic(name = "string", conversion = ArgumentClinic.ClinicConversion.TString)
+    @ArgumentClinic(name = "idx", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "depth", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "flags", conversion = ArgumentClinic.ClinicConversion.Int)
+    abstract static class FindValueEnd extends PythonQuaternaryClinicBuiltinNode {
+        private static final int FLAG_IN_STRING = 1;
+        private static final int FLAG_ESCAPE = 2;
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return JSONModuleBuiltinsClinicProviders.FindValueEndClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        Object call(TruffleString string, int idx, int depth, int flags,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.CodePointAtIndexNode codePointAtIndexNode,
+                        @Cached PythonObjectFactory factory) {
+            if (idx < 0) {
+                throw raise(PythonBuiltinClassType.ValueError, ErrorMessages.IDX_CANNOT_BE_NEG);
+            }
+            int length = codePointLengthNode.execute(string, TS_ENCODING);
+            boolean inString = (flags & FLAG_IN_STRING) != 0;
+            boolean escape = (flags & FLAG_ESCAPE) != 0;
+            int curDepth = depth;
+            int end = -1;
+            int i = idx;
+            for (; i < length; i++) {
+                int c = codePointAtIndexNode.execute(string, i, TS_ENCODING);
+                if (inString) {
+                    if (escape) {
+                        escape = false;
+                    } else if (c == '\\') {
+                        escape = true;
+                    } else if (c == '"') {
+                        inString = false;
+                        if (curDepth == 0) {
+                            end = i + 1;
+                            break;
+                        }
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '[' || c == '{') {
+                    curDepth++;
+                } else if (c == ']' || c == '}') {
+                    if (curDepth == 0) {
+                        /* ends a number or constant (or is a stray bracket the scanner reports) */
+                        end = i;
+                        break;
+                    }
+                    curDepth--;
+                    if (curDepth == 0) {
+                        end = i + 1;
+                        break;
+                    }
+                } else if (curDepth == 0 && (c == ',' || c < 128 && isWhitespace((char) c))) {
+                    /* ends a number or constant */
+                    end = i;
+                    break;
+                }
+            }
+            LoopNode.reportLoopCount(this, i - idx);
+            if (end >= 0) {
+                return factory.createTuple(new Object[]{end, 0, 0});
+            }
+            return factory.createTuple(new Object[]{-1, curDepth, (inString ? FLAG_IN_STRING : 0) | (escape ? FLAG_ESCAPE : 0)});
+        }
+    }
+
     @Builtin(name = "encode_basestring", parameterNames = {"string"}, //
                     doc = "encode_basestring(string) -> string\n" +
                                     "\n" +
@@ -18,7 +18,6 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
-import com.oracle.graal.python.builtins.modules.BuiltinConstructors;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageLibrary;
@@ -26,8 +25,6 @@ import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.exception.PBaseException;
 import com.oracle.graal.python.builtins.objects.floats.FloatUtils;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
-import com.oracle.graal.python.lib.PyFloatCheckExactNode;
-import com.oracle.graal.python.lib.PyLongCheckExactNode;
 import com.oracle.graal.python.lib.PyObjectLookupAttr;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
@@ -40,6 +37,10 @@ import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorageFactory;
+import com.oracle.graal.python.util.ArrayBuilder;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
@@ -93,6 +94,9 @@ public class JSONScannerBuiltins extends PythonBuiltins {
 
         @Specialization
         protected PTuple call(PJSONScanner self, TruffleString string, int idx,
+                        @Cached TruffleString.GetCodeRangeNode getCodeRangeNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached TruffleString.GetInternalByteArrayNode getInternalByteArrayNode,
                         @Cached TruffleString.ToJavaStringNode toJavaStringNode) {
             if (tupleInstanceShape == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -107,11 +111,12 @@ public class JSONScannerBuiltins extends PythonBuiltins {
                 dictInstanceShape = PythonLanguage.get(this).getBuiltinTypeInstanceShape(PythonBuiltinClassType.PDict);
             }
             IntRef nextIdx = new IntRef();
-            Object result = scanOnceUnicode(self, toJavaStringNode.execute(string), idx, nextIdx);
-            return factory.createTuple(new Object[]{result, nextIdx.value});
+            JSONInput input = JSONInput.create(string, getCodeRangeNode, switchEncodingNode, getInternalByteArrayNode, toJavaStringNode);
+            Object result = scanOnceUnicode(self, input, input.toCharIndex(idx), nextIdx);
+            return factory.createTuple(new Object[]{result, input.toCodePointIndex(nextIdx.value)});
         }
 
-        private Object parseObjectUnicode(PJSONScanner scanner, String string, int start, IntRef nextIdx) {
+        private Object parseObjectUnicode(PJSONScanner scanner, JSONInput input, int start, IntRef nextIdx) {
             /*
              * Read a JSON object from PyUnicode pystr. idx is the index of the first character
              * after the opening curly brace. nextIdx is a return-by-reference index to the first
@@ -122,7 +127,7 @@ public class JSONScannerBuiltins extends PythonBuiltins {
             boolean hasPairsHook = scanner.objectPairsHook != PNone.NONE;
 
             int idx = start;
-            int length = string.length();
+            int length = input.length;
 
             ObjectSequenceStorage listStorage = null;
             EconomicMapStorage mapStorage = null;
@@ -133,32 +138,29 @@ public class JSONScannerBuiltins extends PythonBuiltins {
             }
 
             /* skip whitespace after { */
-            idx = skipWhitespace(string, idx, length);
+            idx = skipWhitespace(input, idx, length);
 
             /* only loop if the object is non-empty */
-            if (idx >= length || string.charAt(idx) != '}') {
+            if (idx >= length || input.charAt(idx) != '}') {
                 while (true) {
 
                     /* read key */
-                    if (idx >= length || string.charAt(idx) != '"') {
-                        throw decodeError(raiseNode, string, idx, ErrorMessages.EXPECTING_PROP_NAME_ECLOSED_IN_DBL_QUOTES);
-                    }
-                    TruffleString newKey = scanStringUnicode(string, idx + 1, scanner.strict, nextIdx, raiseNode);
-                    TruffleString key = scanner.memo.putIfAbsent(newKey, newKey);
-                    if (key == null) {
-                        key = newKey;
+                    if (idx >= length || input.charAt(idx) != '"') {
+                        throw decodeError(raiseNode, input, idx, ErrorMessages.EXPECTING_PROP_NAME_ECLOSED_IN_DBL_QUOTES);
                     }
+                    TruffleString newKey = scanStringUnicode(input, idx + 1, scanner.strict, nextIdx, raiseNode);
+                    TruffleString key = scanner.memoizeKey(newKey);
                     idx = nextIdx.value;
 
                     /* skip whitespace between key and : delimiter, read :, skip whitespace */
-                    idx = skipWhitespace(string, idx, length);
-                    if (idx >= length || string.charAt(idx) != ':') {
-                        throw decodeError(raiseNode, string, idx, ErrorMessages.EXPECTING_COLON_DELIMITER);
+                    idx = skipWhitespace(input, idx, length);
+                    if (idx >= length || input.charAt(idx) != ':') {
+                        throw decodeError(raiseNode, input, idx, ErrorMessages.EXPECTING_COLON_DELIMITER);
                     }
-                    idx = skipWhitespace(string, idx + 1, length);
+                    idx = skipWhitespace(input, idx + 1, length);
 
                     /* read any JSON term */
-                    Object val = scanOnceUnicode(scanner, string, idx, nextIdx);
+                    Object val = scanOnceUnicode(scanner, input, idx, nextIdx);
                     idx = nextIdx.value;
 
                     if (hasPairsHook) {
@@ -168,18 +170,18 @@ public class JSONScannerBuiltins extends PythonBuiltins {
                     }
 
                     /* skip whitespace before } or , */
-                    idx = skipWhitespace(string, idx, length);
+                    idx = skipWhitespace(input, idx, length);
 
                     /* bail if the object is closed or we didn't get the , delimiter */
-                    if (idx < length && string.charAt(idx) == '}') {
+                    if (idx < length && input.charAt(idx) == '}') {
                         break;
                     }
-                    if (idx >= length || string.charAt(idx) != ',') {
-                        throw decodeError(raiseNode, string, idx, ErrorMessages.EXPECTING_COMMA_DELIMITER);
+                    if (idx >= length || input.charAt(idx) != ',') {
+                        throw decodeError(raiseNode, input, idx, ErrorMessages.EXPECTING_COMMA_DELIMITER);
                     }
 
                     /* skip whitespace after , delimiter */
-                    idx = skipWhitespace(string, idx + 1, length);
+                    idx = skipWhitespace(input, idx + 1, length);
                 }
             }
 
@@ -197,7 +199,7 @@ public class JSONScannerBuiltins extends PythonBuiltins {
             return rval;
         }
 
-        private Object parseArrayUnicode(PJSONScanner scanner, String string, int start, IntRef nextIdx) {
+        private Object parseArrayUnicode(PJSONScanner scanner, JSONInput input, int start, IntRef nextIdx) {
             /*
              * Read a JSON array from PyUnicode pystr. idx is the index of the first character after
              * the opening brace. nextIdx is a return-by-reference index to the first character
@@ -206,47 +208,49 @@ public class JSONScannerBuiltins extends PythonBuiltins {
              * Returns a new PyList
              */
             int idx = start;
-            ObjectSequenceStorage storage = new ObjectSequenceStorage(4);
-            int length = string.length();
+            ArrayBuilder<Object> values = new ArrayBuilder<>(4);
+            int length = input.length;
 
-            idx = skipWhitespace(string, idx, length);
+            idx = skipWhitespace(input, idx, length);
 
             /* only loop if the array is non-empty */
-            if (idx >= length || string.charAt(idx) != ']') {
+            if (idx >= length || input.charAt(idx) != ']') {
                 while (true) {
 
                     /* read any JSON term */
-                    Object val = scanOnceUnicode(scanner, string, idx, nextIdx);
-                    storage.insertItem(storage.length(), val);
+                    Object val = scanOnceUnicode(scanner, input, idx, nextIdx);
+                    values.add(val);
                     idx = nextIdx.value;
 
                     /* skip whitespace between term and , */
-                    idx = skipWhitespace(string, idx, length);
+                    idx = skipWhitespace(input, idx, length);
 
                     /* bail if the array is closed or we didn't get the , delimiter */
-                    if (idx < length && string.charAt(idx) == ']') {
+                    if (idx < length && input.charAt(idx) == ']') {
                         break;
                     }
-                    if (idx >= length || string.charAt(idx) != ',') {
-                        throw decodeError(raiseNode, string, idx, ErrorMessages.EXPECTING_COMMA_DELIMITER);
+                    if (idx >= length || input.charAt(idx) != ',') {
+                        throw decodeError(raiseNode, input, idx, ErrorMessages.EXPECTING_COMMA_DELIMITER);
                     }
                     idx++;
 
-                    idx = skipWhitespace(string, idx, length);
+                    idx = skipWhitespace(input, idx, length);
                 }
             }
 
-            /* verify that idx < (length-1), string.charAt( idx) should be ']' */
-            if (idx >= length || string.charAt(idx) != ']') {
-                throw decodeError(raiseNode, string, length - 1, ErrorMessages.EXPECTING_VALUE);
+            /* verify that idx < (length-1), input.charAt( idx) should be ']' */
+            if (idx >= length || input.charAt(idx) != ']') {
+                throw decodeError(raiseNode, input, length - 1, ErrorMessages.EXPECTING_VALUE);
             }
             nextIdx.value = idx + 1;
+            /* homogeneous arrays of numbers or booleans get a primitive storage */
+            SequenceStorage storage = SequenceStorageFactory.createStorage(values.toObjectArray(PythonUtils.EMPTY_OBJECT_ARRAY));
             return factory.createList(PythonBuiltinClassType.PList, listInstanceShape, storage);
         }
 
-        private static int skipWhitespace(String string, int start, int length) {
+        private static int skipWhitespace(JSONInput input, int start, int length) {
             int idx = start;
-            while (idx < length && JSONModuleBuiltins.isWhitespace(string.charAt(idx))) {
+            while (idx < length && JSONModuleBuiltins.isWhitespace(input.charAt(idx))) {
                 idx++;
             }
             return idx;
@@ -265,7 +269,7 @@ public class JSONScannerBuiltins extends PythonBuiltins {
             return callParseConstant.executeObject(scanner.parseConstant, toTruffleStringUncached(constant));
         }
 
-        private Object matchNumberUnicode(PJSONScanner scanner, String string, int start, IntRef nextIdx) {
+        private Object matchNumberUnicode(PJSONScanner scanner, JSONInput input, int start, IntRef nextIdx) {
             /*
              * Read a JSON number from PyUnicode pystr. idx is the index of the first character of
              * the number nextIdx is a return-by-reference index to the first character after the
@@ -276,57 +280,57 @@ public class JSONScannerBuiltins extends PythonBuiltins {
              */
 
             int idx = start;
-            int length = string.length();
+            int length = input.length;
 
             /* read a sign if it's there, make sure it's not the end of the string */
-            if (string.charAt(idx) == '-') {
+            if (input.charAt(idx) == '-') {
                 idx++;
                 if (idx >= length) {
-                    throw stopIteration(raiseNode, start);
+                    throw stopIteration(raiseNode, input.toCodePointIndex(start));
                 }
             }
 
             /* read as many integer digits as we find as long as it doesn't start with 0 */
-            if (string.charAt(idx) >= '1' && string.charAt(idx) <= '9') {
+            if (input.charAt(idx) >= '1' && input.charAt(idx) <= '9') {
                 idx++;
-                while (idx < length && string.charAt(idx) >= '0' && string.charAt(idx) <= '9') {
+                while (idx < length && input.charAt(idx) >= '0' && input.charAt(idx) <= '9') {
                     idx++;
                 }
                 /* if it starts with 0 we only expect one integer digit */
-            } else if (string.charAt(idx) == '0') {
+            } else if (input.charAt(idx) == '0') {
                 idx++;
                 /* no integer digits, error */
             } else {
-                throw stopIteration(raiseNode, start);
+                throw stopIteration(raiseNode, input.toCodePointIndex(start));
             }
             boolean isFloat = false;
 
             /* if the next char is '.' followed by a digit then read all float digits */
-            if (idx < (length - 1) && string.charAt(idx) == '.' && string.charAt(idx + 1) >= '0' && string.charAt(idx + 1) <= '9') {
+            if (idx < (length - 1) && input.charAt(idx) == '.' && input.charAt(idx + 1) >= '0' && input.charAt(idx + 1) <= '9') {
                 isFloat = true;
                 idx += 2;
-                while (idx < length && string.charAt(idx) >= '0' && string.charAt(idx) <= '9') {
+                while (idx < length && input.charAt(idx) >= '0' && input.charAt(idx) <= '9') {
                     idx++;
                 }
             }
 
             /* if the next char is 'e' or 'E' then maybe read the exponent (or backtrack) */
-            if (idx < (length - 1) && (string.charAt(idx) == 'e' || string.charAt(idx) == 'E')) {
+            if (idx < (length - 1) && (input.charAt(idx) == 'e' || input.charAt(idx) == 'E')) {
                 int e_start = idx;
                 idx++;
 
                 /* read an exponent sign if present */
-                if (idx < (length - 1) && (string.charAt(idx) == '-' || string.charAt(idx) == '+')) {
+                if (idx < (length - 1) && (input.charAt(idx) == '-' || input.charAt(idx) == '+')) {
                     idx++;
                 }
 
                 /* read all digits */
-                while (idx < length && string.charAt(idx) >= '0' && string.charAt(idx) <= '9') {
+                while (idx < length && input.charAt(idx) >= '0' && input.charAt(idx) <= '9') {
                     idx++;
                 }
 
                 /* if we got a digit, then parse as float. if not, backtrack */
-                if (string.charAt(idx - 1) >= '0' && string.charAt(idx - 1) <= '9') {
+                if (input.charAt(idx - 1) >= '0' && input.charAt(idx - 1) <= '9') {
                     isFloat = true;
                 } else {
                     idx = e_start;
@@ -335,21 +339,21 @@ public class JSONScannerBuiltins extends PythonBuiltins {
 
             nextIdx.value = idx;
             if (isFloat) {
-                if (PyFloatCheckExactNode.getUncached().execute(scanner.parseFloat)) {
-                    String numStr = string.substring(start, idx);
+                if (scanner.parseFloatIsFloat) {
+                    String numStr = input.javaSubstring(start, idx);
                     return FloatUtils.parseValidString(numStr);
                 } else {
                     /* copy the section we determined to be a number */
-                    TruffleString numStr = toTruffleStringUncached(string.substring(start, idx));
+                    TruffleString numStr = input.substring(start, idx);
                     return callParseFloat.executeObject(scanner.parseFloat, numStr);
                 }
             } else {
-                if (PyLongCheckExactNode.getUncached().execute(scanner.parseInt)) {
-                    Object rval = BuiltinConstructors.IntNode.parseSimpleDecimalLiteral(string, start, idx - start);
+                if (scanner.parseIntIsInt) {
+                    Object rval = parseSmallInt(input, start, idx);
                     if (rval != null) {
                         return rval;
                     }
-                    String numStr = string.substring(start, idx);
+                    String numStr = input.javaSubstring(start, idx);
                     BigInteger bi = new BigInteger(numStr);
                     try {
                         return bi.intValueExact();
@@ -364,14 +368,37 @@ public class JSONScannerBuiltins extends PythonBuiltins {
                     return factory.createInt(bi);
                 } else {
                     /* copy the section we determined to be a number */
-                    TruffleString numStr = toTruffleStringUncached(string.substring(start, idx));
+                    TruffleString numStr = input.substring(start, idx);
                     return callParseInt.executeObject(scanner.parseInt, numStr);
                 }
             }
         }
 
+        /**
+         * Parses an integer literal that was already validated by {@link #matchNumberUnicode}.
+         * Returns {@code null} if the value may not fit into a {@code long}.
+         */
+        private static Object parseSmallInt(JSONInput input, int start, int end) {
+            boolean negative = input.charAt(start) == '-';
+            int idx = negative ? start + 1 : start;
+            if (end - idx > 18) {
+                return null;
+            }
+            long value = 0;
+            for (; idx < end; idx++) {
+                value = value * 10 + (input.charAt(idx) - '0');
+            }
+            if (negative) {
+                value = -value;
+            }
+            if ((int) value == value) {
+                return (int) value;
+            }
+            return value;
+        }
+
         @TruffleBoundary
-        private Object scanOnceUnicode(PJSONScanner scanner, String string, int idx, IntRef nextIdx) {
+        private Object scanOnceUnicode(PJSONScanner scanner, JSONInput input, int idx, IntRef nextIdx) {
             /*
              * Read one JSON term (of any kind) from PyUnicode pystr. idx is the index of the first
              * character of the term nextIdx is a return-by-reference index to the first character
@@ -382,114 +409,120 @@ public class JSONScannerBuiltins extends PythonBuiltins {
             if (idx < 0) {
                 throw raise(PythonBuiltinClassType.ValueError, ErrorMessages.IDX_CANNOT_BE_NEG);
             }
-            int length = string.length();
+            int length = input.length;
             if (idx >= length) {
-                throw stopIteration(raiseNode, idx);
+                throw stopIteration(raiseNode, input.toCodePointIndex(idx));
             }
 
-            switch (string.charAt(idx)) {
+            switch (input.charAt(idx)) {
                 case '"':
                     /* string */
-                    return scanStringUnicode(string, idx + 1, scanner.strict, nextIdx, raiseNode);
+                    return scanStringUnicode(input, idx + 1, scanner.strict, nextIdx, raiseNode);
                 case '{':
                     /* object */
-                    return parseObjectUnicode(scanner, string, idx + 1, nextIdx);
+                    return parseObjectUnicode(scanner, input, idx + 1, nextIdx);
                 case '[':
                     /* array */
-                    return parseArrayUnicode(scanner, string, idx + 1, nextIdx);
+                    return parseArrayUnicode(scanner, input, idx + 1, nextIdx);
                 case 'n':
                     /* null */
-                    if ((idx + 3 < length) && string.charAt(idx + 1) == 'u' && string.charAt(idx + 2) == 'l' && string.charAt(idx + 3) == 'l') {
+                    if ((idx + 3 < length) && input.charAt(idx + 1) == 'u' && input.charAt(idx + 2) == 'l' && input.charAt(idx + 3) == 'l') {
                         nextIdx.value = idx + 4;
                         return PNone.NONE;
                     }
                     break;
                 case 't':
                     /* true */
-                    if ((idx + 3 < length) && string.charAt(idx + 1) == 'r' && string.charAt(idx + 2) == 'u' && string.charAt(idx + 3) == 'e') {
+                    if ((idx + 3 < length) && input.charAt(idx + 1) == 'r' && input.charAt(idx + 2) == 'u' && input.charAt(idx + 3) == 'e') {
                         nextIdx.value = idx + 4;
                         return true;
                     }
                     break;
                 case 'f':
                     /* false */
-                    if ((idx + 4 < length) && string.charAt(idx + 1) == 'a' && string.charAt(idx + 2) == 'l' && string.charAt(idx + 3) == 's' && string.charAt(idx + 4) == 'e') {
+                    if ((idx + 4 < length) && input.charAt(idx + 1) == 'a' && input.charAt(idx + 2) == 'l' && input.charAt(idx + 3) == 's' && input.charAt(idx + 4) == 'e') {
                         nextIdx.value = idx + 5;
                         return false;
                     }
                     break;
                 case 'N':
                     /* NaN */
-                    if ((idx + 2 < length) && string.charAt(idx + 1) == 'a' && string.charAt(idx + 2) == 'N') {
+                    if ((idx + 2 < length) && input.charAt(idx + 1) == 'a' && input.charAt(idx + 2) == 'N') {
                         return parseConstant(scanner, "NaN", idx, nextIdx);
                     }
                     break;
                 case 'I':
                     /* Infinity */
-                    if ((idx + 7 < length) && string.charAt(idx + 1) == 'n' &&
-                                    string.charAt(idx + 2) == 'f' &&
-                                    string.charAt(idx + 3) == 'i' &&
-                                    string.charAt(idx + 4) == 'n' &&
-                                    string.charAt(idx + 5) == 'i' &&
-                                    string.charAt(idx + 6) == 't' &&
-                                    string.charAt(idx + 7) == 'y') {
+                    if ((idx + 7 < length) && input.charAt(idx + 1) == 'n' &&
+                                    input.charAt(idx + 2) == 'f' &&
+                                    input.charAt(idx + 3) == 'i' &&
+                                    input.charAt(idx + 4) == 'n' &&
+                                    input.charAt(idx + 5) == 'i' &&
+                                    input.charAt(idx + 6) == 't' &&
+                                    input.charAt(idx + 7) == 'y') {
                         return parseConstant(scanner, "Infinity", idx, nextIdx);
                     }
                     break;
                 case '-':
                     /* -Infinity */
-                    if ((idx + 8 < length) && string.charAt(idx + 1) == 'I' &&
-                                    string.charAt(idx + 2) == 'n' &&
-                                    string.charAt(idx + 3) == 'f' &&
-                                    string.charAt(idx + 4) == 'i' &&
-                                    string.charAt(idx + 5) == 'n' &&
-                                    string.charAt(idx + 6) == 'i' &&
-                                    string.charAt(idx + 7) == 't' &&
-                                    string.charAt(idx + 8) == 'y') {
+                    if ((idx + 8 < length) && input.charAt(idx + 1) == 'I' &&
+                                    input.charAt(idx + 2) == 'n' &&
+                                    input.charAt(idx + 3) == 'f' &&
+                                    input.charAt(idx + 4) == 'i' &&
+                                    input.charAt(idx + 5) == 'n' &&
+                                    input.charAt(idx + 6) == 'i' &&
+                                    input.charAt(idx + 7) == 't' &&
+                                    input.charAt(idx + 8) == 'y') {
                         return parseConstant(scanner, "-Infinity", idx, nextIdx);
                     }
                     break;
             }
             /* Didn't find a string, object, array, or named constant. Look for a number. */
-            return matchNumberUnicode(scanner, string, idx, nextIdx);
+            return matchNumberUnicode(scanner, input, idx, nextIdx);
         }
 
     }
 
     @TruffleBoundary
-    static TruffleString scanStringUnicode(String string, int start, boolean strict, IntRef nextIdx, PRaiseNode raiseNode) {
-        String result;
+    static TruffleString scanStringUnicode(String string, int end, boolean strict, IntRef nextIdx, PRaiseNode raiseNode) {
+        JSONInput input = JSONInput.create(string);
+        TruffleString result = scanStringUnicode(input, input.toCharIndex(end), strict, nextIdx, raiseNode);
+        nextIdx.value = input.toCodePointIndex(nextIdx.value);
+        return result;
+    }
+
+    @TruffleBoundary
+    static TruffleString scanStringUnicode(JSONInput input, int start, boolean strict, IntRef nextIdx, PRaiseNode raiseNode) {
         StringBuilder builder = null;
 
-        if (start < 0 || start > string.length()) {
+        if (start < 0 || start > input.length) {
             throw raiseNode.raise(PythonBuiltinClassType.ValueError, ErrorMessages.END_IS_OUT_OF_BOUNDS);
         }
         int idx = start;
-        while (idx < string.length()) {
-            char c = string.charAt(idx++);
+        while (idx < input.length) {
+            char c = input.charAt(idx++);
             if (c == '"') {
                 // we reached the end of the string literal
-                result = builder == null ? string.substring(start, idx - 1) : builder.toString();
                 nextIdx.value = idx;
-                return toTruffleStringUncached(result);
+                return builder == null ? input.substring(start, idx - 1) : toTruffleStringUncached(builder.toString());
             } else if (c == '\\') {
                 // escape sequence, switch to StringBuilder
                 if (builder == null) {
-                    builder = new StringBuilder().append(string, start, idx - 1);
+                    builder = new StringBuilder().append(input.javaSubstring(start, idx - 1));
                 }
-                if (idx >= string.length()) {
-                    throw decodeError(raiseNode, string, start - 1, ErrorMessages.UTERMINATED_STR_STARTING);
+                if (idx >= input.length) {
+                    throw decodeError(raiseNode, input, start - 1, ErrorMessages.UTERMINATED_STR_STARTING);
                 }
-                c = string.charAt(idx++);
+                c = input.charAt(idx++);
                 if (c == 'u') {
-                    if (idx + 3 >= string.length()) {
-                        throw decodeError(raiseNode, string, idx - 1, ErrorMessages.INVALID_UXXXX_ESCAPE);
+                    if (idx + 3 >= input.length) {
+                        throw decodeError(raiseNode, input, idx - 1, ErrorMessages.INVALID_UXXXX_ESCAPE);
                     }
                     c = 0;
                     for (int i = 0; i < 4; i++) {
-                        int digit = Character.digit(string.charAt(idx++), 16);
+                        int digit = Character.digit(input.charAt(idx++), 16);
                         if (digit == -1) {
-                            throw decodeError(raiseNode, string, idx - 1, ErrorMessages.INVALID_UXXXX_ESCAPE);
+                            throw decodeError(raiseNode, input, idx - 1, ErrorMessages.INVALID_UXXXX_ESCAPE);
                         }
                         c = (char) ((c << 4) + digit);
                     }
@@ -515,28 +548,28 @@ public class JSONScannerBuiltins extends PythonBuiltins {
                             c = '\t';
                             break;
                         default:
-                            throw decodeError(raiseNode, string, idx - 1, ErrorMessages.INVALID_ESCAPE);
+                            throw decodeError(raiseNode, input, idx - 1, ErrorMessages.INVALID_ESCAPE);
                     }
                 }
                 builder.append(c);
             } else {
                 // any other character: check if in strict mode
                 if (strict && c < 0x20) {
-                    throw decodeError(raiseNode, string, idx - 1, ErrorMessages.INVALID_CTRL_CHARACTER_AT);
+                    throw decodeError(raiseNode, input, idx - 1, ErrorMessages.INVALID_CTRL_CHARACTER_AT);
                 }
                 if (builder != null) {
                     builder.append(c);
                 }
             }
         }
-        throw decodeError(raiseNode, string, start - 1, ErrorMessages.UNTERMINATED_STR_STARTING_AT);
+        throw decodeError(raiseNode, input, start - 1, ErrorMessages.UNTERMINATED_STR_STARTING_AT);
     }
 
-    private static RuntimeException decodeError(Node raisingNode, String jsonString, int pos, TruffleString format) {
+    private static RuntimeException decodeError(Node raisingNode, JSONInput input, int pos, TruffleString format) {
         CompilerAsserts.neverPartOfCompilation();
         Object module = AbstractImportNode.importModule(toTruffleStringUncached("json.decoder"));
         Object errorClass = PyObjectLookupAttr.getUncached().execute(null, module, T_JSON_DECODE_ERROR);
-        Object exception = CallNode.getUncached().execute(errorClass, format, toTruffleStringUncached(jsonString), pos);
+        Object exception = CallNode.getUncached().execute(errorClass, format, input.getOriginal(), input.toCodePointIndex(pos));
         throw PRaiseNode.raise(raisingNode, (PBaseException) exception, false);
     }
 
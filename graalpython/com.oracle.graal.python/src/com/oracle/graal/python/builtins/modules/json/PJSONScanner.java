@@ -42,13 +42,23 @@ package com.oracle.graal.python.builtins.modules.json;
 
 import java.util.HashMap;
 
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.builtins.objects.type.PythonBuiltinClass;
 import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.strings.TruffleString;
 
 public final class PJSONScanner extends PythonBuiltinObject {
 
+    /**
+     * Upper bound on the number of interned object keys. The memo is kept across calls, since the
+     * same keys tend to appear in every document parsed by a long-lived decoder, but it must not
+     * grow without limit when keys are arbitrary data.
+     */
+    private static final int MAX_MEMO_SIZE = 4096;
+
     final HashMap<TruffleString, TruffleString> memo;
     final boolean strict;
     final Object objectHook;
@@ -56,6 +66,8 @@ public final class PJSONScanner extends PythonBuiltinObject {
     final Object parseFloat;
     final Object parseInt;
     final Object parseConstant;
+    final boolean parseFloatIsFloat;
+    final boolean parseIntIsInt;
 
     public PJSONScanner(Object cls, Shape instanceShape, boolean strict, Object objectHook, Object objectPairsHook, Object parseFloat, Object parseInt, Object parseConstant) {
         super(cls, instanceShape);
@@ -67,5 +79,23 @@ public final class PJSONScanner extends PythonBuiltinObject {
         this.parseFloat = parseFloat;
         this.parseInt = parseInt;
         this.parseConstant = parseConstant;
+        this.parseFloatIsFloat = isBuiltinClass(parseFloat, PythonBuiltinClassType.PFloat);
+        this.parseIntIsInt = isBuiltinClass(parseInt, PythonBuiltinClassType.PInt);
+    }
+
+    private static boolean isBuiltinClass(Object object, PythonBuiltinClassType type) {
+        return object == type || object instanceof PythonBuiltinClass && ((PythonBuiltinClass) object).getType() == type;
+    }
+
+    @TruffleBoundary
+    TruffleString memoizeKey(TruffleString key) {
+        TruffleString existing = memo.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (memo.size() < MAX_MEMO_SIZE) {
+            memo.put(key, key);
+        }
+        return key;
     }
 }
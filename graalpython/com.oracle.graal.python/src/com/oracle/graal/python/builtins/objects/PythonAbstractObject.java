@@ -60,6 +60,7 @@ import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
+import java.nio.ByteOrder;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -68,6 +69,7 @@ import java.util.HashSet;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiGuards;
 import com.oracle.graal.python.builtins.objects.cext.capi.DynamicObjectNativeWrapper;
@@ -143,6 +145,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.interop.ArityException;
 import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.InvalidBufferOffsetException;
 import com.oracle.truffle.api.interop.StopIterationException;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.interop.UnknownIdentifierException;
@@ -1473,6 +1476,231 @@ public abstract class PythonAbstractObject extends DynamicObject implements Truf
         }
     }
 
+    @ExportMessage
+    public boolean hasBufferElements(
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib) {
+        return bufferLib.isInteropBuffer(this);
+    }
+
+    @ExportMessage
+    public boolean isBufferWritable(
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib) throws UnsupportedMessageException {
+        checkInteropBuffer(bufferLib);
+        return !bufferLib.isReadonly(this);
+    }
+
+    @ExportMessage
+    public long getBufferSize(
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException {
+        checkInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            return bufferLib.getBufferLength(this);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public byte readBufferByte(long byteOffset,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            return bufferLib.readByte(this, checkBufferOffset(bufferLib, byteOffset, Byte.BYTES));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferByte(long byteOffset, byte value,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkWritableInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            bufferLib.writeByte(this, checkBufferOffset(bufferLib, byteOffset, Byte.BYTES), value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public short readBufferShort(ByteOrder order, long byteOffset,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            short value = bufferLib.readShort(this, checkBufferOffset(bufferLib, byteOffset, Short.BYTES));
+            return order == ByteOrder.nativeOrder() ? value : Short.reverseBytes(value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferShort(ByteOrder order, long byteOffset, short value,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkWritableInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkBufferOffset(bufferLib, byteOffset, Short.BYTES);
+            bufferLib.writeShort(this, offset, order == ByteOrder.nativeOrder() ? value : Short.reverseBytes(value));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public int readBufferInt(ByteOrder order, long byteOffset,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int value = bufferLib.readInt(this, checkBufferOffset(bufferLib, byteOffset, Integer.BYTES));
+            return order == ByteOrder.nativeOrder() ? value : Integer.reverseBytes(value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferInt(ByteOrder order, long byteOffset, int value,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkWritableInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkBufferOffset(bufferLib, byteOffset, Integer.BYTES);
+            bufferLib.writeInt(this, offset, order == ByteOrder.nativeOrder() ? value : Integer.reverseBytes(value));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public long readBufferLong(ByteOrder order, long byteOffset,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            long value = bufferLib.readLong(this, checkBufferOffset(bufferLib, byteOffset, Long.BYTES));
+            return order == ByteOrder.nativeOrder() ? value : Long.reverseBytes(value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferLong(ByteOrder order, long byteOffset, long value,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkWritableInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkBufferOffset(bufferLib, byteOffset, Long.BYTES);
+            bufferLib.writeLong(this, offset, order == ByteOrder.nativeOrder() ? value : Long.reverseBytes(value));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public float readBufferFloat(ByteOrder order, long byteOffset,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkBufferOffset(bufferLib, byteOffset, Float.BYTES);
+            if (order == ByteOrder.nativeOrder()) {
+                return bufferLib.readFloat(this, offset);
+            }
+            return Float.intBitsToFloat(Integer.reverseBytes(bufferLib.readInt(this, offset)));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferFloat(ByteOrder order, long byteOffset, float value,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkWritableInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkBufferOffset(bufferLib, byteOffset, Float.BYTES);
+            if (order == ByteOrder.nativeOrder()) {
+                bufferLib.writeFloat(this, offset, value);
+            } else {
+                bufferLib.writeInt(this, offset, Integer.reverseBytes(Float.floatToRawIntBits(value)));
+            }
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public double readBufferDouble(ByteOrder order, long byteOffset,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkBufferOffset(bufferLib, byteOffset, Double.BYTES);
+            if (order == ByteOrder.nativeOrder()) {
+                return bufferLib.readDouble(this, offset);
+            }
+            return Double.longBitsToDouble(Long.reverseBytes(bufferLib.readLong(this, offset)));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferDouble(ByteOrder order, long byteOffset, double value,
+                    @CachedLibrary("this") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        checkWritableInteropBuffer(bufferLib);
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkBufferOffset(bufferLib, byteOffset, Double.BYTES);
+            if (order == ByteOrder.nativeOrder()) {
+                bufferLib.writeDouble(this, offset, value);
+            } else {
+                bufferLib.writeLong(this, offset, Long.reverseBytes(Double.doubleToRawLongBits(value)));
+            }
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    private void checkInteropBuffer(PythonBufferAccessLibrary bufferLib) throws UnsupportedMessageException {
+        if (!bufferLib.isInteropBuffer(this)) {
+            throw UnsupportedMessageException.create();
+        }
+    }
+
+    private void checkWritableInteropBuffer(PythonBufferAccessLibrary bufferLib) throws UnsupportedMessageException {
+        if (!bufferLib.isInteropBuffer(this) || bufferLib.isReadonly(this)) {
+            throw UnsupportedMessageException.create();
+        }
+    }
+
+    private int checkBufferOffset(PythonBufferAccessLibrary bufferLib, long byteOffset, int length) throws InvalidBufferOffsetException {
+        if (byteOffset < 0 || byteOffset > bufferLib.getBufferLength(this) - length) {
+            throw InvalidBufferOffsetException.create(byteOffset, length);
+        }
+        return (int) byteOffset;
+    }
+
     @ExportMessage
     public boolean hasLanguage() {
         return true;
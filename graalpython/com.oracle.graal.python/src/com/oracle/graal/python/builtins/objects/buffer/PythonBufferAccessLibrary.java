@@ -53,6 +53,7 @@ import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.library.GenerateLibrary;
 import com.oracle.truffle.api.library.GenerateLibrary.Abstract;
 import com.oracle.truffle.api.library.Library;
@@ -139,6 +140,16 @@ public abstract class PythonBufferAccessLibrary extends Library {
         }
     }
 
+    /**
+     * Whether the receiver can be accessed in place through the interop buffer messages
+     * ({@link InteropLibrary#hasBufferElements(Object)} and friends) without acquiring it first.
+     * This holds for objects that are their own contiguous buffer, such as {@code bytes},
+     * {@code bytearray} or {@code array}.
+     */
+    public boolean isInteropBuffer(Object receiver) {
+        return isBuffer(receiver);
+    }
+
     /**
      * Return the buffer length in bytes. Equivalent of CPython's {@code Py_buffer.len}.
      */
@@ -417,15 +428,6 @@ public abstract class PythonBufferAccessLibrary extends Library {
         byte b7 = (byte) (value >> 8);
         byte b8 = (byte) value;
         if (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN) {
-            writeByte(receiver, byteOffset, b1);
-            writeByte(receiver, byteOffset + 1, b2);
-            writeByte(receiver, byteOffset + 2, b3);
-            writeByte(receiver, byteOffset + 3, b4);
-            writeByte(receiver, byteOffset + 4, b5);
-            writeByte(receiver, byteOffset + 5, b6);
-            writeByte(receiver, byteOffset + 6, b7);
-            writeByte(receiver, byteOffset + 7, b8);
-        } else {
             writeByte(receiver, byteOffset, b8);
             writeByte(receiver, byteOffset + 1, b7);
             writeByte(receiver, byteOffset + 2, b6);
@@ -434,6 +436,15 @@ public abstract class PythonBufferAccessLibrary extends Library {
             writeByte(receiver, byteOffset + 5, b3);
             writeByte(receiver, byteOffset + 6, b2);
             writeByte(receiver, byteOffset + 7, b1);
+        } else {
+            writeByte(receiver, byteOffset, b1);
+            writeByte(receiver, byteOffset + 1, b2);
+            writeByte(receiver, byteOffset + 2, b3);
+            writeByte(receiver, byteOffset + 3, b4);
+            writeByte(receiver, byteOffset + 4, b5);
+            writeByte(receiver, byteOffset + 5, b6);
+            writeByte(receiver, byteOffset + 6, b7);
+            writeByte(receiver, byteOffset + 7, b8);
         }
     }
 
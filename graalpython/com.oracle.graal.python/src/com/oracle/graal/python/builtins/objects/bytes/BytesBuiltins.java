@@ -145,6 +145,7 @@ import com.oracle.graal.python.runtime.formatting.BytesFormatProcessor;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.CharsetMapping.NormalizeEncodingNameNode;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
@@ -313,10 +314,18 @@ public class BytesBuiltins extends PythonBuiltins {
             return BytesBuiltinsClinicProviders.DecodeNodeClinicProviderGen.INSTANCE;
         }
 
-        @Specialization
+        @Specialization(limit = "3")
         public Object decode(VirtualFrame frame, PBytesLike self, TruffleString encoding, TruffleString errors,
+                        @CachedLibrary("self") PythonBufferAccessLibrary bufferLib,
+                        @Cached NormalizeEncodingNameNode normalizeEncodingNameNode,
+                        @Cached CodecsModuleBuiltins.DirectDecodeNode directDecodeNode,
                         @Cached CodecsModuleBuiltins.DecodeNode decodeNode,
                         @Cached IsInstanceNode isInstanceNode) {
+            // like CPython, bypass the codec registry for the standard encodings
+            TruffleString direct = directDecodeNode.execute(bufferLib.getInternalOrCopiedByteArray(self), bufferLib.getBufferLength(self), normalizeEncodingNameNode.execute(encoding));
+            if (direct != null) {
+                return direct;
+            }
             Object result = decodeNode.executeWithStrings(frame, self, encoding, errors);
             if (!isInstanceNode.executeWith(frame, result, PythonBuiltinClassType.PString)) {
                 throw raise(TypeError, DECODER_RETURNED_P_INSTEAD_OF_BYTES, encoding, result);
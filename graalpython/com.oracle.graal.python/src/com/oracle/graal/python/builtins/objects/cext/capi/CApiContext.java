@@ -50,6 +50,7 @@ import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import static com.oracle.graal.python.util.PythonUtils.tsArray;
 
 import java.io.IOException;
+import java.io.PrintStream;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
@@ -193,6 +194,9 @@ public final class CApiContext extends CExtContext {
      */
     private AtomicLong nextTssKey = new AtomicLong();
 
+    /** The C API profiler; {@code null} if {@link PythonOptions#CApiProfile} is not enabled. */
+    private final CApiProfiler profiler;
+
     public static TruffleLogger getLogger(Class<?> clazz) {
         return PythonLanguage.getLogger(LOGGER_CAPI_NAME + "." + clazz.getSimpleName());
     }
@@ -206,6 +210,7 @@ public final class CApiContext extends CExtContext {
         nativeObjectWrapperList = null;
         primitiveNativeWrapperCache = null;
         llvmTypeCache = null;
+        profiler = null;
     }
 
     public CApiContext(PythonContext context, Object hpyLibrary) {
@@ -228,6 +233,16 @@ public final class CApiContext extends CExtContext {
             primitiveNativeWrapperCache[i] = nativeWrapper;
         }
 
+        int profileInterval = context.getLanguage().getEngineOption(PythonOptions.CApiProfile);
+        if (profileInterval != 0) {
+            profiler = new CApiProfiler();
+            if (profileInterval > 0) {
+                profiler.startReporter(context, profileInterval);
+            }
+        } else {
+            profiler = null;
+        }
+
         context.registerAsyncAction(() -> {
             Reference<?> reference = null;
             try {
@@ -253,6 +268,32 @@ public final class CApiContext extends CExtContext {
         });
     }
 
+    public CApiProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Stops the thread that periodically prints the C API profile (if any). This is called when
+     * the context is finalized, also if it is cancelled.
+     */
+    @TruffleBoundary
+    public void stopProfileReporter() {
+        if (profiler != null) {
+            profiler.stopReporter();
+        }
+    }
+
+    /**
+     * Prints the collected C API profile (if profiling is enabled). This is called when the
+     * context is finalized.
+     */
+    @TruffleBoundary
+    public void printProfile() {
+        if (profiler != null) {
+            profiler.printReport(new PrintStream(getContext().getEnv().err(), true));
+        }
+    }
+
     public int getPyLongBitsInDigit() {
         if (pyLongBitsInDigit < 0) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -605,6 +646,7 @@ public final class CApiContext extends CExtContext {
     }
 
     PythonAbstractNativeObject createPythonAbstractNativeObject(Object nativePtr, AddRefCntNode addRefCntNode, boolean steal, AttachLLVMTypeNode attachLLVMTypeNode) {
+        long start = profiler != null ? CApiProfiler.now() : 0;
         PythonAbstractNativeObject nativeObject = new PythonAbstractNativeObject(attachLLVMTypeNode.execute(nativePtr));
         int nativeRefID = nativeObjectWrapperList.reserve();
         assert nativeRefID != -1;
@@ -615,6 +657,9 @@ public final class CApiContext extends CExtContext {
 
         addRefCntNode.execute(nativePtr, nativeRefCnt);
         nativeObjectWrapperList.commit(nativeRefID, ref);
+        if (profiler != null) {
+            profiler.transition(CApiProfiler.Transition.NATIVE_REFERENCE, start);
+        }
         return nativeObject;
     }
 
@@ -757,6 +802,15 @@ public final class CApiContext extends CExtContext {
         allocatedMemory -= size;
     }
 
+    /**
+     * Makes the native allocator report the memory pressure it has accumulated but not yet
+     * reported. This is called when the context is finalized.
+     */
+    @TruffleBoundary
+    public void flushMemoryPressure() {
+        PCallCapiFunction.getUncached().call(NativeCAPISymbol.FUN_PY_TRUFFLE_FLUSH_MEMORY_PRESSURE);
+    }
+
     @TruffleBoundary
     private static void doGc(long millis) {
         LOGGER.fine("full GC due to native memory");
@@ -1005,6 +1059,7 @@ public final class CApiContext extends CExtContext {
         }
         InteropLibrary pyInitFuncLib = InteropLibrary.getUncached(pyinitFunc);
         Object nativeResult;
+        long start = profiler != null ? profiler.enterModuleDowncall(spec.name) : 0;
         try {
             nativeResult = pyInitFuncLib.execute(pyinitFunc);
         } catch (ArityException e) {
@@ -1013,6 +1068,10 @@ public final class CApiContext extends CExtContext {
             Object[] arguments = new Object[e.getExpectedMinArity()];
             Arrays.fill(arguments, PNone.NO_VALUE);
             nativeResult = pyInitFuncLib.execute(pyinitFunc, arguments);
+        } finally {
+            if (profiler != null) {
+                profiler.exitDowncall(initFuncName, start);
+            }
         }
 
         checkFunctionResultNode.execute(context, initFuncName, nativeResult);
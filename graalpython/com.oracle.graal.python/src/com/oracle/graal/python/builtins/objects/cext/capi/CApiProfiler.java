@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.cext.capi;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.modules.cext.PythonCextBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.cext.common.CExtContext;
+import com.oracle.graal.python.lib.PyObjectStrAsTruffleStringNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * An opt-in profiler for the classic C API (enabled with {@link PythonOptions#CApiProfile}). It
+ * counts and times
+ * <ul>
+ * <li>downcalls, i.e., calls from managed code into functions of a C extension (see
+ * {@link ExternalFunctionNodes}),</li>
+ * <li>upcalls, i.e., calls from native code into C API functions implemented in Java (see
+ * {@link PythonCextBuiltins}), and</li>
+ * <li>transitions of objects between the managed and the native world (see {@link Transition}).
+ * </li>
+ * </ul>
+ * Upcalls and transitions are attributed to the extension module that owns the innermost active
+ * downcall of the current thread. The time spent in a downcall minus the time spent in nested
+ * upcalls and transitions is reported as <em>native</em> time. This allows to tell if an
+ * extension is slow because of its own code or because of the conversion layer.
+ */
+public final class CApiProfiler {
+    private static final String UNKNOWN_MODULE = "<unknown>";
+
+    public enum Transition {
+        /** Creation of a native wrapper for a managed object. */
+        WRAPPER_CREATION("wrapper creation"),
+        /** Receiving {@code toNative} for a native wrapper, i.e., allocating the native mirror. */
+        TO_NATIVE("toNative"),
+        /** Resolving a pointer that may be a handle back to the managed native wrapper. */
+        RESOLVE_HANDLE("handle resolution"),
+        /** Creation of a managed reference to a native object. */
+        NATIVE_REFERENCE("native object reference");
+
+        @CompilationFinal(dimensions = 1) static final Transition[] VALUES = values();
+
+        private final String description;
+
+        Transition(String description) {
+            this.description = description;
+        }
+    }
+
+    private static final class Counter {
+        long count;
+        long nanos;
+
+        void add(long elapsed) {
+            count++;
+            nanos += elapsed;
+        }
+    }
+
+    private static final class ModuleStats {
+        final String name;
+        final Map<String, Counter> downcalls = new HashMap<>();
+        final Map<String, Counter> upcalls = new HashMap<>();
+        final Counter[] transitions = new Counter[Transition.VALUES.length];
+        long nativeNanos;
+
+        ModuleStats(String name) {
+            this.name = name;
+            for (int i = 0; i < transitions.length; i++) {
+                transitions[i] = new Counter();
+            }
+        }
+    }
+
+    /** A stack entry describing an active downcall of a thread. */
+    private static final class Activation {
+        final Activation parent;
+        final ModuleStats module;
+        long nestedNanos;
+
+        Activation(Activation parent, ModuleStats module) {
+            this.parent = parent;
+            this.module = module;
+        }
+    }
+
+    private final ConcurrentHashMap<String, ModuleStats> modules = new ConcurrentHashMap<>();
+    private final Map<Object, String> functionOwners = Collections.synchronizedMap(new WeakHashMap<>());
+    private final ThreadLocal<Activation> activations = new ThreadLocal<>();
+    private final ThreadLocal<int[]> upcallDepth = ThreadLocal.withInitial(() -> new int[1]);
+    private Thread reporterThread;
+
+    CApiProfiler() {
+    }
+
+    /**
+     * Returns {@code true} if C API profiling is enabled. This is a partial evaluation constant.
+     */
+    public static boolean isEnabled(Node node) {
+        return PythonLanguage.get(node).getEngineOption(PythonOptions.CApiProfile) != 0;
+    }
+
+    /**
+     * Returns the profiler of the current context or {@code null} if the C API was not loaded yet
+     * or profiling is disabled.
+     */
+    public static CApiProfiler get(Node node) {
+        if (isEnabled(node)) {
+            CApiContext cApiContext = PythonContext.get(node).getCApiContext();
+            if (cApiContext != null) {
+                return cApiContext.getProfiler();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the profiler of the given C extension context or {@code null} if it is not the C API
+     * context or profiling is disabled. Unlike {@link #get(Node)}, this does not look up the
+     * current context.
+     */
+    public static CApiProfiler get(CExtContext cextContext) {
+        if (cextContext instanceof CApiContext) {
+            return ((CApiContext) cextContext).getProfiler();
+        }
+        return null;
+    }
+
+    /**
+     * Determines if the given built-in node class implements a C API function, i.e., if it is
+     * defined in the {@link PythonCextBuiltins#PYTHON_CEXT} module.
+     */
+    public static boolean isCApiBuiltin(Class<?> nodeClass) {
+        Class<?> enclosing = nodeClass;
+        while (enclosing != null) {
+            CoreFunctions annotation = enclosing.getAnnotation(CoreFunctions.class);
+            if (annotation != null) {
+                return PythonCextBuiltins.PYTHON_CEXT.equals(annotation.defineModule()) || PythonCextBuiltins.PYTHON_CEXT.equals(annotation.extendsModule());
+            }
+            enclosing = enclosing.getEnclosingClass();
+        }
+        return false;
+    }
+
+    @TruffleBoundary
+    public static long now() {
+        return System.nanoTime();
+    }
+
+    private ModuleStats getModuleStats(String name) {
+        return modules.computeIfAbsent(name, ModuleStats::new);
+    }
+
+    private ModuleStats currentModule(Activation activation) {
+        return activation != null ? activation.module : getModuleStats(UNKNOWN_MODULE);
+    }
+
+    /**
+     * Associates a native function (as passed to a {@code PyMethodDef}) with the extension module
+     * it belongs to. The owner is usually the module name and is converted with {@code str}.
+     */
+    @TruffleBoundary
+    public void registerFunction(Object callable, Object owner) {
+        if (callable != null && owner != null && !(owner instanceof PNone)) {
+            functionOwners.put(callable, PyObjectStrAsTruffleStringNode.getUncached().execute(null, owner).toJavaStringUncached());
+        }
+    }
+
+    /**
+     * Marks the beginning of a downcall into native function {@code callable}. Every call to this
+     * method must be paired with a call to {@link #exitDowncall}.
+     */
+    @TruffleBoundary
+    public long enterDowncall(Object callable) {
+        String owner = functionOwners.get(callable);
+        Activation parent = activations.get();
+        ModuleStats module = owner != null ? getModuleStats(owner) : currentModule(parent);
+        activations.set(new Activation(parent, module));
+        return System.nanoTime();
+    }
+
+    /**
+     * Same as {@link #enterDowncall(Object)} but explicitly attributes the downcall to module
+     * {@code moduleName} (e.g. used for the module init function).
+     */
+    @TruffleBoundary
+    public long enterModuleDowncall(Object moduleName) {
+        activations.set(new Activation(activations.get(), getModuleStats(moduleName.toString())));
+        return System.nanoTime();
+    }
+
+    @TruffleBoundary
+    public void exitDowncall(Object name, long start) {
+        long elapsed = System.nanoTime() - start;
+        Activation activation = activations.get();
+        if (activation == null) {
+            return;
+        }
+        activations.set(activation.parent);
+        ModuleStats module = activation.module;
+        synchronized (module) {
+            module.downcalls.computeIfAbsent(name.toString(), k -> new Counter()).add(elapsed);
+            module.nativeNanos += Math.max(elapsed - activation.nestedNanos, 0);
+        }
+        if (activation.parent != null) {
+            activation.parent.nestedNanos += elapsed;
+        }
+    }
+
+    private void upcall(Object name, long start) {
+        long elapsed = System.nanoTime() - start;
+        Activation activation = activations.get();
+        ModuleStats module = currentModule(activation);
+        synchronized (module) {
+            module.upcalls.computeIfAbsent(name.toString(), k -> new Counter()).add(elapsed);
+        }
+        if (activation != null) {
+            activation.nestedNanos += elapsed;
+        }
+    }
+
+    @TruffleBoundary
+    public void transition(Transition kind, long start) {
+        long elapsed = System.nanoTime() - start;
+        Activation activation = activations.get();
+        ModuleStats module = currentModule(activation);
+        synchronized (module) {
+            module.transitions[kind.ordinal()].add(elapsed);
+        }
+        // a transition may happen within an upcall; then it is already accounted for
+        if (activation != null && !isInUpcall()) {
+            activation.nestedNanos += elapsed;
+        }
+    }
+
+    @TruffleBoundary
+    public void count(Transition kind) {
+        ModuleStats module = currentModule(activations.get());
+        synchronized (module) {
+            module.transitions[kind.ordinal()].count++;
+        }
+    }
+
+    @TruffleBoundary
+    public long enterUpcall() {
+        upcallDepth.get()[0]++;
+        return System.nanoTime();
+    }
+
+    @TruffleBoundary
+    public void exitUpcall(Object name, long start) {
+        upcallDepth.get()[0]--;
+        upcall(name, start);
+    }
+
+    private boolean isInUpcall() {
+        return upcallDepth.get()[0] > 0;
+    }
+
+    @TruffleBoundary
+    public void printReport(PrintStream out) {
+        List<ModuleStats> sorted = new ArrayList<>(modules.values());
+        sorted.sort((a, b) -> a.name.compareTo(b.name));
+        out.println("========= C API profile (time in ms)");
+        for (ModuleStats module : sorted) {
+            synchronized (module) {
+                long upcallNanos = 0;
+                for (Counter c : module.upcalls.values()) {
+                    upcallNanos += c.nanos;
+                }
+                long transitionNanos = 0;
+                for (Counter c : module.transitions) {
+                    transitionNanos += c.nanos;
+                }
+                out.printf("==== module %s: native %.3f, upcalls %.3f, transitions %.3f%n", module.name, toMillis(module.nativeNanos), toMillis(upcallNanos), toMillis(transitionNanos));
+                printCounters(out, "downcalls", module.downcalls);
+                printCounters(out, "upcalls", module.upcalls);
+                out.println("  transitions:");
+                for (Transition t : Transition.VALUES) {
+                    Counter c = module.transitions[t.ordinal()];
+                    if (c.count != 0) {
+                        out.printf("    %40s: %10d %12.3f%n", t.description, c.count, toMillis(c.nanos));
+                    }
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private static void printCounters(PrintStream out, String title, Map<String, Counter> counters) {
+        if (counters.isEmpty()) {
+            return;
+        }
+        out.printf("  %s:%n", title);
+        List<Map.Entry<String, Counter>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().nanos, a.getValue().nanos));
+        for (Map.Entry<String, Counter> e : entries) {
+            out.printf("    %40s: %10d %12.3f%n", e.getKey(), e.getValue().count, toMillis(e.getValue().nanos));
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Starts a system thread that prints the report every {@code interval} ms until
+     * {@link #stopReporter()} is called.
+     */
+    @TruffleBoundary
+    void startReporter(PythonContext context, int interval) {
+        PrintStream out = new PrintStream(context.getEnv().err(), true);
+        Thread thread = context.getEnv().createSystemThread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                printReport(out);
+            }
+        });
+        thread.setName("python-capi-profiler");
+        reporterThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the periodic reporter (if any) and waits for it to finish. Must be called before the
+     * context is disposed.
+     */
+    @TruffleBoundary
+    void stopReporter() {
+        Thread thread = reporterThread;
+        if (thread != null) {
+            reporterThread = null;
+            thread.interrupt();
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -377,10 +377,10 @@ public abstract class CExtNodes {
     public abstract static class ToSulongNode extends CExtToNativeNode {
 
         @Specialization
-        static Object doString(@SuppressWarnings("unused") CExtContext cextContext, TruffleString str,
+        static Object doString(CExtContext cextContext, TruffleString str,
                         @Cached PythonObjectFactory factory,
                         @Cached ConditionProfile noWrapperProfile) {
-            return PythonObjectNativeWrapper.wrap(factory.createString(str), noWrapperProfile);
+            return PythonObjectNativeWrapper.wrap(cextContext, factory.createString(str), noWrapperProfile);
         }
 
         @Specialization
@@ -515,20 +515,20 @@ public abstract class CExtNodes {
         }
 
         @Specialization(guards = {"cachedClass == object.getClass()", "!isClass(object, lib)", "!isNativeObject(object)", "!isSpecialSingleton(object)"})
-        static Object runAbstractObjectCached(@SuppressWarnings("unused") CExtContext cextContext, PythonAbstractObject object,
+        static Object runAbstractObjectCached(CExtContext cextContext, PythonAbstractObject object,
                         @Cached ConditionProfile noWrapperProfile,
                         @Cached("object.getClass()") Class<? extends PythonAbstractObject> cachedClass,
                         @SuppressWarnings("unused") @CachedLibrary(limit = "3") InteropLibrary lib) {
             assert object != PNone.NO_VALUE;
-            return PythonObjectNativeWrapper.wrap(CompilerDirectives.castExact(object, cachedClass), noWrapperProfile);
+            return PythonObjectNativeWrapper.wrap(cextContext, CompilerDirectives.castExact(object, cachedClass), noWrapperProfile);
         }
 
         @Specialization(guards = {"!isClass(object, lib)", "!isNativeObject(object)", "!isSpecialSingleton(object)"}, replaces = "runAbstractObjectCached")
-        static Object runAbstractObject(@SuppressWarnings("unused") CExtContext cextContext, PythonAbstractObject object,
+        static Object runAbstractObject(CExtContext cextContext, PythonAbstractObject object,
                         @Cached ConditionProfile noWrapperProfile,
                         @SuppressWarnings("unused") @CachedLibrary(limit = "3") InteropLibrary lib) {
             assert object != PNone.NO_VALUE;
-            return PythonObjectNativeWrapper.wrap(object, noWrapperProfile);
+            return PythonObjectNativeWrapper.wrap(cextContext, object, noWrapperProfile);
         }
 
         @Specialization(guards = {"isForeignObjectNode.execute(object)", "!isNativeWrapper(object)", "!isNativeNull(object)"})
@@ -784,20 +784,20 @@ public abstract class CExtNodes {
         }
 
         @Specialization(guards = {"cachedClass == object.getClass()", "!isClass(object, lib)", "!isNativeObject(object)", "!isSpecialSingleton(object)"})
-        static Object runAbstractObjectCached(@SuppressWarnings("unused") CExtContext cextContext, PythonAbstractObject object,
+        static Object runAbstractObjectCached(CExtContext cextContext, PythonAbstractObject object,
                         @Cached ConditionProfile noWrapperProfile,
                         @Cached("object.getClass()") Class<? extends PythonAbstractObject> cachedClass,
                         @SuppressWarnings("unused") @CachedLibrary(limit = "3") InteropLibrary lib) {
             assert object != PNone.NO_VALUE;
-            return PythonObjectNativeWrapper.wrapNewRef(CompilerDirectives.castExact(object, cachedClass), noWrapperProfile);
+            return PythonObjectNativeWrapper.wrapNewRef(cextContext, CompilerDirectives.castExact(object, cachedClass), noWrapperProfile);
         }
 
         @Specialization(guards = {"!isClass(object, lib)", "!isNativeObject(object)", "!isSpecialSingleton(object)"}, replaces = "runAbstractObjectCached")
-        static Object runAbstractObject(@SuppressWarnings("unused") CExtContext cextContext, PythonAbstractObject object,
+        static Object runAbstractObject(CExtContext cextContext, PythonAbstractObject object,
                         @Cached ConditionProfile noWrapperProfile,
                         @SuppressWarnings("unused") @CachedLibrary(limit = "3") InteropLibrary lib) {
             assert object != PNone.NO_VALUE;
-            return PythonObjectNativeWrapper.wrapNewRef(object, noWrapperProfile);
+            return PythonObjectNativeWrapper.wrapNewRef(cextContext, object, noWrapperProfile);
         }
 
         @Specialization(guards = {"isForeignObjectNode.execute(object)", "!isNativeWrapper(object)", "!isNativeNull(object)"})
@@ -959,20 +959,20 @@ public abstract class CExtNodes {
         }
 
         @Specialization(guards = {"cachedClass == object.getClass()", "!isClass(object, lib)", "!isNativeObject(object)", "!isSpecialSingleton(object)"})
-        static Object runAbstractObjectCached(@SuppressWarnings("unused") CExtContext cextContext, PythonAbstractObject object,
+        static Object runAbstractObjectCached(CExtContext cextContext, PythonAbstractObject object,
                         @Cached ConditionProfile noWrapperProfile,
                         @Cached("object.getClass()") Class<? extends PythonAbstractObject> cachedClass,
                         @SuppressWarnings("unused") @CachedLibrary(limit = "3") InteropLibrary lib) {
             assert object != PNone.NO_VALUE;
-            return PythonObjectNativeWrapper.wrapNewRef(CompilerDirectives.castExact(object, cachedClass), noWrapperProfile);
+            return PythonObjectNativeWrapper.wrapNewRef(cextContext, CompilerDirectives.castExact(object, cachedClass), noWrapperProfile);
         }
 
         @Specialization(guards = {"!isClass(object, lib)", "!isNativeObject(object)", "!isSpecialSingleton(object)"}, replaces = "runAbstractObjectCached")
-        static Object runAbstractObject(@SuppressWarnings("unused") CExtContext cextContext, PythonAbstractObject object,
+        static Object runAbstractObject(CExtContext cextContext, PythonAbstractObject object,
                         @Cached ConditionProfile noWrapperProfile,
                         @SuppressWarnings("unused") @CachedLibrary(limit = "3") InteropLibrary lib) {
             assert object != PNone.NO_VALUE;
-            return PythonObjectNativeWrapper.wrapNewRef(object, noWrapperProfile);
+            return PythonObjectNativeWrapper.wrapNewRef(cextContext, object, noWrapperProfile);
         }
 
         @Specialization(guards = {"isForeignObjectNode.execute(object)", "!isNativeWrapper(object)", "!isNativeNull(object)"})
@@ -3205,6 +3205,13 @@ public abstract class CExtNodes {
                         @Cached PCallCapiFunction callTruffleCannotBeHandleNode,
                         @Cached PCallCapiFunction callTruffleManagedFromHandleNode) {
             if (((boolean) callTruffleCannotBeHandleNode.call(NativeCAPISymbol.FUN_POINTS_TO_HANDLE_SPACE, pointerObject))) {
+                CApiProfiler profiler = CApiProfiler.get(callTruffleManagedFromHandleNode);
+                if (profiler != null) {
+                    long start = CApiProfiler.now();
+                    Object resolved = callTruffleManagedFromHandleNode.call(NativeCAPISymbol.FUN_RESOLVE_HANDLE, pointerObject);
+                    profiler.transition(CApiProfiler.Transition.RESOLVE_HANDLE, start);
+                    return resolved;
+                }
                 return callTruffleManagedFromHandleNode.call(NativeCAPISymbol.FUN_RESOLVE_HANDLE, pointerObject);
             }
             // In this case, it cannot be a handle so we can just return the pointer object. It
@@ -611,7 +611,7 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
                         @Shared("factory") @Cached PythonObjectFactory factory,
                         @Cached ConditionProfile noWrapperProfile) {
             // TODO create dict view on subclasses set
-            return PythonObjectNativeWrapper.wrap(factory.createDict(), noWrapperProfile);
+            return PythonObjectNativeWrapper.wrap(PythonContext.get(factory).getCApiContext(), factory.createDict(), noWrapperProfile);
         }
 
         @Specialization(guards = "eq(TP_GETATTR, key)")
@@ -1321,11 +1321,11 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
                             throws UnknownMemberException, UnsupportedMessageException, UnknownIdentifierException, UnsupportedTypeException;
 
             @Specialization(guards = "eq(OB_TYPE, key)")
-            static void doObType(PythonObject object, @SuppressWarnings("unused") PythonNativeWrapper nativeWrapper, @SuppressWarnings("unused") String key,
+            void doObType(PythonObject object, @SuppressWarnings("unused") PythonNativeWrapper nativeWrapper, @SuppressWarnings("unused") String key,
                             @SuppressWarnings("unused") PythonManagedClass value,
                             @Cached ConditionProfile noWrapperProfile) {
                 // At this point, we do not support changing the type of an object.
-                PythonObjectNativeWrapper.wrap(object, noWrapperProfile);
+                PythonObjectNativeWrapper.wrap(PythonContext.get(this).getCApiContext(), object, noWrapperProfile);
             }
 
             @Specialization(guards = "eq(OB_REFCNT, key)")
@@ -1709,8 +1709,13 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
                         @Cached IsPointerNode isPointerNode) {
             invalidateNode.execute();
             if (!isPointerNode.execute(obj)) {
+                CApiProfiler profiler = CApiProfiler.get(toPyObjectNode);
+                long start = profiler != null ? CApiProfiler.now() : 0;
                 Object ptr = toPyObjectNode.execute(obj);
                 obj.setNativePointer(ptr);
+                if (profiler != null) {
+                    profiler.transition(CApiProfiler.Transition.TO_NATIVE, start);
+                }
             }
         }
     }
@@ -1790,22 +1795,20 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
             super(object);
         }
 
-        public static DynamicObjectNativeWrapper wrap(PythonAbstractObject obj, ConditionProfile noWrapperProfile) {
+        public static DynamicObjectNativeWrapper wrap(CExtContext cextContext, PythonAbstractObject obj, ConditionProfile noWrapperProfile) {
             // important: native wrappers are cached
             DynamicObjectNativeWrapper nativeWrapper = obj.getNativeWrapper();
             if (noWrapperProfile.profile(nativeWrapper == null)) {
-                nativeWrapper = new PythonObjectNativeWrapper(obj);
-                obj.setNativeWrapper(nativeWrapper);
+                nativeWrapper = create(cextContext, obj);
             }
             return nativeWrapper;
         }
 
-        public static DynamicObjectNativeWrapper wrapNewRef(PythonAbstractObject obj, ConditionProfile noWrapperProfile) {
+        public static DynamicObjectNativeWrapper wrapNewRef(CExtContext cextContext, PythonAbstractObject obj, ConditionProfile noWrapperProfile) {
             // important: native wrappers are cached
             DynamicObjectNativeWrapper nativeWrapper = obj.getNativeWrapper();
             if (noWrapperProfile.profile(nativeWrapper == null)) {
-                nativeWrapper = new PythonObjectNativeWrapper(obj);
-                obj.setNativeWrapper(nativeWrapper);
+                nativeWrapper = create(cextContext, obj);
             } else {
                 // it already existed, so we need to increase the reference count
                 nativeWrapper.increaseRefCount();
@@ -1813,6 +1816,16 @@ public abstract class DynamicObjectNativeWrapper extends PythonNativeWrapper {
             return nativeWrapper;
         }
 
+        private static DynamicObjectNativeWrapper create(CExtContext cextContext, PythonAbstractObject obj) {
+            DynamicObjectNativeWrapper nativeWrapper = new PythonObjectNativeWrapper(obj);
+            obj.setNativeWrapper(nativeWrapper);
+            CApiProfiler profiler = CApiProfiler.get(cextContext);
+            if (profiler != null) {
+                profiler.count(CApiProfiler.Transition.WRAPPER_CREATION);
+            }
+            return nativeWrapper;
+        }
+
         @Override
         public String toString() {
             CompilerAsserts.neverPartOfCompilation();
@@ -96,10 +96,12 @@ import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.PRootNode;
+import com.oracle.graal.python.nodes.SpecialAttributeNames;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.argument.ReadIndexedArgumentNode;
 import com.oracle.graal.python.nodes.argument.ReadVarArgsNode;
 import com.oracle.graal.python.nodes.argument.ReadVarKeywordsNode;
+import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
 import com.oracle.graal.python.nodes.call.special.CallVarargsMethodNode;
 import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
 import com.oracle.graal.python.nodes.truffle.PythonTypes;
@@ -439,6 +441,10 @@ public abstract class ExternalFunctionNodes {
                 defaults = PythonUtils.EMPTY_OBJECT_ARRAY;
             }
             Object type = SpecialMethodNames.T___NEW__.equalsUncached(name, TS_ENCODING) ? null : enclosingType;
+            CApiProfiler profiler = CApiProfiler.get(factory);
+            if (type != null && profiler != null) {
+                profiler.registerFunction(callable, ReadAttributeFromObjectNode.getUncached().execute(type, SpecialAttributeNames.T___MODULE__));
+            }
             // TODO(fa): this should eventually go away
             switch (sig) {
                 case NOARGS:
@@ -575,8 +581,18 @@ public abstract class ExternalFunctionNodes {
             // it to the context since we cannot propagate it through the native frames.
             Object state = IndirectCallContext.enter(frame, threadState, this);
 
+            CApiProfiler profiler = CApiProfiler.get(this);
+            long start = profiler != null ? profiler.enterDowncall(callable) : 0;
             try {
-                return fromNative(asPythonObjectNode.execute(checkResultNode.execute(ctx, name, lib.execute(callable, cArguments))));
+                Object nativeResult;
+                try {
+                    nativeResult = lib.execute(callable, cArguments);
+                } finally {
+                    if (profiler != null) {
+                        profiler.exitDowncall(name, start);
+                    }
+                }
+                return fromNative(asPythonObjectNode.execute(checkResultNode.execute(ctx, name, nativeResult)));
             } catch (UnsupportedTypeException | UnsupportedMessageException e) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
                 throw ensureRaiseNode().raise(PythonBuiltinClassType.TypeError, ErrorMessages.CALLING_NATIVE_FUNC_FAILED, name, e);
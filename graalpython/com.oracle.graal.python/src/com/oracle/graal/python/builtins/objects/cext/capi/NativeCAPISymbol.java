@@ -161,6 +161,7 @@ public enum NativeCAPISymbol implements NativeCExtSymbol {
     FUN_GET_UINT32_ARRAY_TYPE_ID("get_uint32_array_typeid"),
     FUN_PYMEM_RAWMALLOC("PyMem_RawMalloc"),
     FUN_PY_TRUFFLE_FREE("PyTruffle_Free"),
+    FUN_PY_TRUFFLE_FLUSH_MEMORY_PRESSURE("PyTruffle_Flush_Memory_Pressure"),
     FUN_INCREF("Py_IncRef"),
     FUN_DECREF("Py_DecRef"),
     FUN_ADDREF("PyTruffle_ADDREF"),
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.cext.capi;
+
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.cext.capi.CApiContext.LLVMType;
+import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.GetLLVMType;
+import com.oracle.graal.python.builtins.objects.cext.common.CArrayWrappers;
+import com.oracle.graal.python.builtins.objects.cext.common.CArrayWrappers.CArrayWrapper;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Exclusive;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.llvm.spi.NativeTypeLibrary;
+
+import sun.misc.Unsafe;
+
+/**
+ * Exposes the contents of a managed buffer object (e.g. an {@code array.array}) as the
+ * {@code void *buf} of a {@code Py_buffer} without copying. Reads and writes done by the extension
+ * are directly forwarded to the buffer via {@link PythonBufferAccessLibrary}.
+ *
+ * If the pointer is passed to real native code, the contents are copied to off-heap memory on
+ * {@code toNative}. From then on, all accesses through this wrapper use the off-heap copy, so the
+ * extension always sees a single backing store. Since the owner cannot be resized while the buffer
+ * is exported, the off-heap copy is written back and freed when the buffer is released (see
+ * {@link #release()}). The write-back is unconditional, so the native changes always survive. The
+ * managed owner (e.g. an {@code array.array}) cannot be moved off-heap, so writes done from Python
+ * while the buffer is exported are not visible to native code and are overwritten on release.
+ */
+@ExportLibrary(InteropLibrary.class)
+@ExportLibrary(value = NativeTypeLibrary.class, useForAOT = false)
+public final class PyBufferArrayWrapper extends CArrayWrapper {
+    private final int offset;
+    private final int length;
+    private final boolean readonly;
+    private boolean released;
+
+    public PyBufferArrayWrapper(Object buffer, int offset, int length, boolean readonly) {
+        super(buffer);
+        PythonBufferAccessLibrary.assertIsBuffer(buffer);
+        this.offset = offset;
+        this.length = length;
+        this.readonly = readonly;
+    }
+
+    @ExportMessage
+    long getArraySize() {
+        return length;
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    boolean hasArrayElements() {
+        return true;
+    }
+
+    @ExportMessage
+    boolean isArrayElementReadable(long index) {
+        return 0 <= index && index < length;
+    }
+
+    @ExportMessage
+    boolean isArrayElementModifiable(long index) {
+        return !readonly && 0 <= index && index < length;
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    boolean isArrayElementInsertable(@SuppressWarnings("unused") long index) {
+        return false;
+    }
+
+    @ExportMessage
+    byte readArrayElement(long index,
+                    @CachedLibrary("this") PythonNativeWrapperLibrary lib,
+                    @Exclusive @CachedLibrary(limit = "2") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws InvalidArrayIndexException {
+        boolean mustRelease = gil.acquire();
+        try {
+            if (!isArrayElementReadable(index)) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                throw InvalidArrayIndexException.create(index);
+            }
+            if (lib.isNative(this)) {
+                return CArrayWrappers.UNSAFE.getByte((long) lib.getNativePointer(this) + index);
+            }
+            return bufferLib.readByte(lib.getDelegate(this), offset + (int) index);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    void writeArrayElement(long index, Object value,
+                    @CachedLibrary("this") PythonNativeWrapperLibrary lib,
+                    @Exclusive @CachedLibrary(limit = "2") PythonBufferAccessLibrary bufferLib,
+                    @CachedLibrary(limit = "1") InteropLibrary valueLib,
+                    @Exclusive @Cached GilNode gil) throws InvalidArrayIndexException, UnsupportedMessageException, UnsupportedTypeException {
+        boolean mustRelease = gil.acquire();
+        try {
+            if (!isArrayElementModifiable(index)) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                if (readonly) {
+                    throw UnsupportedMessageException.create();
+                }
+                throw InvalidArrayIndexException.create(index);
+            }
+            if (!valueLib.fitsInByte(value)) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                throw UnsupportedTypeException.create(new Object[]{value});
+            }
+            if (lib.isNative(this)) {
+                CArrayWrappers.UNSAFE.putByte((long) lib.getNativePointer(this) + index, valueLib.asByte(value));
+            } else {
+                bufferLib.writeByte(lib.getDelegate(this), offset + (int) index, valueLib.asByte(value));
+            }
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    boolean hasNativeType() {
+        return true;
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    Object getNativeType(
+                    @Cached GetLLVMType getLLVMType) {
+        return getLLVMType.execute(LLVMType.int8_ptr_t);
+    }
+
+    @ExportMessage
+    void toNative(
+                    @CachedLibrary("this") PythonNativeWrapperLibrary lib,
+                    @Exclusive @CachedLibrary(limit = "2") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached InvalidateNativeObjectsAllManagedNode invalidateNode) {
+        if (!PythonContext.get(lib).isNativeAccessAllowed()) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw new RuntimeException(ErrorMessages.NATIVE_ACCESS_NOT_ALLOWED.toJavaStringUncached());
+        }
+        invalidateNode.execute();
+        if (!lib.isNative(this)) {
+            setNativePointer(copyToNative(bufferLib, lib.getDelegate(this)));
+        }
+    }
+
+    @TruffleBoundary
+    private long copyToNative(PythonBufferAccessLibrary bufferLib, Object buffer) {
+        long ptr = CArrayWrappers.UNSAFE.allocateMemory(length);
+        if (bufferLib.hasInternalByteArray(buffer)) {
+            CArrayWrappers.UNSAFE.copyMemory(bufferLib.getInternalByteArray(buffer), Unsafe.ARRAY_BYTE_BASE_OFFSET + offset, null, ptr, length);
+        } else {
+            byte[] data = new byte[length];
+            bufferLib.readIntoByteArray(buffer, offset, data, 0, length);
+            CArrayWrappers.UNSAFE.copyMemory(data, Unsafe.ARRAY_BYTE_BASE_OFFSET, null, ptr, length);
+        }
+        return ptr;
+    }
+
+    /**
+     * Writes the off-heap copy (if any) back to the managed buffer and frees it. Must be called
+     * when the exported buffer is released.
+     */
+    @TruffleBoundary
+    public void release() {
+        PythonNativeWrapperLibrary lib = PythonNativeWrapperLibrary.getUncached();
+        if (!released && lib.isNative(this)) {
+            released = true;
+            long ptr = (long) lib.getNativePointer(this);
+            try {
+                if (!readonly) {
+                    PythonBufferAccessLibrary bufferLib = PythonBufferAccessLibrary.getUncached();
+                    Object buffer = lib.getDelegate(this);
+                    if (bufferLib.hasInternalByteArray(buffer)) {
+                        CArrayWrappers.UNSAFE.copyMemory(null, ptr, bufferLib.getInternalByteArray(buffer), Unsafe.ARRAY_BYTE_BASE_OFFSET + offset, length);
+                    } else {
+                        byte[] data = new byte[length];
+                        CArrayWrappers.UNSAFE.copyMemory(null, ptr, data, Unsafe.ARRAY_BYTE_BASE_OFFSET, length);
+                        bufferLib.writeFromByteArray(buffer, offset, data, 0, length);
+                    }
+                }
+            } finally {
+                free(lib);
+            }
+        }
+    }
+}
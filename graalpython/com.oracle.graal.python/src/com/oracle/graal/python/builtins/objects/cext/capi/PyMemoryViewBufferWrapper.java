@@ -163,13 +163,12 @@ public class PyMemoryViewBufferWrapper extends PythonNativeWrapper {
             return expected.equals(actual);
         }
 
-        @Specialization(guards = {"eq(J_BUF, key)", "object.getBufferPointer() == null"})
+        @Specialization(guards = {"eq(J_BUF, key)", "object.getBufferPointer() == null", "isPSequence(object.getOwner())"})
         static Object getBufManaged(PMemoryView object, @SuppressWarnings("unused") String key,
                         @Cached SequenceNodes.GetSequenceStorageNode getStorage,
                         @Cached SequenceNodes.SetSequenceStorageNode setStorage,
                         @Shared("pointerAdd") @Cached CExtNodes.PointerAddNode pointerAddNode,
                         @Cached PySequenceArrayWrapper.ToNativeStorageNode toNativeStorageNode) {
-            // TODO GR-21120: Add support for PArray
             PSequence owner = (PSequence) object.getOwner();
             NativeSequenceStorage nativeStorage = toNativeStorageNode.execute(getStorage.execute(owner), owner instanceof PBytesLike);
             if (nativeStorage == null) {
@@ -184,6 +183,25 @@ public class PyMemoryViewBufferWrapper extends PythonNativeWrapper {
             }
         }
 
+        /*
+         * Other managed buffers (e.g. 'array.array') are exposed without copying. The wrapper is
+         * cached in the memoryview such that all views share it and it can be released together
+         * with the memoryview.
+         */
+        @Specialization(guards = {"eq(J_BUF, key)", "object.getBufferPointer() == null", "!isPSequence(object.getOwner())"})
+        static Object getBufManagedBuffer(PMemoryView object, @SuppressWarnings("unused") String key) {
+            Object wrapper = object.getBufferArrayWrapper();
+            if (wrapper == null) {
+                wrapper = new PyBufferArrayWrapper(object.getBuffer(), object.getOffset(), object.getLength(), object.isReadOnly());
+                object.setBufferArrayWrapper(wrapper);
+            }
+            return wrapper;
+        }
+
+        protected static boolean isPSequence(Object owner) {
+            return owner instanceof PSequence;
+        }
+
         @Specialization(guards = {"eq(J_BUF, key)", "object.getBufferPointer() != null"})
         static Object getBufNative(PMemoryView object, @SuppressWarnings("unused") String key,
                         @Shared("pointerAdd") @Cached CExtNodes.PointerAddNode pointerAddNode) {
@@ -135,4 +135,12 @@ public class PyTruffleObjectAlloc implements TruffleObject {
         return context.getEnv().lookup(AllocationReporter.class);
     }
 
+    /**
+     * Allocation logging and allocation reporting need to see each single allocation. If neither
+     * is active, the native allocator only reports the accumulated memory pressure.
+     */
+    public static boolean isPreciseTrackingRequired(PythonContext context) {
+        return LOGGER.isLoggable(Level.FINER) || getAllocationReporter(context).isActive();
+    }
+
 }
@@ -71,6 +71,7 @@ import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFacto
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.CopyItemNodeGen;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.CopyNodeGen;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.CreateEmptyNodeGen;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.CreateStorageFromForeignNodeGen;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.CreateStorageFromIteratorNodeFactory.CreateStorageFromIteratorNodeCachedNodeGen;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.DeleteItemNodeGen;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodesFactory.DeleteNodeGen;
@@ -102,6 +103,7 @@ import com.oracle.graal.python.builtins.objects.iterator.IteratorBuiltins.NextNo
 import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes.BuiltinIteratorLengthHint;
 import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes.GetInternalIteratorSequenceStorage;
 import com.oracle.graal.python.builtins.objects.iterator.PBuiltinIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PForeignArrayIterator;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.range.RangeNodes.LenOfRangeNode;
 import com.oracle.graal.python.builtins.objects.slice.PSlice;
@@ -121,6 +123,7 @@ import com.oracle.graal.python.nodes.builtins.ListNodes;
 import com.oracle.graal.python.nodes.control.GetNextNode;
 import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
 import com.oracle.graal.python.nodes.expression.CoerceToBooleanNode;
+import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
 import com.oracle.graal.python.nodes.subscript.SliceLiteralNode;
@@ -128,6 +131,7 @@ import com.oracle.graal.python.nodes.subscript.SliceLiteralNode.CoerceToIntSlice
 import com.oracle.graal.python.nodes.subscript.SliceLiteralNode.ComputeIndices;
 import com.oracle.graal.python.nodes.util.CastToByteNode;
 import com.oracle.graal.python.nodes.util.CastToJavaByteNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
@@ -3735,6 +3739,65 @@ public abstract class SequenceStorageNodes {
         }
     }
 
+    /**
+     * Reads the elements {@code start, start + step, ...} of a foreign array into a new storage
+     * that is specialized for the element types, with a single interop dispatch for the whole
+     * range. A negative {@code length} reads up to the end of the array, re-checking the array
+     * size on every step like {@link PForeignArrayIterator} does.
+     */
+    @GenerateUncached
+    @ImportStatic(PythonOptions.class)
+    public abstract static class CreateStorageFromForeignNode extends Node {
+
+        public abstract SequenceStorage execute(Object foreignArray, int start, int step, int length);
+
+        public final SequenceStorage execute(Object foreignArray) {
+            return execute(foreignArray, 0, 1, -1);
+        }
+
+        @Specialization(limit = "getCallSiteInlineCacheMaxDepth()")
+        static SequenceStorage doForeign(Object foreignArray, int start, int step, int length,
+                        @CachedLibrary("foreignArray") InteropLibrary lib,
+                        @Cached PForeignToPTypeNode toPythonNode,
+                        @Cached PRaiseNode raiseNode,
+                        @Cached GilNode gil) {
+            Object[] values = new Object[length >= 0 ? length : 8];
+            int count = 0;
+            long index = start;
+            boolean invalidIndex = false;
+            gil.release(true);
+            try {
+                for (; length >= 0 ? count < length : index < lib.getArraySize(foreignArray); index += step) {
+                    if (!lib.isArrayElementReadable(foreignArray, index)) {
+                        invalidIndex = true;
+                        break;
+                    }
+                    if (count >= values.length) {
+                        values = PythonUtils.arrayCopyOf(values, values.length * 2);
+                    }
+                    values[count++] = toPythonNode.executeConvert(lib.readArrayElement(foreignArray, index));
+                }
+            } catch (UnsupportedMessageException | InvalidArrayIndexException e) {
+                // the foreign array was changed concurrently
+                invalidIndex = true;
+            } finally {
+                gil.acquire();
+            }
+            if (invalidIndex) {
+                throw raiseNode.raise(IndexError, ErrorMessages.INVALID_INDEX_S, index);
+            }
+            return SequenceStorageFactory.createStorage(count == values.length ? values : PythonUtils.arrayCopyOf(values, count));
+        }
+
+        public static CreateStorageFromForeignNode create() {
+            return CreateStorageFromForeignNodeGen.create();
+        }
+
+        public static CreateStorageFromForeignNode getUncached() {
+            return CreateStorageFromForeignNodeGen.getUncached();
+        }
+    }
+
     public abstract static class CreateStorageFromIteratorNode extends Node {
         public abstract SequenceStorage execute(VirtualFrame frame, Object iterator, int len);
 
@@ -48,6 +48,7 @@ import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.common.IndexNodes.NormalizeIndexNode;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.CreateStorageFromForeignNode;
 import com.oracle.graal.python.builtins.objects.foreign.AccessForeignItemNodesFactory.GetForeignItemNodeGen;
 import com.oracle.graal.python.builtins.objects.foreign.AccessForeignItemNodesFactory.RemoveForeignItemNodeGen;
 import com.oracle.graal.python.builtins.objects.foreign.AccessForeignItemNodesFactory.SetForeignItemNodeGen;
@@ -136,18 +137,9 @@ abstract class AccessForeignItemNodes {
                         @Cached CoerceToIntSlice sliceCast,
                         @Cached ComputeIndices compute,
                         @Cached LenOfRangeNode sliceLen,
-                        @Shared("gil") @Cached GilNode gil) {
+                        @Cached CreateStorageFromForeignNode createStorageNode) {
             SliceInfo mslice = materializeSlice(frame, sliceCast.execute(idxSlice), object, compute, lib);
-            gil.release(true);
-            try {
-                Object[] values = new Object[sliceLen.len(mslice)];
-                for (int i = mslice.start, j = 0; i < mslice.stop; i += mslice.step, j++) {
-                    values[j] = readForeignIndex(object, i, lib);
-                }
-                return factory.createList(values);
-            } finally {
-                gil.acquire();
-            }
+            return factory.createList(createStorageNode.execute(object, mslice.start, mslice.step, sliceLen.len(mslice)));
         }
 
         @Specialization(guards = {"lib.hasArrayElements(object)", "!isPSlice(key)"})
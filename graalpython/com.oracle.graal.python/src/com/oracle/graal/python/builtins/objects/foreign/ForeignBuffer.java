@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.foreign;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.BufferError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.IndexError;
+
+import java.nio.ByteOrder;
+
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidBufferOffsetException;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+
+/**
+ * The backing buffer of a {@code memoryview} over a foreign object with buffer elements (e.g. a
+ * host {@code java.nio.ByteBuffer}). Reads and writes go straight to the foreign memory. The size
+ * and writability are taken when the view is created; if the foreign buffer shrinks or becomes
+ * read-only afterwards, accesses raise {@code IndexError} or {@code BufferError}.
+ */
+@ExportLibrary(PythonBufferAccessLibrary.class)
+public final class ForeignBuffer {
+
+    private final Object foreignBuffer;
+    private final int length;
+    private final boolean readonly;
+
+    public ForeignBuffer(Object foreignBuffer, int length, boolean readonly) {
+        this.foreignBuffer = foreignBuffer;
+        this.length = length;
+        this.readonly = readonly;
+    }
+
+    public Object getForeignBuffer() {
+        return foreignBuffer;
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    boolean isBuffer() {
+        return true;
+    }
+
+    @ExportMessage
+    boolean isReadonly() {
+        return readonly;
+    }
+
+    @ExportMessage
+    int getBufferLength() {
+        return length;
+    }
+
+    @ExportMessage
+    byte readByte(int byteOffset,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            return interopLib.readBufferByte(foreignBuffer, byteOffset);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    short readShort(int byteOffset,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            return interopLib.readBufferShort(foreignBuffer, ByteOrder.nativeOrder(), byteOffset);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    int readInt(int byteOffset,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            return interopLib.readBufferInt(foreignBuffer, ByteOrder.nativeOrder(), byteOffset);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    long readLong(int byteOffset,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            return interopLib.readBufferLong(foreignBuffer, ByteOrder.nativeOrder(), byteOffset);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    float readFloat(int byteOffset,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            return interopLib.readBufferFloat(foreignBuffer, ByteOrder.nativeOrder(), byteOffset);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    double readDouble(int byteOffset,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            return interopLib.readBufferDouble(foreignBuffer, ByteOrder.nativeOrder(), byteOffset);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    void writeByte(int byteOffset, byte value,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            interopLib.writeBufferByte(foreignBuffer, byteOffset, value);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    void writeShort(int byteOffset, short value,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            interopLib.writeBufferShort(foreignBuffer, ByteOrder.nativeOrder(), byteOffset, value);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    void writeInt(int byteOffset, int value,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            interopLib.writeBufferInt(foreignBuffer, ByteOrder.nativeOrder(), byteOffset, value);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    void writeLong(int byteOffset, long value,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            interopLib.writeBufferLong(foreignBuffer, ByteOrder.nativeOrder(), byteOffset, value);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    void writeFloat(int byteOffset, float value,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            interopLib.writeBufferFloat(foreignBuffer, ByteOrder.nativeOrder(), byteOffset, value);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+
+    @ExportMessage
+    void writeDouble(int byteOffset, double value,
+                    @Shared("interopLib") @CachedLibrary(limit = "1") InteropLibrary interopLib,
+                    @Shared("raise") @Cached PRaiseNode raiseNode) {
+        try {
+            interopLib.writeBufferDouble(foreignBuffer, ByteOrder.nativeOrder(), byteOffset, value);
+        } catch (InvalidBufferOffsetException e) {
+            throw raiseNode.raise(IndexError, ErrorMessages.INDEX_OUT_OF_BOUNDS);
+        } catch (UnsupportedMessageException e) {
+            throw raiseNode.raise(BufferError, ErrorMessages.INVALID_BUFFER_ACCESS);
+        }
+    }
+}
@@ -50,6 +50,7 @@ import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.PCallCapiFunction;
 import com.oracle.graal.python.builtins.objects.cext.capi.NativeCAPISymbol;
+import com.oracle.graal.python.builtins.objects.cext.capi.PyBufferArrayWrapper;
 import com.oracle.graal.python.builtins.objects.common.BufferStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
@@ -731,6 +732,7 @@ public class MemoryViewNodes {
                         @Shared("raise") @Cached PRaiseNode raiseNode) {
             self.checkExports(raiseNode);
             self.setReleased();
+            releaseBufferArrayWrapper(self);
         }
 
         @Specialization(guards = {"self.getReference() != null"})
@@ -742,6 +744,19 @@ public class MemoryViewNodes {
                 releaseNode.execute(frame, this, self.getLifecycleManager());
             }
             self.setReleased();
+            releaseBufferArrayWrapper(self);
+        }
+
+        /**
+         * Releases the zero-copy view of a managed buffer that was handed out to native code (if
+         * any). A subsequent buffer request will create a fresh one.
+         */
+        public static void releaseBufferArrayWrapper(PMemoryView self) {
+            Object wrapper = self.getBufferArrayWrapper();
+            if (wrapper instanceof PyBufferArrayWrapper) {
+                self.setBufferArrayWrapper(null);
+                ((PyBufferArrayWrapper) wrapper).release();
+            }
         }
     }
 
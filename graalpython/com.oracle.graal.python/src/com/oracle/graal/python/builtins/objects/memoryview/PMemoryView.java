@@ -98,6 +98,8 @@ public final class PMemoryView extends PythonBuiltinObject {
     private final AtomicLong exports = new AtomicLong();
     // Phantom ref to this object that will decref/release the managed buffer if any
     private BufferReference reference;
+    // Zero-copy view of a managed buffer handed out as 'Py_buffer.buf' to native code, if any
+    private Object bufferArrayWrapper;
     private int flags;
 
     // Cached hash value, required to comply with CPython's semantics
@@ -180,6 +182,14 @@ public final class PMemoryView extends PythonBuiltinObject {
         return bufPointer;
     }
 
+    public Object getBufferArrayWrapper() {
+        return bufferArrayWrapper;
+    }
+
+    public void setBufferArrayWrapper(Object bufferArrayWrapper) {
+        this.bufferArrayWrapper = bufferArrayWrapper;
+    }
+
     public int getOffset() {
         return offset;
     }
@@ -341,6 +351,11 @@ public final class PMemoryView extends PythonBuiltinObject {
         return readonly;
     }
 
+    @ExportMessage
+    boolean isInteropBuffer() {
+        return !isReleased() && isCContiguous();
+    }
+
     @ExportMessage
     boolean hasInternalByteArray(
                     @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib) {
@@ -381,7 +396,7 @@ public final class PMemoryView extends PythonBuiltinObject {
     byte readByte(int byteOffset,
                     @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib) {
         assert isCContiguous() && !isReleased();
-        return bufferLib.readByte(buffer, byteOffset);
+        return bufferLib.readByte(buffer, offset + byteOffset);
     }
 
     @ExportMessage
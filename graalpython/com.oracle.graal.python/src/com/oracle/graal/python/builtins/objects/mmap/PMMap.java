@@ -130,6 +130,11 @@ public final class PMMap extends PythonObject {
         return true;
     }
 
+    @ExportMessage
+    boolean isInteropBuffer() {
+        return !isClosed();
+    }
+
     @ExportMessage
     int getBufferLength(
                     @Exclusive @Cached CastToJavaIntExactNode castToIntNode) {
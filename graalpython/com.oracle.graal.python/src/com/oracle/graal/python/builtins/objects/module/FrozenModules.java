@@ -201,6 +201,7 @@ public final class FrozenModules {
         private static final PythonFrozenModule FROZEN_ONLY = new PythonFrozenModule("FROZEN_ONLY", "frozen_only", false);
         private static final PythonFrozenModule _SYSCONFIGDATA = new PythonFrozenModule("_SYSCONFIGDATA", "_sysconfigdata", false);
         private static final PythonFrozenModule GRAALPYTHON___GRAALPYTHON__ = new PythonFrozenModule("GRAALPYTHON___GRAALPYTHON__", "graalpython.__graalpython__", false);
+        private static final PythonFrozenModule GRAALPYTHON__JSON = new PythonFrozenModule("GRAALPYTHON__JSON", "graalpython._json", false);
         private static final PythonFrozenModule GRAALPYTHON__SRE = new PythonFrozenModule("GRAALPYTHON__SRE", "graalpython._sre", false);
         private static final PythonFrozenModule GRAALPYTHON__STRUCT = new PythonFrozenModule("GRAALPYTHON__STRUCT", "graalpython._struct", false);
         private static final PythonFrozenModule GRAALPYTHON__SYSCONFIG = new PythonFrozenModule("GRAALPYTHON__SYSCONFIG", "graalpython._sysconfig", false);
@@ -550,6 +551,8 @@ public final class FrozenModules {
                 return Map._SYSCONFIGDATA;
             case "graalpython.__graalpython__":
                 return Map.GRAALPYTHON___GRAALPYTHON__;
+            case "graalpython._json":
+                return Map.GRAALPYTHON__JSON;
             case "graalpython._sre":
                 return Map.GRAALPYTHON__SRE;
             case "graalpython._struct":
@@ -70,6 +70,10 @@ public class PythonObject extends PythonAbstractObject {
      * @see com.oracle.graal.python.nodes.function.builtins.WrapTpNew
      */
     public static final byte IS_STATIC_BASE = 0b10000;
+    /**
+     * Indicates that instances are allocated as {@link PythonSlotsObject}.
+     */
+    public static final byte HAS_SLOTS_LAYOUT_FLAG = 0b100000;
 
     private final Object initialPythonClass;
 
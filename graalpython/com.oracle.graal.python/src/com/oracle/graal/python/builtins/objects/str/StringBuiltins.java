@@ -155,6 +155,7 @@ import com.oracle.graal.python.runtime.formatting.InternalFormat;
 import com.oracle.graal.python.runtime.formatting.InternalFormat.Spec;
 import com.oracle.graal.python.runtime.formatting.StringFormatProcessor;
 import com.oracle.graal.python.runtime.formatting.TextFormatter;
+import com.oracle.graal.python.util.CharsetMapping.NormalizeEncodingNameNode;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
@@ -1805,8 +1806,15 @@ public final class StringBuiltins extends PythonBuiltins {
 
         @Specialization
         Object doStringEncoding(VirtualFrame frame, TruffleString self, TruffleString encoding, TruffleString errors,
+                        @Cached NormalizeEncodingNameNode normalizeEncodingNameNode,
+                        @Cached CodecsModuleBuiltins.DirectEncodeNode directEncodeNode,
                         @Cached CodecsModuleBuiltins.EncodeNode encodeNode,
                         @Cached SequenceStorageNodes.CopyNode copyNode) {
+            // like CPython, bypass the codec registry for the standard encodings
+            byte[] direct = directEncodeNode.execute(self, normalizeEncodingNameNode.execute(encoding));
+            if (direct != null) {
+                return factory().createBytes(direct);
+            }
             Object result = encodeNode.execute(frame, self, encoding, errors);
             if (!(result instanceof PBytes)) {
                 if (result instanceof PByteArray) {
@@ -1820,10 +1828,12 @@ public final class StringBuiltins extends PythonBuiltins {
         @Specialization
         Object doGeneric(VirtualFrame frame, Object self, TruffleString encoding, TruffleString errors,
                         @Cached CastToTruffleStringCheckedNode castSelfNode,
+                        @Cached NormalizeEncodingNameNode normalizeEncodingNameNode,
+                        @Cached CodecsModuleBuiltins.DirectEncodeNode directEncodeNode,
                         @Cached CodecsModuleBuiltins.EncodeNode encodeNode,
                         @Cached SequenceStorageNodes.CopyNode copyNode) {
             TruffleString selfStr = castSelfNode.cast(self, ErrorMessages.REQUIRES_STR_OBJECT_BUT_RECEIVED_P, "index", self);
-            return doStringEncoding(frame, selfStr, encoding, errors, encodeNode, copyNode);
+            return doStringEncoding(frame, selfStr, encoding, errors, normalizeEncodingNameNode, directEncodeNode, encodeNode, copyNode);
         }
     }
 
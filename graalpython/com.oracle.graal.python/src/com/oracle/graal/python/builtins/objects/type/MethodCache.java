@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.type;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oracle.graal.python.builtins.objects.type.TypeNodes.GetMroStorageNode;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.sequence.storage.MroSequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * A per-context cache of type attribute lookups, modelled after CPython's method cache. It is a
+ * fixed-size, direct-mapped table keyed by (version tag of the MRO, attribute name) and is consulted
+ * by the generic and uncached paths of
+ * {@link com.oracle.graal.python.nodes.attributes.LookupAttributeInMRONode}, i.e. by megamorphic
+ * lookup sites that would otherwise walk the whole MRO on every lookup. Negative results (the
+ * attribute does not exist) are cached as well.
+ *
+ * Version tags are assigned to an {@link MroSequenceStorage} lazily, when the first lookup result
+ * for it is stored. At that point the MRO is registered as a dependent of all classes it contains,
+ * so that writing an attribute of any of them or changing the MRO resets its tag (see
+ * {@link MroSequenceStorage#invalidateVersionTags()}). Entries stored under an old tag are never
+ * hit again, because tags are never reused.
+ */
+public final class MethodCache {
+
+    private static final AtomicLong nextVersionTag = new AtomicLong(1);
+
+    private static final class Entry {
+        final long versionTag;
+        final TruffleString name;
+        final Object value;
+
+        Entry(long versionTag, TruffleString name, Object value) {
+            this.versionTag = versionTag;
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+    private final Entry[] entries;
+    private final int mask;
+
+    /*
+     * Only enabled with PythonOptions#MethodCacheStatistics. The counters are not updated
+     * atomically, so they are approximate if several threads do lookups.
+     */
+    private final boolean collectStatistics;
+    private long hits;
+    private long misses;
+    private long stores;
+
+    public MethodCache(int size, boolean collectStatistics) {
+        int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+        this.collectStatistics = collectStatistics;
+    }
+
+    private int index(long versionTag, TruffleString name) {
+        int h = (int) (versionTag ^ (versionTag >>> 32)) * 0x9E3779B9 ^ name.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Returns the cached result of looking up {@code name} in {@code mro}, which may be
+     * {@link com.oracle.graal.python.builtins.objects.PNone#NO_VALUE}, or {@code null} if it is not
+     * cached. On a miss, this makes sure that {@code mro} has a version tag; the caller should read
+     * it <em>before</em> doing the lookup and pass it to {@link #put}.
+     */
+    @TruffleBoundary
+    public Object get(MroSequenceStorage mro, TruffleString name) {
+        long versionTag = mro.getVersionTag();
+        if (versionTag != 0) {
+            Entry entry = entries[index(versionTag, name)];
+            if (entry != null && entry.versionTag == versionTag && (entry.name == name || entry.name.equals(name))) {
+                if (collectStatistics) {
+                    hits++;
+                }
+                return entry.value;
+            }
+        } else {
+            assignVersionTag(mro);
+        }
+        if (collectStatistics) {
+            misses++;
+        }
+        return null;
+    }
+
+    /**
+     * Stores the result of a lookup. Nothing is stored if the version tag of {@code mro} changed
+     * since {@code versionTag} was read, i.e., if the lookup itself modified one of the classes.
+     */
+    @TruffleBoundary
+    public void put(MroSequenceStorage mro, long versionTag, TruffleString name, Object value) {
+        if (versionTag != 0 && mro.getVersionTag() == versionTag) {
+            entries[index(versionTag, name)] = new Entry(versionTag, name, value);
+            if (collectStatistics) {
+                stores++;
+            }
+        }
+    }
+
+    private static void assignVersionTag(MroSequenceStorage mro) {
+        GetMroStorageNode getMroNode = GetMroStorageNode.getUncached();
+        mro.addVersionTagDependent(mro);
+        for (int i = 0; i < mro.length(); i++) {
+            MroSequenceStorage classMro = getMroNode.execute(mro.getItemNormalized(i));
+            if (classMro != mro) {
+                classMro.addVersionTagDependent(mro);
+            }
+        }
+        mro.setVersionTag(nextVersionTag.getAndIncrement());
+    }
+
+    /**
+     * Prints the hit rate of the cache if {@link PythonOptions#MethodCacheStatistics} is enabled.
+     */
+    @TruffleBoundary
+    public void printStatistics(PrintStream out) {
+        if (collectStatistics) {
+            long lookups = hits + misses;
+            out.printf("method cache: %d lookups, %d hits (%.1f%%), %d misses, %d stores, %d entries%n", lookups, hits, lookups == 0 ? 0.0 : 100.0 * hits / lookups, misses, stores,
+                            entries.length);
+        }
+    }
+}
@@ -95,6 +95,7 @@ public final class PythonBuiltinClass extends PythonManagedClass {
         // Ideally, startup code should not create ASTs that rely on assumptions of props of
         // builtins. So there should be no assumptions to invalidate yet
         assert !getMethodResolutionOrder().invalidateAttributeInMROFinalAssumptions(key);
+        getMethodResolutionOrder().invalidateVersionTags();
         SpecialMethodSlot slot = SpecialMethodSlot.findSpecialSlotUncached(key);
         if (slot != null) {
             SpecialMethodSlot.fixupSpecialMethodSlot(this, slot, newValue);
@@ -38,6 +38,7 @@ import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.cext.capi.PythonClassNativeWrapper;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.object.PythonSlotsObject;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes.ComputeMroNode;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes.GetSubclassesNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
@@ -211,7 +212,7 @@ public abstract class PythonManagedClass extends PythonObject implements PythonA
      */
     public boolean canSkipOnAttributeUpdate(TruffleString key, @SuppressWarnings("unused") Object value, TruffleString.CodePointLengthNode codePointLengthNode,
                     TruffleString.CodePointAtIndexNode codePointAtIndexNode) {
-        return !methodResolutionOrder.hasAttributeInMROFinalAssumptions() &&
+        return !methodResolutionOrder.hasAttributeInMROFinalAssumptions() && !methodResolutionOrder.hasVersionTagDependents() &&
                         !SpecialMethodSlot.canBeSpecial(key, codePointLengthNode, codePointAtIndexNode);
     }
 
@@ -386,4 +387,15 @@ public abstract class PythonManagedClass extends PythonObject implements PythonA
     public void setHasSlotsButNoDictFlag() {
         instanceShape = PythonLanguage.getShapeForClassWithoutDict(this);
     }
+
+    /**
+     * Like {@link #setHasSlotsButNoDictFlag()}, but additionally makes the instances use the
+     * {@link PythonSlotsObject} layout. This is only valid if instances are always allocated by
+     * {@code object.__new__}. The same restrictions as for {@link #setHasSlotsButNoDictFlag()}
+     * apply.
+     */
+    @TruffleBoundary
+    public void setSlotsLayout() {
+        instanceShape = PythonLanguage.get(null).getShapeForClassWithSlotsLayout(this);
+    }
 }
@@ -125,6 +125,7 @@ import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.ObjectBuiltins;
 import com.oracle.graal.python.builtins.objects.object.ObjectBuiltinsFactory.DictNodeGen;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.object.PythonSlotsObject;
 import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.str.StringBuiltins.IsIdentifierNode;
 import com.oracle.graal.python.builtins.objects.superobject.SuperObject;
@@ -2010,7 +2011,11 @@ public abstract class TypeNodes {
                 }
                 Object dict = LookupAttributeInMRONode.lookupSlowPath(pythonClass, T___DICT__);
                 if (!addDict && dict == PNone.NO_VALUE) {
-                    pythonClass.setHasSlotsButNoDictFlag();
+                    if (canUseSlotsLayout(pythonClass)) {
+                        pythonClass.setSlotsLayout();
+                    } else {
+                        pythonClass.setHasSlotsButNoDictFlag();
+                    }
                 }
             }
 
@@ -2051,6 +2056,30 @@ public abstract class TypeNodes {
             pythonClass.setAttribute(name, desc);
         }
 
+        /**
+         * Instances of a class may use the {@link PythonSlotsObject} layout if they are always
+         * allocated by {@code object.__new__}, i.e., if all other classes in the MRO are managed
+         * classes which use that layout as well.
+         */
+        @TruffleBoundary
+        private static boolean canUseSlotsLayout(PythonClass pythonClass) {
+            if (pythonClass.needsNativeAllocation()) {
+                return false;
+            }
+            for (PythonAbstractClass c : GetMroNode.getUncached().execute(pythonClass)) {
+                if (c == pythonClass) {
+                    continue;
+                } else if (c instanceof PythonBuiltinClass) {
+                    if (((PythonBuiltinClass) c).getType() != PythonBuiltinClassType.PythonObject) {
+                        return false;
+                    }
+                } else if (!(c instanceof PythonClass) || (((PythonClass) c).getInstanceShape().getFlags() & PythonObject.HAS_SLOTS_LAYOUT_FLAG) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         private static boolean basesHaveSlots(PythonAbstractClass[] basesArray) {
             // this is merely based on empirical observation
             // see also test_type.py#test_dict()
@@ -284,7 +284,8 @@ public final class CodeUnit {
                     case LOAD_STRING:
                     case LOAD_BYTES:
                     case LOAD_CONST_COLLECTION:
-                    case MAKE_KEYWORD: {
+                    case MAKE_KEYWORD:
+                    case CALL_FUNCTION_KW_NAMES: {
                         Object constant = constants[oparg];
                         if (constant instanceof CodeUnit) {
                             line[5] = ((CodeUnit) constant).qualname.toJavaStringUncached();
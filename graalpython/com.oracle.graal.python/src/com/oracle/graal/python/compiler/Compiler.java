@@ -46,6 +46,7 @@ import static com.oracle.graal.python.compiler.OpCodes.BINARY_SUBSCR;
 import static com.oracle.graal.python.compiler.OpCodes.BUILD_SLICE;
 import static com.oracle.graal.python.compiler.OpCodes.CALL_FUNCTION;
 import static com.oracle.graal.python.compiler.OpCodes.CALL_FUNCTION_KW;
+import static com.oracle.graal.python.compiler.OpCodes.CALL_FUNCTION_KW_NAMES;
 import static com.oracle.graal.python.compiler.OpCodes.CALL_FUNCTION_VARARGS;
 import static com.oracle.graal.python.compiler.OpCodes.CALL_METHOD;
 import static com.oracle.graal.python.compiler.OpCodes.CALL_METHOD_VARARGS;
@@ -109,6 +110,7 @@ import static com.oracle.graal.python.compiler.OpCodes.POP_EXCEPT;
 import static com.oracle.graal.python.compiler.OpCodes.POP_TOP;
 import static com.oracle.graal.python.compiler.OpCodes.PRINT_EXPR;
 import static com.oracle.graal.python.compiler.OpCodes.PUSH_EXC_INFO;
+import static com.oracle.graal.python.compiler.OpCodes.PUSH_EXC_INFO_LOCAL;
 import static com.oracle.graal.python.compiler.OpCodes.RAISE_VARARGS;
 import static com.oracle.graal.python.compiler.OpCodes.RESUME_YIELD;
 import static com.oracle.graal.python.compiler.OpCodes.RETURN_VALUE;
@@ -180,7 +182,7 @@ import com.oracle.truffle.api.strings.TruffleString;
  * Compiler for bytecode interpreter.
  */
 public class Compiler implements SSTreeVisitor<Void> {
-    public static final int BYTECODE_VERSION = 26;
+    public static final int BYTECODE_VERSION = 28;
 
     private final ErrorCallback errorCallback;
 
@@ -770,16 +772,18 @@ public class Compiler implements SSTreeVisitor<Void> {
         }
     }
 
-    private void collectKeywords(KeywordTy[] keywords, OpCodes callOp) {
-        validateKeywords(keywords);
-        boolean hasSplat = false;
+    private static boolean hasKeywordSplat(KeywordTy[] keywords) {
         for (KeywordTy k : keywords) {
             if (k.arg == null) {
-                hasSplat = true;
-                break;
+                return true;
             }
         }
-        if (!hasSplat) {
+        return false;
+    }
+
+    private void collectKeywords(KeywordTy[] keywords, OpCodes callOp) {
+        validateKeywords(keywords);
+        if (!hasKeywordSplat(keywords)) {
             Collector collector = new Collector(CollectionBits.KIND_KWORDS);
             for (KeywordTy k : keywords) {
                 k.accept(this);
@@ -1119,6 +1123,18 @@ public class Compiler implements SSTreeVisitor<Void> {
         collectIntoArray(args, CollectionBits.KIND_OBJECT, op == CALL_METHOD_VARARGS ? 1 + alreadyOnStack : alreadyOnStack);
         if (keywords.length > 0) {
             assert op == CALL_FUNCTION_VARARGS;
+            if (!hasKeywordSplat(keywords)) {
+                // constant names, only the values need to be collected at runtime
+                validateKeywords(keywords);
+                TruffleString[] names = new TruffleString[keywords.length];
+                ExprTy[] values = new ExprTy[keywords.length];
+                for (int i = 0; i < keywords.length; i++) {
+                    names[i] = toTruffleStringUncached(keywords[i].arg);
+                    values[i] = keywords[i].value;
+                }
+                collectIntoArray(values, CollectionBits.KIND_OBJECT);
+                return addOp(CALL_FUNCTION_KW_NAMES, addObject(unit.constants, names));
+            }
             collectKeywords(keywords, CALL_FUNCTION_KW);
             return addOp(CALL_FUNCTION_KW);
         } else {
@@ -2558,7 +2574,7 @@ public class Compiler implements SSTreeVisitor<Void> {
         if (hasHandlers) {
             unit.useNextBlock(exceptionHandlerBlock);
             /* This puts saved exception under the current exception */
-            addOp(PUSH_EXC_INFO);
+            addOp(!hasFinally && handlersIgnoreException(node.handlers) ? PUSH_EXC_INFO_LOCAL : PUSH_EXC_INFO);
             /* The stack is now [*, savedException, currentException] */
             boolean hasBareExcept = false;
             Block nextHandler = new Block();
@@ -2670,6 +2686,76 @@ public class Compiler implements SSTreeVisitor<Void> {
         return null;
     }
 
+    /**
+     * Checks that none of the handlers can observe the caught exception. They must not bind it to a
+     * name and must not run any user code, since callees read the current exception from the frame
+     * arguments. So only names may be used as exception types, and the bodies may only consist of
+     * {@code pass}, {@code break}, {@code continue}, and {@code return} or assignment of constants
+     * and names. This is only done in functions, where names are not looked up in a locals
+     * mapping. Globals that are a dict subclass, tracing and profiling are checked at run time.
+     * Exceptions raised in such handlers (e.g. {@code UnboundLocalError}) are still chained,
+     * because that only uses the exception state of the frame.
+     */
+    private boolean handlersIgnoreException(ExceptHandlerTy[] handlers) {
+        if (!unit.scope.isFunction()) {
+            return false;
+        }
+        for (ExceptHandlerTy h : handlers) {
+            ExceptHandlerTy.ExceptHandler handler = (ExceptHandlerTy.ExceptHandler) h;
+            if (handler.name != null || !isNameOrNames(handler.type) || !areTrivialStatements(handler.body)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNameOrNames(ExprTy type) {
+        if (type == null || type instanceof ExprTy.Name) {
+            return true;
+        } else if (type instanceof ExprTy.Tuple) {
+            for (ExprTy element : ((ExprTy.Tuple) type).elements) {
+                if (!(element instanceof ExprTy.Name)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean areTrivialStatements(StmtTy[] stmts) {
+        for (StmtTy stmt : stmts) {
+            if (stmt instanceof StmtTy.Pass || stmt instanceof StmtTy.Break || stmt instanceof StmtTy.Continue) {
+                continue;
+            } else if (stmt instanceof StmtTy.Return) {
+                ExprTy value = ((StmtTy.Return) stmt).value;
+                if (value == null || isConstantOrName(value)) {
+                    continue;
+                }
+            } else if (stmt instanceof StmtTy.Assign) {
+                StmtTy.Assign assign = (StmtTy.Assign) stmt;
+                if (isConstantOrName(assign.value) && areNames(assign.targets)) {
+                    continue;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean areNames(ExprTy[] exprs) {
+        for (ExprTy expr : exprs) {
+            if (!(expr instanceof ExprTy.Name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isConstantOrName(ExprTy expr) {
+        return expr instanceof ExprTy.Constant || expr instanceof ExprTy.Name;
+    }
+
     private void cleanupOnExceptionInHandler(boolean hasFinally, Block finallyBlockExcept) {
         if (hasFinally) {
             addOp(ROT_TWO);
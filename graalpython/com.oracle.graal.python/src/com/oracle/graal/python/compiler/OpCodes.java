@@ -407,6 +407,16 @@ public enum OpCodes {
      * Pushes: call result
      */
     CALL_FUNCTION_KW(0, 3, 1),
+    /**
+     * Calls a callable using an arguments array and the values of keywords whose names are known at
+     * compile time. The immediate operand indexes the constants array, where the keyword names are
+     * stored as a {@code TruffleString[]}.
+     *
+     * Pops: keyword values ({@code Object[]}), then args ({@code Object[]}), then callable
+     *
+     * Pushes: call result
+     */
+    CALL_FUNCTION_KW_NAMES(1, 3, 1),
     /**
      * Calls a callable using an arguments array. No keywords are passed.
      *
@@ -598,6 +608,17 @@ public enum OpCodes {
      * Pushes: the saved exception state, the exception
      */
     PUSH_EXC_INFO(0, 0, 1),
+    /**
+     * Like {@link #PUSH_EXC_INFO}, but the exception becomes the current exception only for the
+     * code of this frame. It is not stored in the frame arguments, from where callees would read it.
+     * Used for handlers that cannot run any user code, so that an exception raised and caught
+     * within one compilation unit does not escape and can be virtualized.
+     * 
+     * Pops: the exception
+     * 
+     * Pushes: the saved exception state, the exception
+     */
+    PUSH_EXC_INFO_LOCAL(0, 0, 1),
     /**
      * Sets the current exception state to the saved state (by {@link #PUSH_EXC_INFO}) on the stack
      * and pop it.
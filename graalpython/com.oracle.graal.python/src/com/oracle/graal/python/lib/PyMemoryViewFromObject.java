@@ -40,6 +40,7 @@
  */
 package com.oracle.graal.python.lib;
 
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.OverflowError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
 import static com.oracle.graal.python.util.BufferFormat.T_UINT_8_TYPE_CODE;
 
@@ -49,6 +50,7 @@ import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeObject;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes;
+import com.oracle.graal.python.builtins.objects.foreign.ForeignBuffer;
 import com.oracle.graal.python.builtins.objects.memoryview.BufferLifecycleManager;
 import com.oracle.graal.python.builtins.objects.memoryview.CExtPyBuffer;
 import com.oracle.graal.python.builtins.objects.memoryview.MemoryViewNodes;
@@ -61,6 +63,7 @@ import com.oracle.graal.python.nodes.PNodeWithRaiseAndIndirectCall;
 import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.storage.NativeSequenceStorage;
@@ -70,6 +73,8 @@ import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.profiles.ConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
@@ -101,6 +106,28 @@ public abstract class PyMemoryViewFromObject extends PNodeWithRaiseAndIndirectCa
         return factory.createMemoryViewForManagedObject(object, 1, (int) object.getLength(), false, T_UINT_8_TYPE_CODE, lengthNode, atIndexNode);
     }
 
+    @Specialization(guards = {"isForeignObjectNode.execute(object)", "interopLib.hasBufferElements(object)"}, limit = "3")
+    PMemoryView fromForeignBuffer(Object object,
+                    @SuppressWarnings("unused") @Cached IsForeignObjectNode isForeignObjectNode,
+                    @CachedLibrary("object") InteropLibrary interopLib,
+                    @Cached PythonObjectFactory factory,
+                    @Cached TruffleString.CodePointLengthNode lengthNode,
+                    @Cached TruffleString.CodePointAtIndexNode atIndexNode) {
+        long size;
+        boolean readonly;
+        try {
+            size = interopLib.getBufferSize(object);
+            readonly = !interopLib.isBufferWritable(object);
+        } catch (UnsupportedMessageException e) {
+            throw CompilerDirectives.shouldNotReachHere(e);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw raise(OverflowError, ErrorMessages.CANNOT_FIT_P_INTO_INDEXSIZED_INT, size);
+        }
+        ForeignBuffer buffer = new ForeignBuffer(object, (int) size, readonly);
+        return factory.createMemoryViewForManagedObject(buffer, object, 1, (int) size, readonly, T_UINT_8_TYPE_CODE, lengthNode, atIndexNode);
+    }
+
     @Specialization(guards = {"!isMemoryView(object)", "!isNativeObject(object)", "!isMMap(object)"}, limit = "3")
     PMemoryView fromManaged(VirtualFrame frame, Object object,
                     @CachedLibrary("object") PythonBufferAcquireLibrary bufferAcquireLib,
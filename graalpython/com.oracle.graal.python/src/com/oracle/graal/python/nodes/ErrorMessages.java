@@ -1084,6 +1084,23 @@ public abstract class ErrorMessages {
     public static final TruffleString INTEGRITY_CHECKS_ONLY_SUPPORTED_BY = tsLiteral("Integrity checks are only supported by FORMAT_XZ");
     public static final TruffleString CANNOT_SPECIFY_PREST_AND_FILTER_CHAIN = tsLiteral("Cannot specify both preset and filter chain");
 
+    // hashlib errors
+    public static final TruffleString S_TAKES_NO_ARGUMENTS_D_GIVEN = tsLiteral("%s() takes no arguments (%d given)");
+    public static final TruffleString S_MISSING_REQUIRED_ARGUMENT_S = tsLiteral("%s() missing required argument '%s'");
+    public static final TruffleString LENGTH_MUST_BE_NON_NEGATIVE = tsLiteral("length must be non-negative");
+    public static final TruffleString DIGEST_SIZE_MUST_BE_BETWEEN_1_AND_D_BYTES = tsLiteral("digest_size must be between 1 and %d bytes");
+    public static final TruffleString MAXIMUM_S_LENGTH_IS_D_BYTES = tsLiteral("maximum %s length is %d bytes");
+    public static final TruffleString BLAKE2_TREE_HASHING_NOT_SUPPORTED = tsLiteral("tree hashing parameters are not supported");
+
+    // datetime errors
+    public static final TruffleString UNKNOWN_TIMESPEC_VALUE = tsLiteral("Unknown timespec value");
+    public static final TruffleString INVALID_DATE_SEPARATOR = tsLiteral("Invalid date separator");
+    public static final TruffleString INVALID_DATE_COMPONENT = tsLiteral("Invalid date component");
+    public static final TruffleString INCOMPLETE_TIME_COMPONENT = tsLiteral("Incomplete time component");
+    public static final TruffleString INVALID_TIME_SEPARATOR = tsLiteral("Invalid time separator");
+    public static final TruffleString INVALID_TIME_COMPONENT = tsLiteral("Invalid time component");
+    public static final TruffleString INVALID_MICROSECOND_COMPONENT = tsLiteral("Invalid microsecond component");
+
     // io errors
     public static final TruffleString IO_S_INVALID_LENGTH = tsLiteral("raw %s returned invalid length %d (should have been between 0 and %d)");
     public static final TruffleString IO_S_SHOULD_RETURN_BYTES = tsLiteral("%s should return bytes");
@@ -69,6 +69,7 @@ import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.ApplyKeywor
 import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.ApplyKeywordsNodeGen.SearchNamedParameterNodeGen;
 import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.ApplyPositionalArgumentsNodeGen;
 import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.CreateAndCheckArgumentsNodeGen;
+import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.CreateArgumentsForKeywordNamesNodeGen;
 import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.FillDefaultsNodeGen;
 import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.FillKwDefaultsNodeGen;
 import com.oracle.graal.python.nodes.argument.CreateArgumentsNodeGen.FindKwDefaultNodeGen;
@@ -379,6 +380,76 @@ public abstract class CreateArgumentsNode extends PNodeWithContext {
 
     }
 
+    /**
+     * Creates the arguments for calls with keywords whose names are constant at the call site and
+     * are passed separately from the values, so no {@link PKeyword} objects are needed. This only
+     * handles Python functions and methods where every keyword binds a distinct named parameter
+     * and there are no extra positional arguments. It returns {@code null} for any other call, the
+     * caller then builds the keywords and uses {@link CreateArgumentsNode}, which also reports the
+     * errors.
+     */
+    @GenerateUncached
+    @ImportStatic({PythonOptions.class, ApplyKeywordsNode.class})
+    public abstract static class CreateArgumentsForKeywordNamesNode extends PNodeWithContext {
+        public abstract Object[] execute(PythonObject callable, Object[] userArguments, TruffleString[] kwNames, Object[] kwValues);
+
+        public static CreateArgumentsForKeywordNamesNode create() {
+            return CreateArgumentsForKeywordNamesNodeGen.create();
+        }
+
+        public static CreateArgumentsForKeywordNamesNode getUncached() {
+            return CreateArgumentsForKeywordNamesNodeGen.getUncached();
+        }
+
+        @Specialization(guards = {"kwNames == cachedNames", "cachedNames.length <= 32", "getSignatureNode.execute(callable) == cachedSignature", "kwIndices != null"}, //
+                        limit = "getVariableArgumentInlineCacheLimit()")
+        @ExplodeLoop
+        static Object[] doCached(PythonObject callable, Object[] userArguments, @SuppressWarnings("unused") TruffleString[] kwNames, Object[] kwValues,
+                        @SuppressWarnings("unused") @Cached GetSignatureNode getSignatureNode,
+                        @Cached GetDefaultsNode getDefaultsNode,
+                        @Cached GetKeywordDefaultsNode getKwDefaultsNode,
+                        @Cached FillDefaultsNode fillDefaultsNode,
+                        @Cached FillKwDefaultsNode fillKwDefaultsNode,
+                        @Cached(value = "kwNames", dimensions = 1) TruffleString[] cachedNames,
+                        @Cached("getSignatureNode.execute(callable)") Signature cachedSignature,
+                        @Cached(value = "computeKeywordIndices(cachedSignature, cachedNames)", dimensions = 1) int[] kwIndices) {
+            int coArgcount = cachedSignature.getMaxNumOfPositionalArgs();
+            int coKwOnlyArgcount = cachedSignature.getNumOfRequiredKeywords();
+            Object self = getSelf(callable);
+            int upfront = self != null ? 1 : 0;
+            int numArgs = userArguments.length;
+            if (numArgs + upfront > coArgcount) {
+                // *args or too many arguments
+                return null;
+            }
+            Object[] arguments = PArguments.create(coArgcount + coKwOnlyArgcount);
+            if (self != null) {
+                PArguments.setArgument(arguments, 0, self);
+            }
+            PythonUtils.arraycopy(userArguments, 0, arguments, PArguments.USER_ARGUMENTS_OFFSET + upfront, numArgs);
+            for (int i = 0; i < kwIndices.length; i++) {
+                int kwIdx = kwIndices[i];
+                if (PArguments.getArgument(arguments, kwIdx) != null) {
+                    // multiple values for an argument
+                    return null;
+                }
+                PArguments.setArgument(arguments, kwIdx, kwValues[i]);
+            }
+            int inputArgcount = upfront + numArgs;
+            if (inputArgcount < coArgcount + coKwOnlyArgcount) {
+                fillDefaultsNode.execute(callable, cachedSignature, arguments, getDefaultsNode.execute(callable), inputArgcount, coArgcount);
+                fillKwDefaultsNode.execute(callable, arguments, cachedSignature, getKwDefaultsNode.execute(callable), coArgcount, coKwOnlyArgcount);
+            }
+            return arguments;
+        }
+
+        @Specialization(replaces = "doCached")
+        @SuppressWarnings("unused")
+        static Object[] doGeneric(PythonObject callable, Object[] userArguments, TruffleString[] kwNames, Object[] kwValues) {
+            return null;
+        }
+    }
+
     @GenerateUncached
     protected abstract static class HandleTooManyArgumentsNode extends PNodeWithContext {
 
@@ -555,6 +626,42 @@ public abstract class CreateArgumentsNode extends PNodeWithContext {
             return PArguments.getUserArgumentLength(arguments);
         }
 
+        /**
+         * Callees like {@code def wrapper(*args, **kwargs)} collect all keywords in
+         * {@code **kwargs}, so the caller's keyword array is forwarded without matching or copying.
+         */
+        @Specialization(guards = {"calleeSignature == cachedSignature", "collectsAllKeywords(cachedSignature)"}, limit = "1")
+        static Object[] applyAllToVarKeywords(@SuppressWarnings("unused") Object callee, @SuppressWarnings("unused") Signature calleeSignature, Object[] arguments, PKeyword[] keywords,
+                        @SuppressWarnings("unused") @Cached("calleeSignature") Signature cachedSignature) {
+            PArguments.setKeywordArguments(arguments, keywords);
+            return arguments;
+        }
+
+        /**
+         * Fast path for call sites that always pass the same keyword names which all bind named
+         * parameters of the callee. The parameter index of each keyword is resolved once, so
+         * applying the keywords is a name identity check and a store per keyword. Bytecode call
+         * sites with constant keyword names do not build {@link PKeyword} objects at all for Python
+         * functions, see {@link CreateArgumentsForKeywordNamesNode}.
+         */
+        @Specialization(guards = {"kwLen == keywords.length", "calleeSignature == cachedSignature", "kwLen <= 32", "namesMatch(keywords, cachedNames)", "kwIndices != null"}, limit = "1")
+        @ExplodeLoop
+        static Object[] applyCachedNames(Object callee, @SuppressWarnings("unused") Signature calleeSignature, Object[] arguments, PKeyword[] keywords,
+                        @Cached PRaiseNode raise,
+                        @Cached("keywords.length") int kwLen,
+                        @SuppressWarnings("unused") @Cached("calleeSignature") Signature cachedSignature,
+                        @Cached(value = "getNames(keywords)", dimensions = 1) TruffleString[] cachedNames,
+                        @Cached(value = "computeKeywordIndices(cachedSignature, cachedNames)", dimensions = 1) int[] kwIndices) {
+            for (int i = 0; i < kwLen; i++) {
+                int kwIdx = kwIndices[i];
+                if (PArguments.getArgument(arguments, kwIdx) != null) {
+                    throw raise.raise(PythonBuiltinClassType.TypeError, ErrorMessages.GOT_MULTIPLE_VALUES_FOR_ARG, CreateArgumentsNode.getName(callee), cachedNames[i]);
+                }
+                PArguments.setArgument(arguments, kwIdx, keywords[i].getValue());
+            }
+            return arguments;
+        }
+
         @Specialization(guards = {"kwLen == keywords.length", "calleeSignature == cachedSignature", "kwLen <= 32"})
         @ExplodeLoop
         Object[] applyCached(Object callee, @SuppressWarnings("unused") Signature calleeSignature, Object[] arguments, PKeyword[] keywords,
@@ -607,7 +714,7 @@ public abstract class CreateArgumentsNode extends PNodeWithContext {
                     lastWrongKeyword = name;
                 }
             }
-            storeKeywordsOrRaise(callee, arguments, unusedKeywords, k, additionalKwds, lastWrongKeyword, posArgOnlyPassedAsKeywordNames, posArgOnlyPassedAsKeywordProfile, raise);
+            storeKeywordsOrRaise(callee, arguments, keywords, unusedKeywords, k, additionalKwds, lastWrongKeyword, posArgOnlyPassedAsKeywordNames, posArgOnlyPassedAsKeywordProfile, raise);
             return arguments;
         }
 
@@ -660,10 +767,73 @@ public abstract class CreateArgumentsNode extends PNodeWithContext {
                     lastWrongKeyword = name;
                 }
             }
-            storeKeywordsOrRaise(callee, arguments, unusedKeywords, k, additionalKwds, lastWrongKeyword, posArgOnlyPassedAsKeywordNames, posArgOnlyPassedAsKeywordProfile, raise);
+            storeKeywordsOrRaise(callee, arguments, keywords, unusedKeywords, k, additionalKwds, lastWrongKeyword, posArgOnlyPassedAsKeywordNames, posArgOnlyPassedAsKeywordProfile, raise);
             return arguments;
         }
 
+        static boolean collectsAllKeywords(Signature signature) {
+            return signature.takesVarKeywordArgs() && signature.getParameterIds().length == 0 && signature.getKeywordNames().length == 0;
+        }
+
+        static TruffleString[] getNames(PKeyword[] keywords) {
+            TruffleString[] names = new TruffleString[keywords.length];
+            for (int i = 0; i < keywords.length; i++) {
+                names[i] = keywords[i].getName();
+            }
+            return names;
+        }
+
+        @ExplodeLoop
+        static boolean namesMatch(PKeyword[] keywords, TruffleString[] cachedNames) {
+            for (int i = 0; i < cachedNames.length; i++) {
+                if (keywords[i].getName() != cachedNames[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the parameter index for each of the given keyword names or {@code null} if any of
+         * them does not bind a distinct named parameter that may be passed by keyword.
+         */
+        @TruffleBoundary
+        static int[] computeKeywordIndices(Signature signature, TruffleString[] names) {
+            TruffleString[] parameters = signature.getParameterIds();
+            TruffleString[] kwNames = signature.getKeywordNames();
+            int positionalOnlyArgIndex = signature.getPositionalOnlyArgIndex();
+            int[] indices = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                int kwIdx = indexOf(parameters, names[i]);
+                if (kwIdx == -1) {
+                    int kwOnlyIdx = indexOf(kwNames, names[i]);
+                    if (kwOnlyIdx == -1) {
+                        return null;
+                    }
+                    kwIdx = kwOnlyIdx + parameters.length;
+                }
+                if (positionalOnlyArgIndex > -1 && kwIdx < positionalOnlyArgIndex) {
+                    return null;
+                }
+                for (int j = 0; j < i; j++) {
+                    if (indices[j] == kwIdx) {
+                        return null;
+                    }
+                }
+                indices[i] = kwIdx;
+            }
+            return indices;
+        }
+
+        private static int indexOf(TruffleString[] names, TruffleString name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsUncached(name, TS_ENCODING)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
         @TruffleBoundary
         private static List<TruffleString> addPosArgOnlyPassedAsKeyword(List<TruffleString> names, TruffleString name) {
             if (names == null) {
@@ -675,8 +845,8 @@ public abstract class CreateArgumentsNode extends PNodeWithContext {
             return names;
         }
 
-        private static void storeKeywordsOrRaise(Object callee, Object[] arguments, PKeyword[] unusedKeywords, int unusedKeywordCount, int tooManyKeywords, TruffleString lastWrongKeyword,
-                        List<TruffleString> posArgOnlyPassedAsKeywordNames, BranchProfile posArgOnlyPassedAsKeywordProfile, PRaiseNode raise) {
+        private static void storeKeywordsOrRaise(Object callee, Object[] arguments, PKeyword[] keywords, PKeyword[] unusedKeywords, int unusedKeywordCount, int tooManyKeywords,
+                        TruffleString lastWrongKeyword, List<TruffleString> posArgOnlyPassedAsKeywordNames, BranchProfile posArgOnlyPassedAsKeywordProfile, PRaiseNode raise) {
             if (tooManyKeywords == 1) {
                 throw raise.raise(PythonBuiltinClassType.TypeError, ErrorMessages.GOT_UNEXPECTED_KEYWORD_ARG, CreateArgumentsNode.getName(callee), lastWrongKeyword);
             } else if (tooManyKeywords > 1) {
@@ -686,7 +856,12 @@ public abstract class CreateArgumentsNode extends PNodeWithContext {
                 TruffleString names = joinUncached(T_COMMA_SPACE, posArgOnlyPassedAsKeywordNames);
                 throw raise.raise(PythonBuiltinClassType.TypeError, ErrorMessages.GOT_SOME_POS_ONLY_ARGS_PASSED_AS_KEYWORD, CreateArgumentsNode.getName(callee), names);
             } else if (unusedKeywords != null) {
-                PArguments.setKeywordArguments(arguments, Arrays.copyOf(unusedKeywords, unusedKeywordCount));
+                if (unusedKeywordCount == keywords.length) {
+                    // keyword arrays are never modified, so all of them can be forwarded as is
+                    PArguments.setKeywordArguments(arguments, keywords);
+                } else {
+                    PArguments.setKeywordArguments(arguments, Arrays.copyOf(unusedKeywords, unusedKeywordCount));
+                }
             }
         }
 
@@ -106,8 +106,12 @@ public abstract class ReadVarKeywordsNode extends ReadArgumentNode {
                     @Cached("getAndCheckKwargLen(frame)") int cachedLen,
                     @Cached TruffleString.EqualNode equalNode) {
         PKeyword[] keywordArguments = PArguments.getKeywordArguments(frame);
-        PKeyword[] remArguments = PKeyword.create(cachedLen);
         CompilerAsserts.compilationConstant(keywordNames.length);
+        if (keywordNames.length == 0) {
+            // keyword arrays are never modified, so there is no need to copy it
+            return returnValue(keywordArguments);
+        }
+        PKeyword[] remArguments = PKeyword.create(cachedLen);
         int i = 0;
         for (int j = 0; j < cachedLen; j++) {
             PKeyword keyword = keywordArguments[j];
@@ -139,6 +143,9 @@ public abstract class ReadVarKeywordsNode extends ReadArgumentNode {
     Object extractVariableKwargs(VirtualFrame frame,
                     @Cached TruffleString.EqualNode equalNode) {
         PKeyword[] keywordArguments = PArguments.getKeywordArguments(frame);
+        if (keywordNames.length == 0) {
+            return returnValue(keywordArguments);
+        }
         PKeyword[] remArguments = PKeyword.create(keywordArguments.length);
         int i = 0;
         outer: for (PKeyword keyword : keywordArguments) {
@@ -49,6 +49,7 @@ import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes;
 import com.oracle.graal.python.builtins.objects.cext.capi.NativeMember;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageLibrary;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.type.MethodCache;
 import com.oracle.graal.python.builtins.objects.type.MroShape;
 import com.oracle.graal.python.builtins.objects.type.MroShape.MroShapeLookupResult;
 import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
@@ -364,8 +365,25 @@ public abstract class LookupAttributeInMRONode extends LookupInMROBaseNode {
         return lookup(klass, key, GetMroStorageNode.getUncached(), ReadAttributeFromObjectNode.getUncachedForceType(), false, DynamicObjectLibrary.getUncached());
     }
 
+    /**
+     * Walks the MRO of {@code klass}. Unless only static bases are considered, the result is taken
+     * from and stored in the context's {@link MethodCache}.
+     */
     public static Object lookup(Object klass, Object key, GetMroStorageNode getMroNode, ReadAttributeFromObjectNode readAttrNode, boolean skipNonStaticBases, DynamicObjectLibrary dylib) {
         MroSequenceStorage mro = getMroNode.execute(klass);
+        MethodCache methodCache = null;
+        long versionTag = 0;
+        if (!skipNonStaticBases && key instanceof TruffleString) {
+            methodCache = PythonContext.get(getMroNode).getMethodCache();
+            if (methodCache != null) {
+                Object cached = methodCache.get(mro, (TruffleString) key);
+                if (cached != null) {
+                    return cached;
+                }
+                versionTag = mro.getVersionTag();
+            }
+        }
+        Object result = PNone.NO_VALUE;
         for (int i = 0; i < mro.length(); i++) {
             Object kls = mro.getItemNormalized(i);
             if (skipNonStaticBase(kls, skipNonStaticBases, dylib)) {
@@ -373,10 +391,14 @@ public abstract class LookupAttributeInMRONode extends LookupInMROBaseNode {
             }
             Object value = readAttrNode.execute(kls, key);
             if (value != PNone.NO_VALUE) {
-                return value;
+                result = value;
+                break;
             }
         }
-        return PNone.NO_VALUE;
+        if (methodCache != null) {
+            methodCache.put(mro, versionTag, (TruffleString) key, result);
+        }
+        return result;
     }
 
     protected boolean isSameType(Object cachedKlass, Object klass) {
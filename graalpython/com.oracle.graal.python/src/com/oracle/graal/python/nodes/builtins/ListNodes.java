@@ -68,6 +68,7 @@ import com.oracle.graal.python.nodes.builtins.ListNodesFactory.FastConstructList
 import com.oracle.graal.python.nodes.builtins.ListNodesFactory.IndexNodeGen;
 import com.oracle.graal.python.nodes.call.special.LookupAndCallUnaryNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.PythonOptions;
@@ -85,6 +86,8 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.frame.Frame;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.profiles.BranchProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringIterator;
@@ -138,6 +141,15 @@ public abstract class ListNodes {
             return factory.createList(cls, copyNode.execute(getSequenceStorageNode.execute(list)));
         }
 
+        @Specialization(guards = {"isForeignObjectNode.execute(array)", "lib.hasArrayElements(array)"}, limit = "getCallSiteInlineCacheMaxDepth()")
+        static PList listForeignArray(Object cls, Object array,
+                        @SuppressWarnings("unused") @Cached IsForeignObjectNode isForeignObjectNode,
+                        @SuppressWarnings("unused") @CachedLibrary("array") InteropLibrary lib,
+                        @Cached SequenceStorageNodes.CreateStorageFromForeignNode createStorageNode,
+                        @Shared("factory") @Cached PythonObjectFactory factory) {
+            return factory.createList(cls, createStorageNode.execute(array));
+        }
+
         @Specialization(guards = {"!isNoValue(iterable)", "!isString(iterable)"})
         static PList listIterable(VirtualFrame frame, Object cls, Object iterable,
                         @Cached PyObjectGetIter getIter,
@@ -84,6 +84,7 @@ import com.oracle.graal.python.builtins.objects.list.ListBuiltins;
 import com.oracle.graal.python.builtins.objects.list.ListBuiltinsFactory;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltinsFactory;
@@ -124,6 +125,7 @@ import com.oracle.graal.python.lib.PyObjectSetItemNodeGen;
 import com.oracle.graal.python.lib.PyObjectStrAsObjectNode;
 import com.oracle.graal.python.lib.PyObjectStrAsObjectNodeGen;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.PRaiseNodeGen;
 import com.oracle.graal.python.nodes.PRootNode;
@@ -142,6 +144,8 @@ import com.oracle.graal.python.nodes.bytecode.instrumentation.InstrumentationSup
 import com.oracle.graal.python.nodes.call.BoundDescriptor;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.call.CallNodeGen;
+import com.oracle.graal.python.nodes.call.CallWithKeywordNamesNode;
+import com.oracle.graal.python.nodes.call.CallWithKeywordNamesNodeGen;
 import com.oracle.graal.python.nodes.call.special.CallBinaryMethodNode;
 import com.oracle.graal.python.nodes.call.special.CallBinaryMethodNodeGen;
 import com.oracle.graal.python.nodes.call.special.CallQuaternaryMethodNode;
@@ -254,6 +258,8 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private static final PRaiseNode UNCACHED_RAISE = PRaiseNode.getUncached();
     private static final NodeSupplier<CallNode> NODE_CALL = CallNode::create;
     private static final CallNode UNCACHED_CALL = CallNode.getUncached();
+    private static final NodeSupplier<CallWithKeywordNamesNode> NODE_CALL_WITH_KEYWORD_NAMES = CallWithKeywordNamesNode::create;
+    private static final CallWithKeywordNamesNode UNCACHED_CALL_WITH_KEYWORD_NAMES = CallWithKeywordNamesNode.getUncached();
     private static final NodeSupplier<CallQuaternaryMethodNode> NODE_CALL_QUATERNARY_METHOD = CallQuaternaryMethodNode::create;
     private static final CallQuaternaryMethodNode UNCACHED_CALL_QUATERNARY_METHOD = CallQuaternaryMethodNode.getUncached();
     private static final NodeSupplier<CallTernaryMethodNode> NODE_CALL_TERNARY_METHOD = CallTernaryMethodNode::create;
@@ -1996,6 +2002,13 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         stackTop = bytecodeCallFunctionKw(virtualFrame, stackTop, beginBci, localNodes, useCachedNodes, mutableData, profilingEnabled);
                         break;
                     }
+                    case OpCodesConstants.CALL_FUNCTION_KW_NAMES: {
+                        setCurrentBci(virtualFrame, bciSlot, bci);
+                        oparg |= Byte.toUnsignedInt(localBC[++bci]);
+                        TruffleString[] kwNames = (TruffleString[]) localConsts[oparg];
+                        stackTop = bytecodeCallFunctionKwNames(virtualFrame, stackTop, beginBci, kwNames, localNodes, useCachedNodes, mutableData, profilingEnabled);
+                        break;
+                    }
                     case OpCodesConstants.MAKE_FUNCTION: {
                         oparg |= Byte.toUnsignedInt(localBC[++bci]);
                         int flags = Byte.toUnsignedInt(localBC[++bci]);
@@ -2036,7 +2049,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         break;
                     }
                     case OpCodesConstants.PUSH_EXC_INFO: {
-                        bytecodePushExcInfo(virtualFrame, arguments, mutableData, stackTop++);
+                        bytecodePushExcInfo(virtualFrame, arguments, mutableData, stackTop++, true);
+                        break;
+                    }
+                    case OpCodesConstants.PUSH_EXC_INFO_LOCAL: {
+                        boolean publish = tracingEnabled || profilingEnabled || !hasPlainGlobals(globals);
+                        bytecodePushExcInfo(virtualFrame, arguments, mutableData, stackTop++, publish);
                         break;
                     }
                     case OpCodesConstants.POP_EXCEPT: {
@@ -2288,8 +2306,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         virtualFrame.setObject(stackTop, node.execute(PArguments.getSpecialArgument(arguments)));
     }
 
+    /**
+     * {@link OpCodes#PUSH_EXC_INFO_LOCAL} relies on the handler not running any user code. Loading
+     * or storing a global can only do that if the globals are a dict subclass, so the exception is
+     * published as usual in that case. The same is done when tracing or profiling, because the
+     * trace and profile functions may look at the current exception.
+     */
+    private static boolean hasPlainGlobals(Object globals) {
+        return globals instanceof PythonModule || globals instanceof PDict && PGuards.isBuiltinDict((PDict) globals);
+    }
+
     @BytecodeInterpreterSwitch
-    private void bytecodePushExcInfo(VirtualFrame virtualFrame, Object[] arguments, MutableLoopData mutableData, int stackTop) {
+    private void bytecodePushExcInfo(VirtualFrame virtualFrame, Object[] arguments, MutableLoopData mutableData, int stackTop, boolean publish) {
         Object exception = virtualFrame.getObject(stackTop);
         Object origException = exception;
         if (!(exception instanceof PException)) {
@@ -2301,7 +2329,9 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
         virtualFrame.setObject(stackTop++, mutableData.localException);
         mutableData.localException = (PException) exception;
-        PArguments.setException(arguments, mutableData.localException);
+        if (publish) {
+            PArguments.setException(arguments, mutableData.localException);
+        }
         virtualFrame.setObject(stackTop, origException);
     }
 
@@ -4382,6 +4412,30 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         return stackTop;
     }
 
+    @BytecodeInterpreterSwitch
+    private int bytecodeCallFunctionKwNames(VirtualFrame virtualFrame, int initialStackTop, int bci, TruffleString[] kwNames, Node[] localNodes, boolean useCachedNodes,
+                    MutableLoopData mutableData, boolean profilingEnabled) {
+        int stackTop = initialStackTop;
+        CallWithKeywordNamesNode callNode = insertChildNode(localNodes, bci, UNCACHED_CALL_WITH_KEYWORD_NAMES, CallWithKeywordNamesNodeGen.class, NODE_CALL_WITH_KEYWORD_NAMES, useCachedNodes);
+        Object callable = virtualFrame.getObject(stackTop - 2);
+        Object[] args = (Object[]) virtualFrame.getObject(stackTop - 1);
+
+        Object result;
+        profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_CALL, mutableData, profilingEnabled);
+        try {
+            result = callNode.execute(virtualFrame, callable, args, kwNames, (Object[]) virtualFrame.getObject(stackTop));
+            profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_RETURN, mutableData, profilingEnabled);
+        } catch (PException pe) {
+            profileCEvent(virtualFrame, callable, PythonContext.ProfileEvent.C_EXCEPTION, mutableData, profilingEnabled);
+            throw pe;
+        }
+
+        virtualFrame.setObject(stackTop - 2, result);
+        virtualFrame.setObject(stackTop--, null);
+        virtualFrame.setObject(stackTop--, null);
+        return stackTop;
+    }
+
     @BytecodeInterpreterSwitch
     private int bytecodeCallFunctionVarargs(VirtualFrame virtualFrame, int initialStackTop, int bci, Node[] localNodes, boolean useCachedNodes, MutableLoopData mutableData, boolean profilingEnabled) {
         int stackTop = initialStackTop;
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.call;
+
+import com.oracle.graal.python.builtins.objects.function.PFunction;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.method.PMethod;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PNodeWithContext;
+import com.oracle.graal.python.nodes.argument.CreateArgumentsNode.CreateArgumentsForKeywordNamesNode;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Calls a callable with keywords whose names are constant at the call site. The names and the
+ * values are passed in separate arrays. Python functions and methods bind the values to their
+ * parameters directly, all other callables get the keywords through {@link CallNode}.
+ */
+@ImportStatic(PGuards.class)
+@GenerateUncached
+public abstract class CallWithKeywordNamesNode extends PNodeWithContext {
+    public static CallWithKeywordNamesNode create() {
+        return CallWithKeywordNamesNodeGen.create();
+    }
+
+    public static CallWithKeywordNamesNode getUncached() {
+        return CallWithKeywordNamesNodeGen.getUncached();
+    }
+
+    public abstract Object execute(Frame frame, Object callableObject, Object[] arguments, TruffleString[] kwNames, Object[] kwValues);
+
+    @Specialization
+    static Object functionCall(VirtualFrame frame, PFunction callable, Object[] arguments, TruffleString[] kwNames, Object[] kwValues,
+                    @Shared("argsNode") @Cached CreateArgumentsForKeywordNamesNode createArgs,
+                    @Shared("dispatchNode") @Cached CallDispatchNode dispatch,
+                    @Shared("callNode") @Cached CallNode callNode,
+                    @Shared("boundProfile") @Cached ConditionProfile boundProfile) {
+        Object[] pArguments = createArgs.execute(callable, arguments, kwNames, kwValues);
+        if (boundProfile.profile(pArguments != null)) {
+            return dispatch.executeCall(frame, callable, pArguments);
+        }
+        return callNode.execute(frame, callable, arguments, createKeywords(kwNames, kwValues));
+    }
+
+    @Specialization(guards = "isPFunction(callable.getFunction())")
+    static Object methodCall(VirtualFrame frame, PMethod callable, Object[] arguments, TruffleString[] kwNames, Object[] kwValues,
+                    @Shared("argsNode") @Cached CreateArgumentsForKeywordNamesNode createArgs,
+                    @Shared("dispatchNode") @Cached CallDispatchNode dispatch,
+                    @Shared("callNode") @Cached CallNode callNode,
+                    @Shared("boundProfile") @Cached ConditionProfile boundProfile) {
+        Object[] pArguments = createArgs.execute(callable, arguments, kwNames, kwValues);
+        if (boundProfile.profile(pArguments != null)) {
+            // functions must be called directly otherwise the call stack is incorrect
+            return dispatch.executeCall(frame, (PFunction) callable.getFunction(), pArguments);
+        }
+        return callNode.execute(frame, callable, arguments, createKeywords(kwNames, kwValues));
+    }
+
+    @Specialization(guards = "!isFunctionOrFunctionMethod(callable)")
+    static Object doGeneric(VirtualFrame frame, Object callable, Object[] arguments, TruffleString[] kwNames, Object[] kwValues,
+                    @Shared("callNode") @Cached CallNode callNode) {
+        return callNode.execute(frame, callable, arguments, createKeywords(kwNames, kwValues));
+    }
+
+    static boolean isFunctionOrFunctionMethod(Object callable) {
+        return callable instanceof PFunction || callable instanceof PMethod && ((PMethod) callable).getFunction() instanceof PFunction;
+    }
+
+    private static PKeyword[] createKeywords(TruffleString[] kwNames, Object[] kwValues) {
+        assert kwNames.length == kwValues.length;
+        PKeyword[] keywords = PKeyword.create(kwNames.length);
+        for (int i = 0; i < kwNames.length; i++) {
+            keywords[i] = new PKeyword(kwNames[i], kwValues[i]);
+        }
+        return keywords;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.frame;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.source.SourceSection;
+
+/**
+ * Per-context counters of frame materializations, grouped by the location and the bci that caused
+ * them. The location is usually a call site: the caller's frame is materialized there if the callee was
+ * seen to need it (e.g. because it calls {@code sys._getframe}). A materialization either creates
+ * the {@link com.oracle.graal.python.builtins.objects.frame.PFrame PFrame} for a frame, or
+ * synchronizes the local variables of an existing one, or both. Only enabled with
+ * {@link PythonOptions#FrameMaterializationStatistics}.
+ */
+public final class FrameMaterializationStatistics {
+
+    private static final int PRINTED_ENTRIES = 20;
+
+    private static final class Entry {
+        final String filename;
+        final int line;
+        final String name;
+        long created;
+        long synced;
+
+        Entry(String filename, int line, String name) {
+            this.filename = filename;
+            this.line = line;
+            this.name = name;
+        }
+
+        long total() {
+            return created + synced;
+        }
+    }
+
+    /**
+     * The bytecode interpreter materializes at many bcis with the same location node, so the bci is
+     * part of the key.
+     */
+    private static final class Key {
+        final Node location;
+        final int bci;
+
+        Key(Node location, int bci) {
+            this.location = location;
+            this.bci = bci;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return location == other.location && bci == other.bci;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(location) + bci;
+        }
+    }
+
+    private final HashMap<Key, Entry> entries = new HashMap<>();
+
+    /**
+     * Counts a materialization at {@code location}. For frames of the bytecode interpreter, the
+     * root node and the current bci of the frame must be provided to determine the line.
+     */
+    @TruffleBoundary
+    public synchronized void record(Node location, PBytecodeRootNode bytecodeRoot, int bci, boolean created, boolean synced) {
+        Key key = new Key(location, bci);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = createEntry(location, bytecodeRoot, bci);
+            entries.put(key, entry);
+        }
+        if (created) {
+            entry.created++;
+        }
+        if (synced) {
+            entry.synced++;
+        }
+    }
+
+    private static Entry createEntry(Node location, PBytecodeRootNode bytecodeRoot, int bci) {
+        RootNode rootNode = bytecodeRoot != null ? bytecodeRoot : location.getRootNode();
+        SourceSection section = bytecodeRoot != null ? bytecodeRoot.getSourceSection() : location.getEncapsulatingSourceSection();
+        String filename = "<unknown>";
+        int line = -1;
+        if (section != null) {
+            filename = section.getSource().getPath() != null ? section.getSource().getPath() : section.getSource().getName();
+            line = section.getStartLine();
+        }
+        if (bytecodeRoot != null && bci >= 0) {
+            line = bytecodeRoot.bciToLine(bci);
+        }
+        return new Entry(filename, line, rootNode != null ? rootNode.getName() : "<unknown>");
+    }
+
+    /**
+     * Returns {@code (filename, line, name, created, synced)} for all locations, ordered by the
+     * number of materializations, most frequent first.
+     */
+    @TruffleBoundary
+    public synchronized Object[][] getEntries() {
+        List<Entry> sorted = sortedEntries();
+        Object[][] result = new Object[sorted.size()][];
+        for (int i = 0; i < result.length; i++) {
+            Entry entry = sorted.get(i);
+            result[i] = new Object[]{entry.filename, entry.line, entry.name, entry.created, entry.synced};
+        }
+        return result;
+    }
+
+    private List<Entry> sortedEntries() {
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort((a, b) -> Long.compare(b.total(), a.total()));
+        return sorted;
+    }
+
+    /**
+     * Prints the most frequent materialization sites.
+     */
+    @TruffleBoundary
+    public synchronized void printStatistics(PrintStream out) {
+        List<Entry> sorted = sortedEntries();
+        long created = 0;
+        long synced = 0;
+        for (Entry entry : sorted) {
+            created += entry.created;
+            synced += entry.synced;
+        }
+        out.printf("frame materializations: %d frames created, %d locals synchronized at %d locations%n", created, synced, sorted.size());
+        for (int i = 0; i < Math.min(PRINTED_ENTRIES, sorted.size()); i++) {
+            Entry entry = sorted.get(i);
+            out.printf("  %10d created %10d synced  %s (%s:%d)%n", entry.created, entry.synced, entry.name, entry.filename, entry.line);
+        }
+    }
+}
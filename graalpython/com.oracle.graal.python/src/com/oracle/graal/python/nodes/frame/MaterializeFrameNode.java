@@ -40,6 +40,7 @@
  */
 package com.oracle.graal.python.nodes.frame;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.cell.PCell;
 import com.oracle.graal.python.builtins.objects.common.HashingCollectionNodes;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
@@ -53,8 +54,11 @@ import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PRootNode;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.bytecode.FrameInfo;
+import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
 import com.oracle.graal.python.nodes.frame.MaterializeFrameNodeGen.SyncFrameValuesNodeGen;
 import com.oracle.graal.python.nodes.function.ClassBodyRootNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -130,6 +134,7 @@ public abstract class MaterializeFrameNode extends Node {
         PArguments.synchronizeArgs(frameToMaterialize, escapedFrame);
         PFrame.Reference topFrameRef = PArguments.getCurrentFrameInfo(frameToMaterialize);
         topFrameRef.setPyFrame(escapedFrame);
+        countMaterialization(location, frameToMaterialize, true, false);
         return escapedFrame;
     }
 
@@ -189,6 +194,7 @@ public abstract class MaterializeFrameNode extends Node {
         PFrame pyFrame = getPFrame(frameToMaterialize);
         if (syncProfile.profile(forceSync && !inModuleRoot(location) && !inClassBody(location))) {
             syncValuesNode.execute(frame, pyFrame, frameToMaterialize, location);
+            countMaterialization(location, frameToMaterialize, false, true);
         }
         if (markAsEscaped) {
             pyFrame.getRef().markAsEscaped();
@@ -236,9 +242,23 @@ public abstract class MaterializeFrameNode extends Node {
             topFrameRef.markAsEscaped();
         }
         processBytecodeFrame(frameToMaterialize, escapedFrame);
+        countMaterialization(location, frameToMaterialize, true, forceSync);
         return escapedFrame;
     }
 
+    private static void countMaterialization(Node location, Frame frameToMaterialize, boolean created, boolean synced) {
+        if (PythonLanguage.get(location).getEngineOption(PythonOptions.FrameMaterializationStatistics)) {
+            PBytecodeRootNode bytecodeRoot = null;
+            int bci = -1;
+            if (isBytecodeFrame(frameToMaterialize)) {
+                FrameInfo info = (FrameInfo) frameToMaterialize.getFrameDescriptor().getInfo();
+                bytecodeRoot = info.getRootNode();
+                bci = info.getBci(frameToMaterialize);
+            }
+            PythonContext.get(location).getFrameMaterializationStatistics().record(location, bytecodeRoot, bci, created, synced);
+        }
+    }
+
     protected static boolean isGeneratorFrame(Frame frame) {
         return PArguments.isGeneratorFrame(frame);
     }
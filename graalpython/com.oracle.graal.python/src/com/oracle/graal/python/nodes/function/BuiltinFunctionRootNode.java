@@ -32,6 +32,7 @@ import java.util.List;
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.cext.capi.CApiProfiler;
 import com.oracle.graal.python.builtins.objects.function.Signature;
 import com.oracle.graal.python.nodes.PRootNode;
 import com.oracle.graal.python.nodes.argument.ReadArgumentNode;
@@ -45,6 +46,7 @@ import com.oracle.graal.python.nodes.function.builtins.BuiltinCallNode.BuiltinQu
 import com.oracle.graal.python.nodes.function.builtins.BuiltinCallNode.BuiltinTernaryCallNode;
 import com.oracle.graal.python.nodes.function.builtins.BuiltinCallNode.BuiltinUnaryCallNode;
 import com.oracle.graal.python.nodes.function.builtins.BuiltinCallNode.BuiltinVarArgsCallNode;
+import com.oracle.graal.python.nodes.function.builtins.ProfileCApiUpcall;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
@@ -297,12 +299,14 @@ public final class BuiltinFunctionRootNode extends PRootNode {
             }
 
             if (builtin.reverseOperation()) {
-                body = insert(new WrapBinaryfuncR(newBody));
+                newBody = new WrapBinaryfuncR(newBody);
             } else if (constructsClass != PythonBuiltinClassType.nil) {
-                body = insert(new WrapTpNew(newBody, constructsClass));
-            } else {
-                body = insert(newBody);
+                newBody = new WrapTpNew(newBody, constructsClass);
+            }
+            if (CApiProfiler.isEnabled(this) && CApiProfiler.isCApiBuiltin(factory.getNodeClass())) {
+                newBody = new ProfileCApiUpcall(newBody, name);
             }
+            body = insert(newBody);
         }
         calleeContext.enter(frame);
         try {
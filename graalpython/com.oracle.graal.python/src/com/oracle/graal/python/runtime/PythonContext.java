@@ -59,6 +59,7 @@ import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.lang.invoke.VarHandle;
 import java.lang.ref.WeakReference;
@@ -120,12 +121,14 @@ import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.str.StringNodes.StringReplaceNode;
 import com.oracle.graal.python.builtins.objects.thread.PLock;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.builtins.objects.type.MethodCache;
 import com.oracle.graal.python.compiler.CodeUnit;
 import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
 import com.oracle.graal.python.nodes.SpecialAttributeNames;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
 import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.frame.FrameMaterializationStatistics;
 import com.oracle.graal.python.nodes.object.SetDictNode;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.nodes.util.CastToJavaIntLossyNode;
@@ -682,6 +685,18 @@ public final class PythonContext extends Python3Core {
 
     private final PythonNativeNull nativeNull = new PythonNativeNull();
 
+    /**
+     * Cache of type attribute lookups; {@code null} if disabled by
+     * {@link PythonOptions#MethodCacheSize}.
+     */
+    private MethodCache methodCache;
+
+    /**
+     * Counters of frame materializations; {@code null} unless enabled by
+     * {@link PythonOptions#FrameMaterializationStatistics}.
+     */
+    private FrameMaterializationStatistics frameMaterializationStatistics;
+
     public TruffleString getPyPackageContext() {
         return pyPackageContext;
     }
@@ -1018,6 +1033,24 @@ public final class PythonContext extends Python3Core {
         return nativeNull;
     }
 
+    private void initializeMethodCache() {
+        int size = getLanguage().getEngineOption(PythonOptions.MethodCacheSize);
+        if (size > 0) {
+            methodCache = new MethodCache(size, getLanguage().getEngineOption(PythonOptions.MethodCacheStatistics));
+        }
+        if (getLanguage().getEngineOption(PythonOptions.FrameMaterializationStatistics)) {
+            frameMaterializationStatistics = new FrameMaterializationStatistics();
+        }
+    }
+
+    public MethodCache getMethodCache() {
+        return methodCache;
+    }
+
+    public FrameMaterializationStatistics getFrameMaterializationStatistics() {
+        return frameMaterializationStatistics;
+    }
+
     public AllocationReporter getAllocationReporter() {
         return allocationReporter;
     }
@@ -1309,6 +1342,7 @@ public final class PythonContext extends Python3Core {
         try {
             mainThread = new WeakReference<>(Thread.currentThread());
             initializePosixSupport();
+            initializeMethodCache();
             initialize(this);
             setupRuntimeInformation(false);
             postInitialize();
@@ -1761,6 +1795,9 @@ public final class PythonContext extends Python3Core {
             finalizing = true;
             // interrupt and join or kill python threads
             joinThreads();
+            if (cApiContext != null) {
+                cApiContext.stopProfileReporter();
+            }
             if (!cancelling) {
                 // this cleanup calls into Sulong
                 cleanupCApiResources();
@@ -1768,6 +1805,12 @@ public final class PythonContext extends Python3Core {
             // destroy thread state data, if anything is still running, it will crash now
             disposeThreadStates();
         }
+        if (methodCache != null) {
+            methodCache.printStatistics(new PrintStream(env.err(), true));
+        }
+        if (frameMaterializationStatistics != null) {
+            frameMaterializationStatistics.printStatistics(new PrintStream(env.err(), true));
+        }
         cleanupHPyResources();
         for (int fd : getChildContextFDs()) {
             if (!getSharedMultiprocessingData().decrementFDRefCount(fd)) {
@@ -1830,12 +1873,18 @@ public final class PythonContext extends Python3Core {
      */
     @TruffleBoundary
     private void cleanupCApiResources() {
+        if (cApiContext != null) {
+            cApiContext.printProfile();
+        }
         ReleaseHandleNode releaseHandleNode = ReleaseHandleNodeGen.getUncached();
         for (PythonNativeWrapper singletonNativeWrapper : singletonNativePtrs) {
             if (singletonNativeWrapper != null) {
                 releaseHandleNode.execute(singletonNativeWrapper);
             }
         }
+        if (cApiContext != null) {
+            cApiContext.flushMemoryPressure();
+        }
     }
 
     private void cleanupHPyResources() {
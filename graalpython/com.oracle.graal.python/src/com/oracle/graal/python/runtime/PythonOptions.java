@@ -205,6 +205,10 @@ public final class PythonOptions {
                     "or not specified, nothing will be printed (default).", stability = OptionStability.EXPERIMENTAL) //
     public static final OptionKey<Integer> HPyTraceUpcalls = new OptionKey<>(0);
 
+    @EngineOption @Option(category = OptionCategory.INTERNAL, usageSyntax = "<time>", help = "Enables counting and timing of C API downcalls, upcalls and managed/native object transitions per " +
+                    "extension module. If > 0, statistics are printed every <time> ms. If != 0, statistics are printed at context exit. 0 disables profiling (default).", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> CApiProfile = new OptionKey<>(0);
+
     @Option(category = OptionCategory.INTERNAL, usageSyntax = "<path>", help = "Specify the directory where the JNI library is located.", stability = OptionStability.EXPERIMENTAL) //
     public static final OptionKey<TruffleString> JNIHome = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
 
@@ -220,6 +224,18 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<maxDepth>", help = "") //
     public static final OptionKey<Integer> CallSiteInlineCacheMaxDepth = new OptionKey<>(4);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<size>", help = "Number of entries (rounded up to a power of 2) of the per-context cache of type attribute lookups " +
+                    "used by megamorphic lookup sites. 0 disables the cache.") //
+    public static final OptionKey<Integer> MethodCacheSize = new OptionKey<>(4096);
+
+    @EngineOption @Option(category = OptionCategory.INTERNAL, usageSyntax = "true|false", help = "Print the hit rate of the type attribute lookup cache at context exit.", //
+                    stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> MethodCacheStatistics = new OptionKey<>(false);
+
+    @EngineOption @Option(category = OptionCategory.INTERNAL, usageSyntax = "true|false", help = "Count frame materializations per call site and print the most frequent sites at context exit.", //
+                    stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> FrameMaterializationStatistics = new OptionKey<>(false);
+
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<limit>", help = "") //
     public static final OptionKey<Integer> VariableArgumentReadUnrollingLimit = new OptionKey<>(5);
 
@@ -249,6 +265,13 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Use the CPython sre engine as a fallback to the TRegex engine.") //
     public static final OptionKey<Boolean> TRegexUsesSREFallback = new OptionKey<>(true);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<size>", help = "Maximum number of parsed top-level sources kept in a cache shared by all contexts of an engine, " +
+                    "keyed by the source contents. 0 disables the cache.") //
+    public static final OptionKey<Integer> SourceCacheSize = new OptionKey<>(256);
+
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<size>", help = "Maximum number of parsed TRegex regexes kept in a cache shared by all contexts of an engine. 0 disables the cache.") //
+    public static final OptionKey<Integer> TRegexCacheSize = new OptionKey<>(512);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Switch on/off using lazy strings for performance reasons. Default true.") //
     public static final OptionKey<Boolean> LazyStrings = new OptionKey<>(true);
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.truffle.api.CallTarget;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.source.Source;
+
+/**
+ * A size-bounded LRU cache of the call targets produced by parsing top-level Python sources, keyed
+ * by the source contents (and the few source properties that end up in the parsed code). Truffle
+ * only reuses a parse result while the original {@link Source} object is alive, so embedders that
+ * evaluate the same snippet with freshly built sources would otherwise parse it again every time.
+ * The cache is owned by {@link PythonLanguage} and therefore shared by all contexts of an engine,
+ * which is safe because the language only shares code between contexts when it is
+ * context-independent.
+ */
+public final class SourceCallTargetCache {
+
+    public static final class Key {
+        private final String code;
+        private final String name;
+        private final String path;
+        private final boolean internal;
+        private final boolean bytecodeInterpreter;
+        private final int hash;
+
+        private Key(String code, String name, String path, boolean internal, boolean bytecodeInterpreter) {
+            this.code = code;
+            this.name = name;
+            this.path = path;
+            this.internal = internal;
+            this.bytecodeInterpreter = bytecodeInterpreter;
+            this.hash = Objects.hash(code, name, path, internal, bytecodeInterpreter);
+        }
+
+        @TruffleBoundary
+        public static Key create(Source source, boolean bytecodeInterpreter) {
+            return new Key(source.getCharacters().toString(), source.getName(), source.getPath(), source.isInternal(), bytecodeInterpreter);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && internal == other.internal && bytecodeInterpreter == other.bytecodeInterpreter && code.equals(other.code) && Objects.equals(name, other.name) &&
+                            Objects.equals(path, other.path);
+        }
+    }
+
+    private final int maxSize;
+    private final LinkedHashMap<Key, CallTarget> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public SourceCallTargetCache(int maxSize) {
+        assert maxSize > 0;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Whether the result of parsing the given source may be cached. Only plain, non-interactive
+     * Python sources without argument names are cached, and only once the core is initialized,
+     * since the core modules are parsed differently. Sources built with caching disabled are
+     * never retained.
+     */
+    public static boolean isCacheable(PythonContext context, Source source, boolean hasArgumentNames) {
+        return context.isCoreInitialized() && !hasArgumentNames && source.isCached() && !source.isInteractive() && source.hasCharacters() &&
+                        (source.getMimeType() == null || PythonLanguage.MIME_TYPE.equals(source.getMimeType()));
+    }
+
+    @TruffleBoundary
+    public synchronized CallTarget get(Key key) {
+        CallTarget callTarget = entries.get(key);
+        if (callTarget != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return callTarget;
+    }
+
+    @TruffleBoundary
+    public synchronized void put(Key key, CallTarget callTarget) {
+        entries.put(key, callTarget);
+        if (entries.size() > maxSize) {
+            Iterator<Map.Entry<Key, CallTarget>> it = entries.entrySet().iterator();
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns {@code [hits, misses, evictions, currentSize, maxSize]}.
+     */
+    @TruffleBoundary
+    public synchronized long[] getStatistics() {
+        return new long[]{hits, misses, evictions, entries.size(), maxSize};
+    }
+}
@@ -49,6 +49,7 @@ import com.oracle.graal.python.builtins.modules.ctypes.PyCArgObject;
 import com.oracle.graal.python.builtins.modules.ctypes.PyCFuncPtrObject;
 import com.oracle.graal.python.builtins.modules.ctypes.StgDictObject;
 import com.oracle.graal.python.builtins.modules.ctypes.StructParamObject;
+import com.oracle.graal.python.builtins.modules.hashlib.DigestObject;
 import com.oracle.graal.python.builtins.modules.io.PBuffered;
 import com.oracle.graal.python.builtins.modules.io.PBytesIO;
 import com.oracle.graal.python.builtins.modules.io.PBytesIOBuffer;
@@ -152,6 +153,7 @@ import com.oracle.graal.python.builtins.objects.mmap.PMMap;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.namespace.PSimpleNamespace;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.object.PythonSlotsObject;
 import com.oracle.graal.python.builtins.objects.partial.PPartial;
 import com.oracle.graal.python.builtins.objects.posix.PDirEntry;
 import com.oracle.graal.python.builtins.objects.posix.PScandirIterator;
@@ -328,6 +330,9 @@ public abstract class PythonObjectFactory extends Node {
      * shape if possible.
      */
     public final PythonObject createPythonObject(Object klass, Shape instanceShape) {
+        if ((instanceShape.getFlags() & PythonObject.HAS_SLOTS_LAYOUT_FLAG) != 0) {
+            return trace(new PythonSlotsObject(klass, instanceShape));
+        }
         return trace(new PythonObject(klass, instanceShape));
     }
 
@@ -1208,12 +1213,16 @@ public abstract class PythonObjectFactory extends Node {
         return trace(LZMAObject.createCompressor(clazz, getShape(clazz), isNative));
     }
 
-    public final CSVReader createCSVReader(Object clazz, Object inputIter, CSVDialect dialect) {
-        return trace(new CSVReader(clazz, getShape(clazz), inputIter, dialect));
+    public final CSVReader createCSVReader(Object clazz, Object inputIter, CSVDialect dialect, boolean parseNumbers) {
+        return trace(new CSVReader(clazz, getShape(clazz), inputIter, dialect, parseNumbers));
+    }
+
+    public final CSVWriter createCSVWriter(Object clazz, Object write, CSVDialect dialect, int writeBatchSize) {
+        return trace(new CSVWriter(clazz, getShape(clazz), write, dialect, writeBatchSize));
     }
 
-    public final CSVWriter createCSVWriter(Object clazz, Object write, CSVDialect dialect) {
-        return trace(new CSVWriter(clazz, getShape(clazz), write, dialect));
+    public final DigestObject createDigestObject(Object clazz, TruffleString name, int blockSize, Object digest) {
+        return trace(new DigestObject(clazz, getShape(clazz), name, blockSize, digest));
     }
 
     public final CSVDialect createCSVDialect(Object clazz, TruffleString delimiter, int delimiterCodePoint, boolean doubleQuote, TruffleString escapeChar, int escapeCharCodePoint,
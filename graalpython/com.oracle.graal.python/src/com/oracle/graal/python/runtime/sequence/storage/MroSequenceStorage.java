@@ -46,6 +46,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
 
 import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
@@ -74,6 +76,20 @@ public final class MroSequenceStorage extends TypedSequenceStorage {
     private final Map<TruffleString, List<Assumption>> attributesInMROFinalAssumptions;
     private boolean hasAttributesInMROFinalAssumptions;
 
+    /**
+     * The tag under which lookups in this MRO are stored in the
+     * {@link com.oracle.graal.python.builtins.objects.type.MethodCache}, or {@code 0} if none is
+     * assigned. It is reset whenever an attribute of any class in the MRO or the MRO itself
+     * changes.
+     */
+    private long versionTag;
+
+    /**
+     * The MROs (including this one) whose version tag must be reset when an attribute of this
+     * class changes. Weak, so that MROs of dead or re-based classes are not kept alive.
+     */
+    private Set<MroSequenceStorage> versionTagDependents;
+
     @CompilationFinal(dimensions = 1) private final PythonAbstractClass[] values;
 
     @TruffleBoundary
@@ -250,6 +266,7 @@ public final class MroSequenceStorage extends TypedSequenceStorage {
      */
     @TruffleBoundary
     public boolean invalidateAttributeInMROFinalAssumptions(TruffleString name) {
+        invalidateVersionTags();
         List<Assumption> assumptions = attributesInMROFinalAssumptions.getOrDefault(name, Collections.emptyList());
         // the empty check is just to avoid the StringBuilder allocation
         if (!assumptions.isEmpty()) {
@@ -264,6 +281,7 @@ public final class MroSequenceStorage extends TypedSequenceStorage {
 
     public void lookupChanged() {
         CompilerAsserts.neverPartOfCompilation();
+        invalidateVersionTags();
         attributesInMROFinalAssumptions.values().removeIf(REMOVE_IF_LARGE);
         lookupStableAssumption.invalidate();
     }
@@ -307,4 +325,40 @@ public final class MroSequenceStorage extends TypedSequenceStorage {
     public final boolean hasAttributeInMROFinalAssumptions() {
         return hasAttributesInMROFinalAssumptions;
     }
+
+    public long getVersionTag() {
+        return versionTag;
+    }
+
+    public void setVersionTag(long versionTag) {
+        CompilerAsserts.neverPartOfCompilation();
+        this.versionTag = versionTag;
+    }
+
+    /**
+     * Registers {@code dependent} to have its version tag reset whenever an attribute of this
+     * class changes.
+     */
+    @TruffleBoundary
+    public synchronized void addVersionTagDependent(MroSequenceStorage dependent) {
+        if (versionTagDependents == null) {
+            versionTagDependents = Collections.newSetFromMap(new WeakHashMap<>());
+        }
+        versionTagDependents.add(dependent);
+    }
+
+    public final boolean hasVersionTagDependents() {
+        return versionTagDependents != null;
+    }
+
+    @TruffleBoundary
+    public synchronized void invalidateVersionTags() {
+        versionTag = 0;
+        if (versionTagDependents != null) {
+            for (MroSequenceStorage dependent : versionTagDependents) {
+                dependent.versionTag = 0;
+            }
+            versionTagDependents = null;
+        }
+    }
 }
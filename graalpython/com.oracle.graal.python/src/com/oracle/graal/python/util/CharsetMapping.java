@@ -110,6 +110,39 @@ public class CharsetMapping {
         return null;
     }
 
+    /**
+     * Returns the {@link TruffleString.Encoding} whose byte representation is identical to the
+     * given normalized Python encoding, or {@code null} if there is none. For such encodings, valid
+     * input can be decoded and encoded by TruffleString directly instead of going through a Java
+     * charset. Encodings that detect a BOM (e.g. {@code utf_16}) are not included.
+     */
+    @TruffleBoundary
+    public static TruffleString.Encoding getTruffleStringEncodingNormalized(TruffleString normalizedEncoding) {
+        String name = CHARSET_NAME_MAP.get(normalizedEncoding);
+        if (name == null) {
+            return null;
+        }
+        boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+        switch (name) {
+            case "US-ASCII":
+                return TruffleString.Encoding.US_ASCII;
+            case "ISO-8859-1":
+                return TruffleString.Encoding.ISO_8859_1;
+            case "UTF-8":
+                return TruffleString.Encoding.UTF_8;
+            case "UTF-16LE":
+                return littleEndian ? TruffleString.Encoding.UTF_16 : null;
+            case "UTF-16BE":
+                return littleEndian ? null : TruffleString.Encoding.UTF_16;
+            case "UTF-32LE":
+                return littleEndian ? TruffleString.Encoding.UTF_32 : null;
+            case "UTF-32BE":
+                return littleEndian ? null : TruffleString.Encoding.UTF_32;
+            default:
+                return null;
+        }
+    }
+
     private static boolean hasUTF16BOM(byte[] bytes, int len) {
         if (len < 2) {
             return false;
@@ -0,0 +1,134 @@
+# Copyright (c) 2022, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+def _read_chunks(read, chunk_size):
+    chunk = read(chunk_size)
+    if chunk:
+        yield chunk
+        # the end of the input is an empty chunk of the type the file returns
+        yield from iter(lambda: read(chunk_size), '' if isinstance(chunk, str) else b'')
+
+
+def iterload(source, *, items=False, chunk_size=65536, encoding='utf-8', cls=None, **kw):
+    """Incrementally decode JSON values from a file object or an iterable of chunks.
+
+    source is a binary or text file object, which is read in chunks of chunk_size, or an
+    iterable of bytes or str chunks. Yields each top-level value as soon as it is complete,
+    which makes this suitable for newline delimited JSON. If items is true, the input must be
+    a single JSON array and its elements are yielded instead. Only the text of the value being
+    decoded is kept in memory. encoding is used for bytes chunks; cls and the remaining keyword
+    arguments are passed to the JSONDecoder like in json.load.
+    """
+    import codecs
+    from json.decoder import JSONDecoder, JSONDecodeError
+
+    decoder = (cls or JSONDecoder)(**kw)
+    if hasattr(source, 'read'):
+        chunks = _read_chunks(source.read, chunk_size)
+    else:
+        chunks = iter(source)
+    bytes_decoder = None
+
+    pending = []
+    depth = flags = 0
+    # for items: 0 - before '[', 1 - before the first element or ']', 2 - before ',' or ']',
+    # 3 - before an element, 4 - after ']'
+    array_state = 0 if items else -1
+
+    def decode(text):
+        value, end = decoder.raw_decode(text)
+        if end != len(text):
+            raise JSONDecodeError("Extra data", text, end)
+        return value
+
+    for chunk in chunks:
+        if isinstance(chunk, str):
+            text = chunk
+        else:
+            if bytes_decoder is None:
+                bytes_decoder = codecs.getincrementaldecoder(encoding)()
+            text = bytes_decoder.decode(chunk)
+        length = len(text)
+        idx = 0
+        while idx < length:
+            if not pending:
+                while idx < length and text[idx] in ' \t\n\r':
+                    idx += 1
+                if idx == length:
+                    break
+                if array_state >= 0 and array_state != 3:
+                    c = text[idx]
+                    if array_state == 0 and c == '[':
+                        array_state = 1
+                    elif (array_state == 1 or array_state == 2) and c == ']':
+                        array_state = 4
+                    elif array_state == 2 and c == ',':
+                        array_state = 3
+                    elif array_state == 1:
+                        array_state = 3
+                        continue
+                    else:
+                        msg = "Extra data" if array_state == 4 else "Expecting ',' delimiter" if array_state == 2 else "Expecting '['"
+                        raise JSONDecodeError(msg, text, idx)
+                    idx += 1
+                    continue
+            start = idx
+            end, depth, flags = find_value_end(text, idx, depth, flags)
+            if end < 0:
+                pending.append(text[start:] if start else text)
+                break
+            pending.append(text[start:end])
+            value_text = pending[0] if len(pending) == 1 else ''.join(pending)
+            pending = []
+            idx = end
+            if array_state == 3:
+                array_state = 2
+            yield decode(value_text)
+
+    if bytes_decoder is not None:
+        # raises for a truncated multi-byte sequence
+        bytes_decoder.decode(b'', True)
+    if pending:
+        # only a number or constant may end with the input
+        value_text = ''.join(pending)
+        if depth or flags or array_state >= 0:
+            raise JSONDecodeError("Unterminated value", value_text, len(value_text))
+        yield decode(value_text)
+    elif 0 <= array_state < 4:
+        raise JSONDecodeError("Expecting ']'" if array_state else "Expecting '['", '', 0)
@@ -297,6 +297,16 @@ def _append_end_assert(pattern):
     else:
         return pattern if pattern.endswith(rb"\Z") else pattern + rb"\Z"
 
+def _template_parts(template):
+    """Flattens a template parsed by 're._compile_repl' into a tuple of literal strings and group
+       indices, the form expected by 'tregex_subn_str'."""
+    groups, literals = template
+    parts = list(literals)
+    for index, group in groups:
+        parts[index] = group
+    return tuple(part for part in parts if part != "")
+
+
 def _is_bytes_like(object):
     return isinstance(object, (bytes, bytearray, memoryview, array, mmap))
 
@@ -461,8 +471,10 @@ class Pattern():
         _check_pos(pos)
         self.__check_input_type(string)
         substring, pos, endpos = _normalize_bounds(string, pos, endpos)
-        matchlist = []
         group_count = self.__tregex_compile().groupCount
+        if not self.__binary:
+            return tregex_findall_str(self.__tregex_compile(), self.__tregex_compile(must_advance=True), substring, pos, group_count)
+        matchlist = []
         must_advance = False
         while pos <= endpos:
             compiled_regex = self.__tregex_compile(must_advance=must_advance)
@@ -484,6 +496,7 @@ class Pattern():
 
     def subn(self, repl, string, count=0):
         self.__check_input_type(string)
+        _check_pos(count)
         n = 0
         result = []
         pos = 0
@@ -491,10 +504,15 @@ class Pattern():
         must_advance = False
         if not callable(repl):
             self.__check_input_type(repl)
-            if isinstance(repl, str):
-                literal = '\\' not in repl
-            else:
-                literal = b'\\' not in repl
+            if not self.__binary:
+                if '\\' not in repl:
+                    parts = (repl,)
+                else:
+                    # 're._compile_repl' caches the parsed template
+                    import re
+                    parts = _template_parts(re._compile_repl(repl, self))
+                return tregex_subn_str(self.__tregex_compile(), self.__tregex_compile(must_advance=True), string, count, parts)
+            literal = b'\\' not in repl
             if not literal:
                 import re
                 repl = re._subx(self, repl)
@@ -527,6 +545,9 @@ class Pattern():
     def split(self, string, maxsplit=0):
         n = 0
         group_count = self.__tregex_compile().groupCount
+        if not self.__binary and isinstance(string, str):
+            _check_pos(maxsplit)
+            return tregex_split_str(self.__tregex_compile(), self.__tregex_compile(must_advance=True), string, maxsplit, group_count)
         result = []
         collect_pos = 0
         search_pos = 0
@@ -7,6 +7,12 @@ time zone and DST data sources.
 import time as _time
 import math as _math
 import sys
+# Begin Truffle change
+try:
+    import _datetime_accel
+except ImportError:
+    _datetime_accel = None
+# End Truffle change
 
 def _cmp(x, y):
     return 0 if x == y else 1 if x > y else -1
@@ -194,6 +200,12 @@ def _format_offset(off):
 
 # Correctly substitute for %z and %Z escapes in strftime formats.
 def _wrap_strftime(object, format, timetuple):
+    # Begin Truffle change
+    # Without %f, %z or %Z escapes the scan below would rebuild the format
+    # unchanged.
+    if '%f' not in format and '%z' not in format and '%Z' not in format:
+        return _time.strftime(format, timetuple)
+    # End Truffle change
     # Don't call utcoffset() or tzname() unless actually needed.
     freplace = None  # the string to use for %f
     zreplace = None  # the string to use for %z
@@ -465,6 +477,30 @@ def _divide_and_round(a, b):
 
     return q
 
+# Begin Truffle change
+# Replace the helpers that run on every instance creation and on ISO
+# formatting/parsing with their builtin versions.  The field checks return None
+# for arguments that are not plain ints, those still go through the Python
+# implementation.
+if _datetime_accel is not None:
+    def _check_date_fields(year, month, day,
+                           _accel=_datetime_accel.check_date_fields,
+                           _check=_check_date_fields):
+        return _accel(year, month, day) or _check(year, month, day)
+
+    def _check_time_fields(hour, minute, second, microsecond, fold,
+                           _accel=_datetime_accel.check_time_fields,
+                           _check=_check_time_fields):
+        return (_accel(hour, minute, second, microsecond, fold) or
+                _check(hour, minute, second, microsecond, fold))
+
+    _ymd2ord = _datetime_accel.ymd2ord
+    _ord2ymd = _datetime_accel.ord2ymd
+    _format_time = _datetime_accel.format_time
+    _parse_isoformat_date = _datetime_accel.parse_isoformat_date
+    _parse_hh_mm_ss_ff = _datetime_accel.parse_hh_mm_ss_ff
+# End Truffle change
+
 
 class timedelta:
     """Represent the difference between two datetime objects.
@@ -1053,7 +1089,8 @@ class date:
     def __hash__(self):
         "Hash."
         if self._hashcode == -1:
-            self._hashcode = hash(self._getstate())
+            # Truffle change: hash the fields instead of the pickled state
+            self._hashcode = hash((self._year, self._month, self._day))
         return self._hashcode
 
     # Computations
@@ -1373,7 +1410,9 @@ class time:
                 t = self
             tzoff = t.utcoffset()
             if not tzoff:  # zero or None
-                self._hashcode = hash(t._getstate()[0])
+                # Truffle change: hash the fields instead of the pickled state
+                self._hashcode = hash((t._hour, t._minute, t._second,
+                                       t._microsecond))
             else:
                 h, m = divmod(timedelta(hours=self.hour, minutes=self.minute) - tzoff,
                               timedelta(hours=1))
@@ -2113,7 +2152,9 @@ class datetime(date):
                 t = self
             tzoff = t.utcoffset()
             if tzoff is None:
-                self._hashcode = hash(t._getstate()[0])
+                # Truffle change: hash the fields instead of the pickled state
+                self._hashcode = hash((t._year, t._month, t._day, t._hour,
+                                       t._minute, t._second, t._microsecond))
             else:
                 days = _ymd2ord(self.year, self.month, self.day)
                 seconds = self.hour * 3600 + self.minute * 60 + self.second
@@ -185,6 +185,33 @@ _srcfile = os.path.normcase(addLevelName.__code__.co_filename)
 #if not hasattr(sys, '_getframe'):
 #    _srcfile = None
 
+# Begin Truffle change
+# '__graalpython__.caller_location' returns the code and line of a
+# caller without creating frame objects, which is much cheaper than walking the
+# frames returned by sys._getframe(). It is only used if 'currentframe' was not
+# replaced and no stack info is requested.
+if sys.implementation.name == "graalpy":
+    _caller_location = __graalpython__.caller_location
+    _default_currentframe = currentframe
+else:
+    _caller_location = None
+
+def _findCallerLocation(stacklevel):
+    # depth 0 is this function, 1 is findCaller, 2 is _log and 3 is the logging
+    # method, so its caller is at depth 4
+    depth = 4
+    if stacklevel > 1 and _caller_location(depth + stacklevel - 1) is not None:
+        depth += stacklevel - 1
+    location = _caller_location(depth)
+    while location is not None:
+        co, lineno = location
+        if os.path.normcase(co.co_filename) != _srcfile:
+            return co.co_filename, lineno, co.co_name, None
+        depth += 1
+        location = _caller_location(depth)
+    return "(unknown file)", 0, "(unknown function)", None
+# End Truffle change
+
 
 def _checkLevel(level):
     if isinstance(level, int):
@@ -1504,6 +1531,10 @@ class Logger(Filterer):
         Find the stack frame of the caller so that we can note the source
         file name, line number and function name.
         """
+        # Begin Truffle change
+        if _caller_location is not None and not stack_info and currentframe is _default_currentframe:
+            return _findCallerLocation(stacklevel)
+        # End Truffle change
         f = currentframe()
         #On some versions of IronPython, currentframe() returns None if
         #IronPython isn't run with -X:Frames.
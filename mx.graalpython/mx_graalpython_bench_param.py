@@ -60,6 +60,7 @@ MICRO_BENCHMARKS = {
     'arith-binop': ITER_10 + ['5'],
     'arith-modulo-sized': ITER_10 + ['500'],
     'attribute-access-polymorphic': ITER_10 + ['1000'],
+    'attribute-access-megamorphic': ITER_10 + ['10000'],
     'attribute-access': ITER_10 + ['5000'],
     'attribute-access-super': ITER_10 + ['5_000'],
     'attribute-bool': ITER_10 + ['3000'],
@@ -70,6 +71,9 @@ MICRO_BENCHMARKS = {
     'call-method-polymorphic': ITER_10 + ['1000'],
     'for-range': ITER_15 + ['50000'],
     'function-call-sized': ITER_10 + ['2_000_000_000'],
+    'function-call-keywords-sized': ITER_10 + ['500_000_000'],
+    'call-decorated-sized': ITER_10 + ['50_000_000'],
+    'logging-findcaller-sized': ITER_10 + ['1_000_000'],
     'generator-expression-sized': ITER_10 + ['30_000'],
     'generator-notaligned-sized': ITER_10 + ['30_000'],
     'generator-sized': ITER_10 + ['30_000'],
@@ -89,6 +93,7 @@ MICRO_BENCHMARKS = {
     'math-sqrt': ITER_10 + ['500000000'],
     'object-allocate': ITER_10 + ['5000'],
     'object-layout-change': ITER_10 + ['1000000'],
+    'object-slots-allocate-sized': ITER_10 + ['10_000_000'],
     'special-add-int-sized': ITER_10 + ['20_000'],
     'special-add-sized': ITER_10 + ['20_000'],
     'special-len': ITER_10 + ['5'],
@@ -98,15 +103,28 @@ MICRO_BENCHMARKS = {
     'call-classmethod-sized': ITER_10 + ['500_000_000'],
     'mmap-anonymous-sized': ITER_10 + ['20_000'],
     'mmap-file': ITER_10 + ['1000'],
+    'zlib-stream-sized': ITER_10 + ['5'],
     'generate-functions-sized': ITER_15 + ['500_000_000'],
     'try-except-simple': ITER_10 + ['500_000_000'],
     'try-except-store-simple': ITER_10 + ['500_000_000'],
     'try-except-store-two-types': ITER_10 + ['100_000_000'],
     'try-except-two-types': ITER_10 + ['100_000_000'],
+    'try-except-control-flow': ITER_10 + ['100_000_000'],
     'tuple-indexing-from-constructor': ITER_10 + ['10000000'],
     'tuple-indexing-from-literal': ITER_10 + ['10000000'],
     'repeated-import': ITER_10 + ['10000000'],
+    're-sub-sized': ITER_10 + ['100'],
     'codeobject-interpretation': ITER_10 + ['2000'],
+    'codecs-utf8-sized': ITER_10 + ['50'],
+    'json-loads-sized': ITER_10 + ['50'],
+    'json-ndjson-stream': ITER_6 + ['64'],
+    'json-dumps-sized': ITER_10 + ['20'],
+    'csv-read-sized': ITER_10 + ['5'],
+    'csv-write-sized': ITER_10 + ['5'],
+    'hashlib-sized': ITER_10 + ['5'],
+    'datetime-create': ITER_10 + ['10'],
+    'datetime-compare': ITER_10 + ['10'],
+    'datetime-format': ITER_10 + ['10'],
 }
 
 MICRO_BENCHMARKS_SMALL = {
@@ -123,6 +141,9 @@ MICRO_BENCHMARKS_SMALL = {
     'call-method-polymorphic': ITER_6 + WARMUP_2 + ['10'],
     'for-range': ITER_6 + WARMUP_2 + WARMUP_2 + ['50'],
     'function-call-sized': ITER_6 + WARMUP_2 + ['2_000_000'],
+    'function-call-keywords-sized': ITER_6 + WARMUP_2 + ['1_000_000'],
+    'call-decorated-sized': ITER_6 + WARMUP_2 + ['200_000'],
+    'logging-findcaller-sized': ITER_6 + WARMUP_2 + ['20_000'],
     'generator-expression-sized': ITER_6 + WARMUP_2 + ['3000', '500'],
     'generator-notaligned-sized': ITER_6 + WARMUP_2 + ['3000', '500'],
     'generator-sized': ITER_6 + WARMUP_2 + ['3000', '500'],
@@ -139,6 +160,7 @@ MICRO_BENCHMARKS_SMALL = {
     'math-sqrt': ITER_6 + WARMUP_2 + ['20_000_000'],
     'object-allocate': ITER_6 + WARMUP_2 + ['50'],
     'object-layout-change': ITER_6 + WARMUP_2 + ['10_000'],
+    'object-slots-allocate-sized': ITER_6 + WARMUP_2 + ['1_000_000'],
     'special-add-int-sized': ITER_6 + WARMUP_2 + ['1_000'],
     'special-add-sized': ITER_6 + WARMUP_2 + ['1_000'],
     'special-len': ITER_6 + WARMUP_2 + ['1', '1_000'],
@@ -153,6 +175,7 @@ MICRO_BENCHMARKS_SMALL = {
     'try-except-store-simple': ITER_6 + WARMUP_2 + ['2_000_000'],
     'try-except-store-two-types': ITER_6 + WARMUP_2 + ['1_000_000'],
     'try-except-two-types': ITER_6 + WARMUP_2 + ['1_000_000'],
+    'try-except-control-flow': ITER_6 + WARMUP_2 + ['1_000_000'],
     'tuple-indexing-from-constructor': ITER_6 + WARMUP_2 + ['250_000'],
     'tuple-indexing-from-literal': ITER_6 + WARMUP_2 + ['400_000'],
 }
@@ -184,6 +207,7 @@ MICRO_NATIVE_BENCHMARKS = {
     'c-issubtype-monorphic': ITER_10 + ['50000000'],
     'c-call-method': ITER_15 + ['5000000'],
     'c-instantiate-large': ITER_15 + ['1000'],
+    'c-buffer-large': ITER_10 + ['5'],
 }
 
 